@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.model.event;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/*
+Compares the streaming extraction with the tree-based one on webhook payloads of growing size.
+Run with ./gradlew jmh, adding -prof gc through jmh.profilers to compare allocation per event.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventDataParserBenchmark {
+
+    // Size of the issue body and comment thread nested in the payload, in KB
+    @Param({"1", "64", "512"})
+    private int payloadKb;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private byte[] event;
+
+    @Setup
+    public void setUp() throws IOException {
+        String body = "x".repeat(1024);
+        StringBuilder comments = new StringBuilder();
+        for (int i = 0; i < payloadKb; i++) {
+            if (i > 0) {
+                comments.append(',');
+            }
+            comments.append("{\"id\":").append(i)
+                    .append(",\"user\":{\"login\":\"commenter-").append(i).append("\",\"type\":\"User\"}")
+                    .append(",\"body\":\"").append(body).append("\"}");
+        }
+        String eventJson = "{\"id\":\"6f1c1c50-0000-0000-0000-000000000000\",\"name\":\"issue_comment\","
+                + "\"payload\":{\"action\":\"created\","
+                + "\"issue\":{\"number\":1,\"title\":\"title\",\"comments\":[" + comments + "]},"
+                + "\"repository\":{\"name\":\"OpenSearch\",\"owner\":{\"login\":\"opensearch-project\"},\"topics\":[\"search\"]},"
+                + "\"organization\":{\"login\":\"opensearch-project\"},"
+                + "\"sender\":{\"login\":\"user\",\"site_admin\":false}},"
+                + "\"uploaded_at\":\"2024-09-23T20:14:08.346Z\"}";
+        event = eventJson.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public EventData streaming() throws IOException {
+        try (JsonParser parser = mapper.createParser(new ByteArrayInputStream(event))) {
+            return EventDataParser.parse(parser);
+        }
+    }
+
+    @Benchmark
+    public EventData tree() throws IOException {
+        return TreeEventDataParser.parse(mapper.readTree(new ByteArrayInputStream(event)));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+Per-document cost of a maintainer-inactivity id, computed as MetricsCalculation used to (new digest and
+formatter per document) and with DocumentIdGenerator. Run with ./gradlew jmh.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class DocumentIdGeneratorBenchmark {
+    private final LocalDateTime currentDate = LocalDateTime.now(ZoneId.of("UTC"));
+    private final DocumentIdGenerator documentIdGenerator = new DocumentIdGenerator(currentDate);
+    private final String eventType = "pull_request_review_comment";
+    private final String githubLogin = "maintainer-login";
+    private final String repo = "opensearch-dashboards";
+
+    @Benchmark
+    public String perDocumentDigest() throws NoSuchAlgorithmException {
+        return String.valueOf(UUID.nameUUIDFromBytes(MessageDigest.getInstance("SHA-1")
+                .digest(("maintainer-inactivity-" + eventType + "-" + githubLogin + "-" + currentDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + "-" + repo)
+                        .getBytes())));
+    }
+
+    @Benchmark
+    public String documentIdGenerator() {
+        return documentIdGenerator.generate("maintainer-inactivity", eventType + "-" + githubLogin, repo);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearchmetrics.dagger.CommonModule;
+import org.opensearchmetrics.model.maintainer.MaintainerData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+Maintainer-inactivity workload: 16 documents (15 event types and "All") per maintainer per repo, added to bulk requests
+either through toJson and a String source or written straight to source bytes.
+Run with ./gradlew jmh, adding -prof gc through jmh.profilers to compare allocation per document.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentSerializerBenchmark {
+    private static final int DOCUMENTS_PER_MAINTAINER = 16;
+
+    // Maintainers times repositories
+    @Param({"100", "2000"})
+    private int maintainerRepos;
+
+    private final ObjectMapper mapper = new CommonModule().getObjectMapper();
+    private List<MaintainerData> documents;
+
+    @Setup
+    public void setUp() {
+        documents = new ArrayList<>();
+        for (int i = 0; i < maintainerRepos; i++) {
+            for (int j = 0; j < DOCUMENTS_PER_MAINTAINER; j++) {
+                MaintainerData document = new MaintainerData();
+                document.setId(UUID.randomUUID().toString());
+                document.setCurrentDate("2024-09-23");
+                document.setRepository("repo-" + (i % 100));
+                document.setName("Maintainer " + i);
+                document.setGithubLogin("maintainer-" + i);
+                document.setAffiliation("Amazon");
+                document.setEventType("event-type-" + j);
+                document.setEventAction(j % 3 == 0 ? null : "opened");
+                document.setTimeLastEngaged(j % 3 == 0 ? null : "2024-09-01T10:00:00Z");
+                document.setInactive(j % 3 == 0);
+                documents.add(document);
+            }
+        }
+    }
+
+    @Benchmark
+    public BulkRequest mapAndString() {
+        BulkRequest request = new BulkRequest();
+        for (MaintainerData document : documents) {
+            request.add(new IndexRequest("maintainer-inactivity").id(document.getId())
+                    .source(document.getJson(document, mapper), XContentType.JSON));
+        }
+        return request;
+    }
+
+    @Benchmark
+    public BulkRequest sourceBytes() {
+        BulkRequest request = new BulkRequest();
+        for (MaintainerData document : documents) {
+            request.add(new IndexRequest("maintainer-inactivity").id(document.getId())
+                    .source(DocumentSerializer.toBytes(document), XContentType.JSON));
+        }
+        return request;
+    }
+}
@@ -21,8 +21,10 @@ import io.github.acm19.aws.interceptor.http.AwsRequestSigningApacheInterceptor;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequestInterceptor;
 import org.opensearch.client.RestClient;
+import org.opensearch.client.RestClientBuilder;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearchmetrics.metrics.MetricsCalculation;
+import org.opensearchmetrics.metrics.MetricsCalculationConfig;
 import org.opensearchmetrics.metrics.general.*;
 import org.opensearchmetrics.metrics.label.LabelMetrics;
 import org.opensearchmetrics.metrics.maintainer.MaintainerMetrics;
@@ -49,6 +51,26 @@ public class CommonModule {
     private static final String SECRETS_MANAGER_REGION = "SECRETS_MANAGER_REGION";
     private static final String S3_BUCKET_REGION = "S3_BUCKET_REGION";
     private static final String EVENT_BUCKET_NAME = "EVENT_BUCKET_NAME";
+    private static final String GENERAL_METRICS_BATCH_SIZE = "GENERAL_METRICS_BATCH_SIZE";
+    private static final int DEFAULT_GENERAL_METRICS_BATCH_SIZE = 100;
+    private static final String GENERAL_METRICS_AGGREGATION = "GENERAL_METRICS_AGGREGATION";
+    private static final String MAINTAINER_LATEST_EVENTS_AGGREGATION = "MAINTAINER_LATEST_EVENTS_AGGREGATION";
+    private static final String MAINTAINER_REPO_ACTIVITY_PROFILE = "MAINTAINER_REPO_ACTIVITY_PROFILE";
+    private static final String EVENT_TYPES_CACHE_TTL_MINUTES = "EVENT_TYPES_CACHE_TTL_MINUTES";
+    private static final int DEFAULT_EVENT_TYPES_CACHE_TTL_MINUTES = 24 * 60;
+    private static final String EVENT_TYPES_FROM_GITHUB_EVENTS = "EVENT_TYPES_FROM_GITHUB_EVENTS";
+    private static final String MAINTAINER_INCREMENTAL = "MAINTAINER_INCREMENTAL";
+    private static final String MAINTAINER_FULL_RECOMPUTE_DAYS = "MAINTAINER_FULL_RECOMPUTE_DAYS";
+    private static final int DEFAULT_MAINTAINER_FULL_RECOMPUTE_DAYS = 7;
+    private static final String RELEASE_METRICS_AGGREGATION = "RELEASE_METRICS_AGGREGATION";
+    private static final String RELEASE_URL_PROBE_BATCH = "RELEASE_URL_PROBE_BATCH";
+    private static final String RELEASE_MANIFEST_CACHE = "RELEASE_MANIFEST_CACHE";
+    private static final String RELEASE_MANIFEST_CACHE_TTL_MINUTES = "RELEASE_MANIFEST_CACHE_TTL_MINUTES";
+    private static final int DEFAULT_RELEASE_MANIFEST_CACHE_TTL_MINUTES = 60;
+    private static final String RELEASE_MANIFEST_CACHE_BUCKET = "RELEASE_MANIFEST_CACHE_BUCKET";
+    private static final String OPENSEARCH_MAX_IN_FLIGHT_REQUESTS = "OPENSEARCH_MAX_IN_FLIGHT_REQUESTS";
+    private static final String METRICS_REPO_CONCURRENCY = "METRICS_REPO_CONCURRENCY";
+    private static final int DEFAULT_METRICS_REPO_CONCURRENCY = 8;
 
 
     @Singleton
@@ -95,17 +117,47 @@ public class CommonModule {
         final AwsCredentialsProvider awsCredentialsProvider = stsAssumeRoleCredentialProvider(ROLE_SESSION_NAME, assumeRoleArn);
         String serviceName = "es";
         HttpRequestInterceptor interceptor = new AwsRequestSigningApacheInterceptor(serviceName, Aws4Signer.create(), awsCredentialsProvider, region);
+        // The single domain is one route: give it at least as many connections as async requests may be in flight
+        int maxConnections = Math.max(RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE, maxInFlightRequests());
         return new RestHighLevelClient(
                 RestClient.builder(new HttpHost(System.getenv(OPENSEARCH_DOMAIN_ENDPOINT), 443, "https"))
-                        .setHttpClientConfigCallback(httpAsyncClientBuilder -> httpAsyncClientBuilder.addInterceptorLast(interceptor)));
+                        .setHttpClientConfigCallback(httpAsyncClientBuilder -> httpAsyncClientBuilder
+                                .addInterceptorLast(interceptor)
+                                .setMaxConnPerRoute(maxConnections)
+                                .setMaxConnTotal(maxConnections)));
     }
 
     @Singleton
     @Provides
     public OpenSearchUtil getOpenSearchUtil(RestHighLevelClient client) {
-        return new OpenSearchUtil(client);
+        return new OpenSearchUtil(client, maxInFlightRequests());
     }
 
+    private static int maxInFlightRequests() {
+        return getIntEnv(OPENSEARCH_MAX_IN_FLIGHT_REQUESTS, OpenSearchUtil.DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+    }
+
+
+    @Provides
+    @Singleton
+    public MetricsCalculationConfig getMetricsCalculationConfig() {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setGeneralMetricsBatchSize(getIntEnv(GENERAL_METRICS_BATCH_SIZE, DEFAULT_GENERAL_METRICS_BATCH_SIZE));
+        config.setGeneralMetricsAggregation(Boolean.parseBoolean(System.getenv(GENERAL_METRICS_AGGREGATION)));
+        config.setMaintainerLatestEventsAggregation(Boolean.parseBoolean(System.getenv(MAINTAINER_LATEST_EVENTS_AGGREGATION)));
+        config.setMaintainerRepoActivityProfile(Boolean.parseBoolean(System.getenv(MAINTAINER_REPO_ACTIVITY_PROFILE)));
+        config.setEventTypesCacheTtlMinutes(getIntEnv(EVENT_TYPES_CACHE_TTL_MINUTES, DEFAULT_EVENT_TYPES_CACHE_TTL_MINUTES));
+        config.setEventTypesFromGithubEvents(Boolean.parseBoolean(System.getenv(EVENT_TYPES_FROM_GITHUB_EVENTS)));
+        config.setMaintainerIncremental(Boolean.parseBoolean(System.getenv(MAINTAINER_INCREMENTAL)));
+        config.setMaintainerFullRecomputeDays(getIntEnv(MAINTAINER_FULL_RECOMPUTE_DAYS, DEFAULT_MAINTAINER_FULL_RECOMPUTE_DAYS));
+        config.setReleaseMetricsAggregation(Boolean.parseBoolean(System.getenv(RELEASE_METRICS_AGGREGATION)));
+        config.setReleaseUrlProbeBatch(Boolean.parseBoolean(System.getenv(RELEASE_URL_PROBE_BATCH)));
+        config.setReleaseManifestCache(Boolean.parseBoolean(System.getenv(RELEASE_MANIFEST_CACHE)));
+        config.setReleaseManifestCacheTtlMinutes(getIntEnv(RELEASE_MANIFEST_CACHE_TTL_MINUTES, DEFAULT_RELEASE_MANIFEST_CACHE_TTL_MINUTES));
+        config.setReleaseManifestCacheBucket(System.getenv(RELEASE_MANIFEST_CACHE_BUCKET));
+        config.setRepoConcurrency(getIntEnv(METRICS_REPO_CONCURRENCY, DEFAULT_METRICS_REPO_CONCURRENCY));
+        return config;
+    }
 
     @Provides
     @Singleton
@@ -117,7 +169,8 @@ public class CommonModule {
                                                     CreatedIssues createdIssues, IssueComments issueComments,
                                                     PullComments pullComments, IssuePositiveReactions issuePositiveReactions,
                                                     IssueNegativeReactions issueNegativeReactions, LabelMetrics labelMetrics,
-                                                    ReleaseMetrics releaseMetrics, MaintainerMetrics maintainerMetrics) {
+                                                    ReleaseMetrics releaseMetrics, MaintainerMetrics maintainerMetrics,
+                                                    MetricsCalculationConfig metricsCalculationConfig) {
         return new MetricsCalculation(openSearchUtil, objectMapper,
                 untriagedIssues, uncommentedPullRequests,
                 unlabelledPullRequests, unlabelledIssues,
@@ -125,7 +178,7 @@ public class CommonModule {
                 openIssues, closedIssues, createdIssues,
                 issueComments, pullComments,
                 issuePositiveReactions, issueNegativeReactions,
-                labelMetrics, releaseMetrics, maintainerMetrics);
+                labelMetrics, releaseMetrics, maintainerMetrics, metricsCalculationConfig);
     }
 
     @Provides
@@ -137,4 +190,9 @@ public class CommonModule {
                 .build();
         return new SecretsManagerUtil(secretsManager, mapper);
     }
+
+    private static int getIntEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
 }
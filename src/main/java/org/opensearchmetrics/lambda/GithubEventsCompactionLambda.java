@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearchmetrics.dagger.DaggerServiceComponent;
+import org.opensearchmetrics.dagger.ServiceComponent;
+import org.opensearchmetrics.metrics.events.GithubEvents;
+import org.opensearchmetrics.util.EventArchive;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+public class GithubEventsCompactionLambda implements RequestHandler<Map<String, String>, Void> {
+    private static final int S3_FETCH_THREADS = 32;
+    private final GithubEvents[] eventsToCompact = GithubEvents.getAllGithubEvents();
+    private static final ServiceComponent COMPONENT = DaggerServiceComponent.create();
+    private final EventArchive eventArchive;
+
+    public GithubEventsCompactionLambda() {
+        this(new EventArchive(COMPONENT.getS3Util(), COMPONENT.getObjectMapper()));
+    }
+
+    @VisibleForTesting
+    GithubEventsCompactionLambda(@NonNull EventArchive eventArchive) {
+        this.eventArchive = eventArchive;
+    }
+
+    @Override
+    public Void handleRequest(Map<String, String> input, Context context) {
+        // Reads Step Function Execution input in the format:
+        // {
+        //  "collectionStartDate": "yyyy-MM-dd",
+        //  "collectionEndDate": "yyyy-MM-dd",
+        //  "overwrite": "true"
+        // }
+        //
+        // Both dates default to yesterday (UTC). Today still receives events, so the end date is capped at yesterday.
+        // Days that already have an archive are skipped unless overwrite is true.
+        LocalDate yesterday = LocalDate.now(ZoneOffset.UTC).minus(1, ChronoUnit.DAYS);
+        LocalDate collectionStartDate = input.containsKey("collectionStartDate")
+                ? LocalDate.parse(input.get("collectionStartDate"))
+                : yesterday;
+        LocalDate collectionEndDate = input.containsKey("collectionEndDate")
+                ? LocalDate.parse(input.get("collectionEndDate"))
+                : yesterday;
+        if (collectionEndDate.isAfter(yesterday)) {
+            collectionEndDate = yesterday;
+        }
+        boolean overwrite = Boolean.parseBoolean(input.get("overwrite"));
+
+        ExecutorService fetchExecutor = Executors.newFixedThreadPool(S3_FETCH_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("s3-compaction-fetch-%d").setDaemon(true).build());
+        try {
+            for (LocalDate date = collectionStartDate; !date.isAfter(collectionEndDate); date = date.plusDays(1)) {
+                for (GithubEvents eventToCompact : eventsToCompact) {
+                    String prefix = eventToCompact.getEventName() + "/" + date + "/";
+                    if (!overwrite && eventArchive.readIndex(prefix).isPresent()) {
+                        continue;
+                    }
+                    eventArchive.compact(prefix, fetchExecutor);
+                }
+            }
+        } finally {
+            fetchExecutor.shutdownNow();
+        }
+        return null;
+    }
+}
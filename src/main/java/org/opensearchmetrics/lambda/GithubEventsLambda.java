@@ -10,37 +10,63 @@ package org.opensearchmetrics.lambda;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearchmetrics.dagger.DaggerServiceComponent;
 import org.opensearchmetrics.dagger.ServiceComponent;
 import org.opensearchmetrics.metrics.events.GithubEvents;
+import org.opensearchmetrics.model.event.EventArchiveIndex;
 import org.opensearchmetrics.model.event.EventData;
+import org.opensearchmetrics.model.event.EventDataParser;
+import org.opensearchmetrics.model.event.IngestionCheckpoint;
+import org.opensearchmetrics.util.BulkIndexer;
+import org.opensearchmetrics.util.EventArchive;
+import org.opensearchmetrics.util.IngestionCheckpointStore;
 import org.opensearchmetrics.util.OpenSearchUtil;
 import org.opensearchmetrics.util.S3Util;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 
 @Slf4j
 public class GithubEventsLambda implements RequestHandler<Map<String, String>, Void> {
+    private static final int S3_FETCH_THREADS = 32;
+    private static final int S3_MAX_PENDING_FETCHES = 4 * S3_FETCH_THREADS;
+    // Events are small, so batches are cut by count long before the byte limit on a typical day
+    private static final int EVENTS_BULK_SIZE = 1000;
+    private static final long EVENTS_BULK_SIZE_BYTES = 5 * 1024 * 1024;
+    // An object's LastModified is when its upload started, so an object can show up in a listing after a checkpoint
+    // later than its LastModified was saved; the objects of the last minutes before a checkpoint are fetched again
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(5);
     private final GithubEvents[] eventsToIndex = GithubEvents.getAllGithubEvents();
     private static final ServiceComponent COMPONENT = DaggerServiceComponent.create();
     private final OpenSearchUtil openSearchUtil;
     private final S3Util s3Util;
     private final ObjectMapper mapper;
+    private final IngestionCheckpointStore checkpointStore;
+    private final EventArchive eventArchive;
 
     public GithubEventsLambda() {
         this(COMPONENT.getOpenSearchUtil(), COMPONENT.getS3Util(), COMPONENT.getObjectMapper());
@@ -48,9 +74,17 @@ public class GithubEventsLambda implements RequestHandler<Map<String, String>, V
 
     @VisibleForTesting
     GithubEventsLambda(@NonNull OpenSearchUtil openSearchUtil, @NonNull S3Util s3Util, @NonNull ObjectMapper mapper) {
+        this(openSearchUtil, s3Util, mapper, new IngestionCheckpointStore(openSearchUtil, mapper), new EventArchive(s3Util, mapper));
+    }
+
+    @VisibleForTesting
+    GithubEventsLambda(@NonNull OpenSearchUtil openSearchUtil, @NonNull S3Util s3Util, @NonNull ObjectMapper mapper,
+                       @NonNull IngestionCheckpointStore checkpointStore, @NonNull EventArchive eventArchive) {
         this.openSearchUtil = openSearchUtil;
         this.s3Util = s3Util;
         this.mapper = mapper;
+        this.checkpointStore = checkpointStore;
+        this.eventArchive = eventArchive;
     }
 
     @Override
@@ -59,49 +93,178 @@ public class GithubEventsLambda implements RequestHandler<Map<String, String>, V
 
         // Reads Step Function Execution input in the format:
         // {
-        //  "collectionStartDate": "yyyy-MM-dd"
+        //  "collectionStartDate": "yyyy-MM-dd",
+        //  "ignoreCheckpoints": "true"
         // }
         //
-        // If not provided, defaults to yesterday
+        // If not provided, collectionStartDate defaults to yesterday. Objects already indexed by a previous run
+        // are skipped unless ignoreCheckpoints is true, which re-indexes everything from collectionStartDate.
 
         if (input.containsKey("collectionStartDate")) { // user manually specified collection start date
             collectionStartDate = LocalDate.parse(input.get("collectionStartDate"));
         } else { // defaults to yesterday
             collectionStartDate = LocalDate.now(ZoneOffset.UTC).minus(1, ChronoUnit.DAYS);
         }
+        boolean useCheckpoints = !Boolean.parseBoolean(input.get("ignoreCheckpoints"));
+        checkpointStore.createIndexIfNotExists();
         LocalDate collectionCurrentDate = collectionStartDate;
         LocalDate today = LocalDate.now(ZoneOffset.UTC);
-        while (!collectionCurrentDate.isAfter(today)) {
-            Map<String, String> finalEventData = new HashMap<>();
-            for (GithubEvents eventToIndex : eventsToIndex) {
-                String prefix = eventToIndex.getEventName() + "/" + collectionCurrentDate + "/";
-                List<String> objectKeys = s3Util.listObjectsKeys(prefix);
-                for (String objectKey : objectKeys) {
-                    try (ResponseInputStream<GetObjectResponse> eventInputStream = s3Util.getObjectInputStream(objectKey)) {
-                        JsonNode eventNode = mapper.readTree(eventInputStream);
-                        EventData event = new EventData();
-                        event.setId(eventNode.path("id").textValue());
-                        event.setType(eventNode.path("name").textValue());
-                        event.setRepository(eventNode.path("payload").path("repository").path("name").textValue());
-                        event.setOrganization(eventNode.path("payload").path("organization").path("login").textValue());
-                        if (event.getOrganization() == null) {
-                            event.setOrganization(eventNode.path("payload").path("repository").path("owner").path("login").textValue());
+        // Bulk indexer of the current monthly index, fed by the fetch workers as events are parsed. Days are processed
+        // in order, so the indexer of the previous month is closed as soon as the next month starts.
+        String bulkIndexName = null;
+        BulkIndexer bulkIndexer = null;
+        ExecutorService fetchExecutor = Executors.newFixedThreadPool(S3_FETCH_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("s3-fetch-%d").setDaemon(true).build());
+        Semaphore pendingFetches = new Semaphore(S3_MAX_PENDING_FETCHES);
+        try {
+            while (!collectionCurrentDate.isAfter(today)) {
+                String indexName = "github-user-activity-events-" + collectionCurrentDate.format(DateTimeFormatter.ofPattern("MM-yyyy"));
+                openSearchUtil.createIndexIfNotExists(indexName, Optional.empty());
+                if (!indexName.equals(bulkIndexName)) {
+                    if (bulkIndexer != null) {
+                        bulkIndexer.close();
+                    }
+                    bulkIndexName = indexName;
+                    bulkIndexer = openSearchUtil.bulkIndexer(indexName, EVENTS_BULK_SIZE, EVENTS_BULK_SIZE_BYTES);
+                }
+                BulkIndexer dayBulkIndexer = bulkIndexer;
+                long droppedBeforeDay = dayBulkIndexer.getResult().getDropped();
+                List<Future<?>> fetches = new ArrayList<>();
+                List<IngestionCheckpoint> dayCheckpoints = new ArrayList<>();
+                for (GithubEvents eventToIndex : eventsToIndex) {
+                    String prefix = eventToIndex.getEventName() + "/" + collectionCurrentDate + "/";
+                    // Event keys are not written in key order, so a start-after key could skip objects uploaded late.
+                    // The prefix is listed in full and only the objects modified at or after the checkpoint, less the overlap,
+                    // are fetched; those modified in the overlap are indexed again under the same id.
+                    Instant checkpointModified = useCheckpoints
+                            ? checkpointStore.load(prefix).map(checkpoint -> Instant.parse(checkpoint.getLastModified())).orElse(null)
+                            : null;
+                    Instant watermark = checkpointModified != null ? checkpointModified.minus(WATERMARK_OVERLAP) : null;
+                    String newestKey = null;
+                    Instant newestModified = null;
+                    // A compacted day is read a block at a time with ranged GETs instead of one GET per event,
+                    // unless a previous run already indexed everything up to the end of the archive
+                    Optional<EventArchiveIndex> archive = eventArchive.readIndex(prefix);
+                    Instant archivedUntil = archive.map(index -> Instant.parse(index.getLastModified())).orElse(null);
+                    if (archive.isPresent() && (checkpointModified == null || checkpointModified.isBefore(archivedUntil))) {
+                        for (EventArchiveIndex.Block block : archive.get().getBlocks()) {
+                            acquire(pendingFetches);
+                            fetches.add(fetchExecutor.submit(() -> {
+                                try {
+                                    eventArchive.readBlock(prefix, block, event -> indexEvent(event, dayBulkIndexer));
+                                } finally {
+                                    pendingFetches.release();
+                                }
+                            }));
                         }
-                        event.setAction(eventNode.path("payload").path("action").textValue());
-                        event.setSender(eventNode.path("payload").path("sender").path("login").textValue());
-                        event.setCreatedAt(eventNode.path("uploaded_at").textValue());
-
-                        finalEventData.put(event.getId(), event.getJson(event, mapper));
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
+                        newestKey = archive.get().getLastKey();
+                        newestModified = archivedUntil;
+                    }
+                    // Keys are listed page by page while earlier pages are being fetched
+                    Iterator<S3Object> objects = s3Util.streamObjects(prefix).iterator();
+                    while (objects.hasNext()) {
+                        S3Object object = objects.next();
+                        if (watermark != null && object.lastModified().isBefore(watermark)) {
+                            continue;
+                        }
+                        // Objects uploaded after the day was compacted are the only ones missing from the archive, but the
+                        // compaction listing may have missed objects listed late, so the overlap before it is fetched too
+                        if (archivedUntil != null && object.lastModified().isBefore(archivedUntil.minus(WATERMARK_OVERLAP))) {
+                            continue;
+                        }
+                        if (newestModified == null || object.lastModified().isAfter(newestModified)) {
+                            newestKey = object.key();
+                            newestModified = object.lastModified();
+                        }
+                        String objectKey = object.key();
+                        // Bounds the keys waiting for a fetch worker, so listing runs at most a little ahead of fetching
+                        acquire(pendingFetches);
+                        fetches.add(fetchExecutor.submit(() -> {
+                            try {
+                                indexObject(objectKey, dayBulkIndexer);
+                            } finally {
+                                pendingFetches.release();
+                            }
+                        }));
                     }
+                    if (newestModified != null) {
+                        dayCheckpoints.add(checkpoint(prefix, newestKey, newestModified));
+                    }
+                }
+                awaitAll(fetches);
+                // Checkpoints only move once every event of the day is indexed, otherwise the next run fetches the day again
+                dayBulkIndexer.awaitSent();
+                if (dayBulkIndexer.getResult().getDropped() == droppedBeforeDay) {
+                    checkpointStore.save(dayCheckpoints);
+                } else {
+                    System.out.println("Events of " + collectionCurrentDate + " were dropped, not updating their checkpoints");
                 }
+                collectionCurrentDate = collectionCurrentDate.plusDays(1);
+            }
+        } finally {
+            fetchExecutor.shutdownNow();
+            if (bulkIndexer != null) {
+                bulkIndexer.close();
             }
-            String indexName = "github-user-activity-events-" + collectionCurrentDate.format(DateTimeFormatter.ofPattern("MM-yyyy"));
-            openSearchUtil.createIndexIfNotExists(indexName, Optional.empty());
-            openSearchUtil.bulkIndex(indexName, finalEventData);
-            collectionCurrentDate = collectionCurrentDate.plusDays(1);
         }
         return null;
     }
+
+    private void indexObject(String objectKey, BulkIndexer bulkIndexer) {
+        try (ResponseInputStream<GetObjectResponse> eventInputStream = s3Util.getObjectInputStream(objectKey);
+             JsonParser eventParser = mapper.createParser(eventInputStream)) {
+            indexEvent(EventDataParser.parse(eventParser), bulkIndexer);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void indexEvent(String eventJson, BulkIndexer bulkIndexer) {
+        try (JsonParser eventParser = mapper.createParser(eventJson)) {
+            indexEvent(EventDataParser.parse(eventParser), bulkIndexer);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void indexEvent(EventData event, BulkIndexer bulkIndexer) {
+        bulkIndexer.add(event);
+    }
+
+    private static IngestionCheckpoint checkpoint(String prefix, String lastKey, Instant lastModified) {
+        IngestionCheckpoint checkpoint = new IngestionCheckpoint();
+        checkpoint.setPrefix(prefix);
+        checkpoint.setLastKey(lastKey);
+        checkpoint.setLastModified(lastModified.toString());
+        checkpoint.setUpdatedAt(Instant.now().toString());
+        return checkpoint;
+    }
+
+    private static void acquire(Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /*
+    Waits for every fetch of the day and rethrows the first failure as the sequential loop did.
+     */
+    private static void awaitAll(List<Future<?>> fetches) {
+        try {
+            for (Future<?> fetch : fetches) {
+                fetch.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
 }
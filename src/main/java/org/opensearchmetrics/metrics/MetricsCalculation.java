@@ -9,15 +9,25 @@
 package org.opensearchmetrics.metrics;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearchmetrics.metrics.general.*;
 import org.opensearchmetrics.metrics.label.LabelMetrics;
 import org.opensearchmetrics.metrics.release.CodeCoverage;
 import org.opensearchmetrics.metrics.maintainer.MaintainerMetrics;
+import org.opensearchmetrics.metrics.maintainer.MaintainerSnapshot;
+import org.opensearchmetrics.metrics.maintainer.RepoActivityProfile;
 import org.opensearchmetrics.metrics.release.ReleaseInputs;
 import org.opensearchmetrics.metrics.release.ReleaseMetrics;
+import org.opensearchmetrics.metrics.release.ReleaseRepoMetrics;
+import org.opensearchmetrics.model.IndexDocument;
 import org.opensearchmetrics.model.codecov.CodeCovResponse;
 import org.opensearchmetrics.model.codecov.CodeCovResult;
 import org.opensearchmetrics.model.label.LabelData;
@@ -26,14 +36,20 @@ import org.opensearchmetrics.model.label.LabelData;
 import org.opensearchmetrics.model.maintainer.LatestEventData;
 import org.opensearchmetrics.model.maintainer.MaintainerData;
 import org.opensearchmetrics.model.release.ReleaseMetricsData;
+import org.opensearchmetrics.util.BulkIndexResult;
+import org.opensearchmetrics.util.DocumentIdGenerator;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
 import java.io.IOException;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -41,6 +57,7 @@ import java.util.stream.Stream;
 public class MetricsCalculation {
 
     private final LocalDateTime currentDate;
+    private final DocumentIdGenerator documentIdGenerator;
     private final OpenSearchUtil openSearchUtil;
     private final ObjectMapper objectMapper;
     private final UntriagedIssues untriagedIssues;
@@ -59,6 +76,8 @@ public class MetricsCalculation {
     private final LabelMetrics labelMetrics;
     private final ReleaseMetrics releaseMetrics;
     private final MaintainerMetrics maintainerMetrics;
+    private final MetricsCalculationConfig config;
+    private final GeneralMetricsAggregator generalMetricsAggregator;
 
 
     public MetricsCalculation(OpenSearchUtil openSearchUtil, ObjectMapper objectMapper,
@@ -70,6 +89,26 @@ public class MetricsCalculation {
                               PullComments pullComments, IssuePositiveReactions issuePositiveReactions,
                               IssueNegativeReactions issueNegativeReactions, LabelMetrics labelMetrics,
                               ReleaseMetrics releaseMetrics, MaintainerMetrics maintainerMetrics) {
+        this(openSearchUtil, objectMapper,
+                untriagedIssues, uncommentedPullRequests,
+                unlabelledPullRequests, unlabelledIssues,
+                mergedPullRequests, openPullRequests,
+                openIssues, closedIssues, createdIssues,
+                issueComments, pullComments,
+                issuePositiveReactions, issueNegativeReactions,
+                labelMetrics, releaseMetrics, maintainerMetrics, new MetricsCalculationConfig());
+    }
+
+    public MetricsCalculation(OpenSearchUtil openSearchUtil, ObjectMapper objectMapper,
+                              UntriagedIssues untriagedIssues, UncommentedPullRequests uncommentedPullRequests,
+                              UnlabelledPullRequests unlabelledPullRequests, UnlabelledIssues unlabelledIssues,
+                              MergedPullRequests mergedPullRequests, OpenPullRequests openPullRequests,
+                              OpenIssues openIssues, ClosedIssues closedIssues,
+                              CreatedIssues createdIssues, IssueComments issueComments,
+                              PullComments pullComments, IssuePositiveReactions issuePositiveReactions,
+                              IssueNegativeReactions issueNegativeReactions, LabelMetrics labelMetrics,
+                              ReleaseMetrics releaseMetrics, MaintainerMetrics maintainerMetrics,
+                              MetricsCalculationConfig config) {
         this.unlabelledPullRequests = unlabelledPullRequests;
         this.unlabelledIssues = unlabelledIssues;
         this.mergedPullRequests = mergedPullRequests;
@@ -82,6 +121,7 @@ public class MetricsCalculation {
         this.issuePositiveReactions = issuePositiveReactions;
         this.issueNegativeReactions = issueNegativeReactions;
         this.currentDate = LocalDateTime.now(ZoneId.of("UTC"));
+        this.documentIdGenerator = new DocumentIdGenerator(currentDate);
         this.openSearchUtil = openSearchUtil;
         this.objectMapper = objectMapper;
         this.untriagedIssues = untriagedIssues;
@@ -89,6 +129,8 @@ public class MetricsCalculation {
         this.labelMetrics = labelMetrics;
         this.releaseMetrics = releaseMetrics;
         this.maintainerMetrics = maintainerMetrics;
+        this.config = config;
+        this.generalMetricsAggregator = new GeneralMetricsAggregator();
     }
 
 
@@ -100,36 +142,88 @@ public class MetricsCalculation {
                 createdIssues, issueComments,
                 pullComments, issuePositiveReactions,
                 issueNegativeReactions);
-        Map<String, String> metricFinalData = repositories.stream()
-                .flatMap(repo -> metricsList.stream()
-                        .flatMap(metric -> {
-                            MetricsData metricsData = new MetricsData();
-
-                            try {
-                                metricsData.setId(String.valueOf(UUID.nameUUIDFromBytes(MessageDigest.getInstance("SHA-1")
-                                        .digest(("general-metrics-" + metric.toString() + "-" + currentDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + "-" + repo)
-                                                .getBytes()))));
-                            } catch (NoSuchAlgorithmException e) {
-                                throw new RuntimeException(e);
-                            }
-                            metricsData.setRepository(repo);
-                            metricsData.setCurrentDate(currentDate.toString());
-                            BoolQueryBuilder boolQueryBuilder = metric.getBoolQueryBuilder(repo);
-                            SearchRequest searchRequest = metric.createSearchRequest(boolQueryBuilder, metric.searchIndex());
-                            long metricCount = metric.performSearch(openSearchUtil, searchRequest);
-                            metricsData.setMetricName(metric.toString());
-                            metricsData.setMetricCount(metricCount);
-                            return Stream.of(metricsData);
-                        }))
-                .collect(Collectors.toMap(MetricsData::getId, metricsData -> metricsData.getJson(metricsData, objectMapper)));
+        Map<String, MetricsData> metricFinalData;
+        if (config.isGeneralMetricsAggregation()) {
+            metricFinalData = generateGeneralMetricsAggregated(repositories, metricsList);
+        } else if (config.getGeneralMetricsBatchSize() > 0) {
+            metricFinalData = generateGeneralMetricsBatched(repositories, metricsList, config.getGeneralMetricsBatchSize());
+        } else {
+            metricFinalData = mapRepositories(repositories, repo -> metricsList.stream()
+                            .map(metric -> {
+                                BoolQueryBuilder boolQueryBuilder = metric.getBoolQueryBuilder(repo);
+                                SearchRequest searchRequest = metric.createSearchRequest(boolQueryBuilder, metric.searchIndex());
+                                SearchResponse searchResponse = openSearchUtil.search(searchRequest);
+                                long metricCount = metric.getMetricCount(searchResponse);
+                                return createMetricsData(repo, metric, metricCount, metric.getMetricCountRelation(searchResponse));
+                            })
+                            .collect(Collectors.toList()))
+                    .stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toMap(MetricsData::getId, Function.identity()));
+        }
         openSearchUtil.createIndexIfNotExists("opensearch_general_metrics", Optional.empty());
-        openSearchUtil.bulkIndex("opensearch_general_metrics", metricFinalData);
+        bulkIndexDocuments("opensearch_general_metrics", metricFinalData);
+    }
+
+    /*
+    Runs every (repo, metric) search through _msearch, batchSize searches per round trip.
+    Response items come back in request order, so item i belongs to the i-th pair of the batch.
+     */
+    private Map<String, MetricsData> generateGeneralMetricsBatched(List<String> repositories, List<Metrics> metricsList, int batchSize) {
+        List<Map.Entry<String, Metrics>> repoMetricPairs = repositories.stream()
+                .flatMap(repo -> metricsList.stream().map(metric -> Map.entry(repo, metric)))
+                .collect(Collectors.toList());
+        Map<String, MetricsData> metricFinalData = new HashMap<>();
+        for (List<Map.Entry<String, Metrics>> batch : Lists.partition(repoMetricPairs, batchSize)) {
+            MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+            for (Map.Entry<String, Metrics> repoMetricPair : batch) {
+                Metrics metric = repoMetricPair.getValue();
+                BoolQueryBuilder boolQueryBuilder = metric.getBoolQueryBuilder(repoMetricPair.getKey());
+                multiSearchRequest.add(metric.createSearchRequest(boolQueryBuilder, metric.searchIndex()));
+            }
+            MultiSearchResponse.Item[] items = openSearchUtil.multiSearch(multiSearchRequest).getResponses();
+            for (int i = 0; i < batch.size(); i++) {
+                String repo = batch.get(i).getKey();
+                Metrics metric = batch.get(i).getValue();
+                if (items[i].isFailure()) {
+                    throw new RuntimeException("Error fetching " + metric + " for " + repo, items[i].getFailure());
+                }
+                SearchResponse searchResponse = items[i].getResponse();
+                long metricCount = metric.getMetricCount(searchResponse);
+                MetricsData metricsData = createMetricsData(repo, metric, metricCount, metric.getMetricCountRelation(searchResponse));
+                metricFinalData.put(metricsData.getId(), metricsData);
+            }
+        }
+        return metricFinalData;
+    }
+
+    /*
+    Computes all metrics for all repos with one aggregation search per index (github_issues and github_pulls).
+    Bucket doc counts and sums are exact, so every value is reported as EQUAL_TO.
+     */
+    private Map<String, MetricsData> generateGeneralMetricsAggregated(List<String> repositories, List<Metrics> metricsList) {
+        Map<String, Map<Metrics, Long>> metricCounts = generalMetricsAggregator.aggregate(repositories, metricsList, openSearchUtil);
+        return metricCounts.entrySet().stream()
+                .flatMap(repoCounts -> repoCounts.getValue().entrySet().stream()
+                        .map(metricCount -> createMetricsData(repoCounts.getKey(), metricCount.getKey(), metricCount.getValue(),
+                                TotalHits.Relation.EQUAL_TO)))
+                .collect(Collectors.toMap(MetricsData::getId, Function.identity()));
+    }
+
+    private MetricsData createMetricsData(String repo, Metrics metric, long metricCount, TotalHits.Relation relation) {
+        MetricsData metricsData = new MetricsData();
+        metricsData.setId(documentIdGenerator.generate("general-metrics", metric.toString(), repo));
+        metricsData.setRepository(repo);
+        metricsData.setCurrentDate(currentDate.toString());
+        metricsData.setMetricName(metric.toString());
+        metricsData.setMetricCount(metricCount);
+        metricsData.setMetricCountRelation(relation == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO ? "gte" : "eq");
+        return metricsData;
     }
 
     public void generateLabelMetrics(List<String> repositories) {
         List<LabelMetrics> metricsList = Arrays.asList(labelMetrics);
-        Map<String, String> metricFinalData = repositories.stream()
-                .flatMap(repo -> metricsList.stream()
+        Map<String, LabelData> metricFinalData = mapRepositories(repositories, repo -> metricsList.stream()
                         .flatMap(metric -> {
                             Map<String, List<Long>> labelInfo = null;
                             try {
@@ -141,13 +235,7 @@ public class MetricsCalculation {
                                 String labelName = entry.getKey();
                                 List<Long> values = entry.getValue();
                                 LabelData labelData = new LabelData();
-                                try {
-                                    labelData.setId(String.valueOf(UUID.nameUUIDFromBytes(MessageDigest.getInstance("SHA-1")
-                                            .digest(("label-metrics-" + labelName + "-" + currentDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + "-" + repo)
-                                                    .getBytes()))));
-                                } catch (NoSuchAlgorithmException e) {
-                                    throw new RuntimeException(e);
-                                }
+                                labelData.setId(documentIdGenerator.generate("label-metrics", labelName, repo));
                                 labelData.setRepository(repo);
                                 labelData.setCurrentDate(currentDate.toString());
                                 labelData.setLabelName(labelName);
@@ -155,102 +243,134 @@ public class MetricsCalculation {
                                 labelData.setLabelIssueCount(values.get(0));
                                 return Stream.of(labelData);
                             });
-                        }))
-                .collect(Collectors.toMap(LabelData::getId, labelData -> labelData.getJson(labelData, objectMapper)));
+                        })
+                        .collect(Collectors.toList()))
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(LabelData::getId, Function.identity()));
         openSearchUtil.createIndexIfNotExists("opensearch_label_metrics", Optional.empty());
-        openSearchUtil.bulkIndex("opensearch_label_metrics", metricFinalData);
+        bulkIndexDocuments("opensearch_label_metrics", metricFinalData);
     }
 
     public void generateReleaseMetrics() {
         ReleaseInputs[] releaseInputs = ReleaseInputs.getAllReleaseInputs();
+        List<Map.Entry<ReleaseInputs, Map.Entry<String, String>>> releaseComponents = releaseComponents(releaseInputs);
+        // With the aggregation, the values read from OpenSearch are fetched for every component of a release up front
+        Map<String, Map<String, ReleaseRepoMetrics>> releaseRepoMetrics = config.isReleaseMetricsAggregation()
+                ? releaseRepoMetrics(releaseComponents)
+                : Map.of();
+        // With the probe batch, the release notes and branch URLs of every component of a release are probed up front
+        Map<ReleaseInputs, Map<String, Boolean>> releaseNotes = new HashMap<>();
+        Map<ReleaseInputs, Map<String, Boolean>> releaseBranches = new HashMap<>();
+        if (config.isReleaseUrlProbeBatch()) {
+            releaseReposByInput(releaseComponents).forEach((releaseInput, repos) -> {
+                releaseNotes.put(releaseInput, releaseMetrics.getReleaseNotes(releaseInput.getVersion(), repos, releaseInput.getBranch()));
+                releaseBranches.put(releaseInput, releaseMetrics.getReleaseBranches(releaseInput.getVersion(), repos));
+            });
+        }
 
-        Map<String, String> metricFinalData =
-                Arrays.stream(releaseInputs)
-                        .filter(ReleaseInputs::getTrack)
-                        .flatMap(releaseInput -> releaseMetrics.getReleaseRepos(releaseInput.getVersion()).entrySet().stream()
-                        .flatMap(entry -> {
-                            String repoName = entry.getValue();
-                            String componentName = entry.getKey();
-                            ReleaseMetricsData releaseMetricsData = new ReleaseMetricsData();
-                            releaseMetricsData.setRepository(repoName);
-                            releaseMetricsData.setComponent(componentName);
-                            releaseMetricsData.setCurrentDate(currentDate.toString());
-                            try {
-                                releaseMetricsData.setId(String.valueOf(UUID.nameUUIDFromBytes(MessageDigest.getInstance("SHA-1")
-                                        .digest(("release-metrics-" + releaseInput.getVersion() + "-" + currentDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + "-" + componentName)
-                                                .getBytes()))));
-                            } catch (NoSuchAlgorithmException e) {
-                                throw new RuntimeException(e);
-                            }
-                            releaseMetricsData.setReleaseVersion(releaseInput.getVersion());
-                            releaseMetricsData.setVersion(releaseInput.getVersion());
-                            releaseMetricsData.setReleaseState(releaseInput.getState());
-                            releaseMetricsData.setIssuesOpen(releaseMetrics.getReleaseLabelIssues(releaseInput.getVersion(), repoName, "open", false));
-                            releaseMetricsData.setAutocutIssuesOpen(releaseMetrics.getReleaseLabelIssues(releaseInput.getVersion(), repoName, "open", true));
-                            releaseMetricsData.setIssuesClosed(releaseMetrics.getReleaseLabelIssues(releaseInput.getVersion(), repoName, "closed", false));
-                            releaseMetricsData.setPullsOpen(releaseMetrics.getReleaseLabelPulls(releaseInput.getVersion(), repoName, "open"));
-                            releaseMetricsData.setPullsClosed(releaseMetrics.getReleaseLabelPulls(releaseInput.getVersion(), repoName, "closed"));
-                            releaseMetricsData.setVersionIncrement(releaseMetrics.getReleaseVersionIncrement(releaseInput.getVersion(), repoName, releaseInput.getBranch()));
-                            releaseMetricsData.setReleaseNotes(releaseMetrics.getReleaseNotes(releaseInput.getVersion(), repoName, releaseInput.getBranch()));
-                            releaseMetricsData.setReleaseBranch(releaseMetrics.getReleaseBranch(releaseInput.getVersion(), repoName));
-                            String[] releaseOwners = releaseMetrics.getReleaseOwners(releaseInput.getVersion(), repoName);
-                            releaseMetricsData.setReleaseOwners(releaseOwners);
-                            releaseMetricsData.setReleaseOwnerExists(Optional.ofNullable(releaseOwners)
-                                    .map(owners -> owners.length > 0)
-                                    .orElse(false));
-                            String releaseIssue = releaseMetrics.getReleaseIssue(releaseInput.getVersion(), repoName);
-                            releaseMetricsData.setReleaseIssue(releaseIssue);
-                            releaseMetricsData.setReleaseIssueExists(Optional.ofNullable(releaseIssue)
-                                    .map(str -> !str.isEmpty())
-                                    .orElse(false));
-                            return Stream.of(releaseMetricsData);
-                        }))
-                .collect(Collectors.toMap(ReleaseMetricsData::getId,
-                        releaseMetricsData -> releaseMetricsData.getJson(releaseMetricsData, objectMapper)));
+        Map<String, ReleaseMetricsData> metricFinalData =
+                mapRepositories(releaseComponents, releaseComponent -> {
+                    ReleaseInputs releaseInput = releaseComponent.getKey();
+                    Map.Entry<String, String> entry = releaseComponent.getValue();
+                    String repoName = entry.getValue();
+                    String componentName = entry.getKey();
+                    ReleaseMetricsData releaseMetricsData = new ReleaseMetricsData();
+                    releaseMetricsData.setRepository(repoName);
+                    releaseMetricsData.setComponent(componentName);
+                    releaseMetricsData.setCurrentDate(currentDate.toString());
+                    releaseMetricsData.setId(documentIdGenerator.generate("release-metrics", releaseInput.getVersion(), componentName));
+                    releaseMetricsData.setReleaseVersion(releaseInput.getVersion());
+                    releaseMetricsData.setVersion(releaseInput.getVersion());
+                    releaseMetricsData.setReleaseState(releaseInput.getState());
+                    ReleaseRepoMetrics repoMetrics = releaseRepoMetrics.getOrDefault(releaseInput.getVersion(), Map.of()).get(repoName);
+                    String[] releaseOwners;
+                    String releaseIssue;
+                    if (repoMetrics != null) {
+                        releaseMetricsData.setIssuesOpen(repoMetrics.getIssuesOpen());
+                        releaseMetricsData.setAutocutIssuesOpen(repoMetrics.getAutocutIssuesOpen());
+                        releaseMetricsData.setIssuesClosed(repoMetrics.getIssuesClosed());
+                        releaseMetricsData.setPullsOpen(repoMetrics.getPullsOpen());
+                        releaseMetricsData.setPullsClosed(repoMetrics.getPullsClosed());
+                        releaseMetricsData.setVersionIncrement(releaseMetrics.getReleaseVersionIncrement(releaseInput.getVersion(), repoName, releaseInput.getBranch(), repoMetrics));
+                        releaseOwners = repoMetrics.getReleaseOwners();
+                        releaseIssue = repoMetrics.getReleaseIssue();
+                    } else {
+                        releaseMetricsData.setIssuesOpen(releaseMetrics.getReleaseLabelIssues(releaseInput.getVersion(), repoName, "open", false));
+                        releaseMetricsData.setAutocutIssuesOpen(releaseMetrics.getReleaseLabelIssues(releaseInput.getVersion(), repoName, "open", true));
+                        releaseMetricsData.setIssuesClosed(releaseMetrics.getReleaseLabelIssues(releaseInput.getVersion(), repoName, "closed", false));
+                        releaseMetricsData.setPullsOpen(releaseMetrics.getReleaseLabelPulls(releaseInput.getVersion(), repoName, "open"));
+                        releaseMetricsData.setPullsClosed(releaseMetrics.getReleaseLabelPulls(releaseInput.getVersion(), repoName, "closed"));
+                        releaseMetricsData.setVersionIncrement(releaseMetrics.getReleaseVersionIncrement(releaseInput.getVersion(), repoName, releaseInput.getBranch()));
+                        releaseOwners = releaseMetrics.getReleaseOwners(releaseInput.getVersion(), repoName);
+                        releaseIssue = releaseMetrics.getReleaseIssue(releaseInput.getVersion(), repoName);
+                    }
+                    Boolean releaseNotesExist = releaseNotes.getOrDefault(releaseInput, Map.of()).get(repoName);
+                    releaseMetricsData.setReleaseNotes(releaseNotesExist != null
+                            ? releaseNotesExist
+                            : releaseMetrics.getReleaseNotes(releaseInput.getVersion(), repoName, releaseInput.getBranch()));
+                    Boolean releaseBranchExists = releaseBranches.getOrDefault(releaseInput, Map.of()).get(repoName);
+                    releaseMetricsData.setReleaseBranch(releaseBranchExists != null
+                            ? releaseBranchExists
+                            : releaseMetrics.getReleaseBranch(releaseInput.getVersion(), repoName));
+                    releaseMetricsData.setReleaseOwners(releaseOwners);
+                    releaseMetricsData.setReleaseOwnerExists(Optional.ofNullable(releaseOwners)
+                            .map(owners -> owners.length > 0)
+                            .orElse(false));
+                    releaseMetricsData.setReleaseIssue(releaseIssue);
+                    releaseMetricsData.setReleaseIssueExists(Optional.ofNullable(releaseIssue)
+                            .map(str -> !str.isEmpty())
+                            .orElse(false));
+                    return releaseMetricsData;
+                })
+                .stream()
+                .collect(Collectors.toMap(ReleaseMetricsData::getId, Function.identity()));
         openSearchUtil.createIndexIfNotExists("opensearch_release_metrics", Optional.empty());
-        openSearchUtil.bulkIndex("opensearch_release_metrics", metricFinalData);
+        bulkIndexDocuments("opensearch_release_metrics", metricFinalData);
     }
 
     public void generateCodeCovMetrics() {
         ReleaseInputs[] releaseInputs = ReleaseInputs.getAllReleaseInputs();
-        Map<String, String> metricFinalData =
-                Arrays.stream(releaseInputs)
-                        .filter(ReleaseInputs::getTrack)
-                        .flatMap(releaseInput -> releaseMetrics.getReleaseRepos(releaseInput.getVersion()).entrySet().stream()
-                                .flatMap(entry -> {
-                                    String repoName = entry.getKey();
-                                    String componentName = entry.getValue();
-                                    CodeCovResult codeCovResult = new CodeCovResult();
-                                    codeCovResult.setRepository(repoName);
-                                    codeCovResult.setComponent(componentName);
-                                    codeCovResult.setCurrentDate(currentDate.toString());
-                                    try {
-                                        codeCovResult.setId(String.valueOf(UUID.nameUUIDFromBytes(MessageDigest.getInstance("SHA-1")
-                                                .digest(("codecov-metrics-" + releaseInput.getBranch() + releaseInput.getVersion() + "-" + currentDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + "-" + repoName)
-                                                        .getBytes()))));
-                                    } catch (NoSuchAlgorithmException e) {
-                                        throw new RuntimeException(e);
-                                    }
-                                    codeCovResult.setReleaseVersion(releaseInput.getVersion());
-                                    codeCovResult.setVersion(releaseInput.getVersion());
-                                    codeCovResult.setReleaseState(releaseInput.getState());
-                                    codeCovResult.setBranch(releaseInput.getBranch());
-                                    CodeCovResponse codeCovResponse = releaseMetrics.getCodeCoverage(releaseInput.getBranch(), repoName);
-                                    codeCovResult.setCommitId(codeCovResponse.getCommitId());
-                                    codeCovResult.setState(codeCovResponse.getState());
-                                    codeCovResult.setCoverage(codeCovResponse.getCoverage());
-                                    codeCovResult.setUrl(codeCovResponse.getUrl());
-                                    return Stream.of(codeCovResult);
-                                }))
-                        .collect(Collectors.toMap(CodeCovResult::getId,
-                                codeCovResult -> codeCovResult.getJson(codeCovResult, objectMapper)));
+        Map<String, CodeCovResult> metricFinalData =
+                mapRepositories(releaseComponents(releaseInputs), releaseComponent -> {
+                    ReleaseInputs releaseInput = releaseComponent.getKey();
+                    Map.Entry<String, String> entry = releaseComponent.getValue();
+                    String repoName = entry.getKey();
+                    String componentName = entry.getValue();
+                    CodeCovResult codeCovResult = new CodeCovResult();
+                    codeCovResult.setRepository(repoName);
+                    codeCovResult.setComponent(componentName);
+                    codeCovResult.setCurrentDate(currentDate.toString());
+                    codeCovResult.setId(documentIdGenerator.generate("codecov-metrics", releaseInput.getBranch() + releaseInput.getVersion(), repoName));
+                    codeCovResult.setReleaseVersion(releaseInput.getVersion());
+                    codeCovResult.setVersion(releaseInput.getVersion());
+                    codeCovResult.setReleaseState(releaseInput.getState());
+                    codeCovResult.setBranch(releaseInput.getBranch());
+                    CodeCovResponse codeCovResponse = releaseMetrics.getCodeCoverage(releaseInput.getBranch(), repoName);
+                    codeCovResult.setCommitId(codeCovResponse.getCommitId());
+                    codeCovResult.setState(codeCovResponse.getState());
+                    codeCovResult.setCoverage(codeCovResponse.getCoverage());
+                    codeCovResult.setUrl(codeCovResponse.getUrl());
+                    return codeCovResult;
+                })
+                .stream()
+                .collect(Collectors.toMap(CodeCovResult::getId, Function.identity()));
         String codeCovIndexName = "opensearch-codecov-metrics-" + currentDate.format(DateTimeFormatter.ofPattern("MM-yyyy"));
         openSearchUtil.createIndexIfNotExists(codeCovIndexName, Optional.of("opensearch-codecov-metrics"));
-        openSearchUtil.bulkIndex(codeCovIndexName, metricFinalData);
+        bulkIndexDocuments(codeCovIndexName, metricFinalData);
     }
 
     public void generateMaintainerMetrics(List<String> repositories) {
-        long[] mostAndLeastRepoEventCounts = maintainerMetrics.mostAndLeastRepoEventCounts(openSearchUtil);
+        // With the profile, every repo's event count comes from one aggregation fetched here
+        RepoActivityProfile repoActivityProfile = config.isMaintainerRepoActivityProfile()
+                ? maintainerMetrics.repoActivityProfile(openSearchUtil)
+                : null;
+        ToLongFunction<String> repoEventCount = repoActivityProfile != null
+                ? repoActivityProfile::repoEventCount
+                : repo -> maintainerMetrics.repoEventCount(repo, openSearchUtil);
+        long[] mostAndLeastRepoEventCounts = repoActivityProfile != null
+                ? repoActivityProfile.mostAndLeastRepoEventCounts()
+                : maintainerMetrics.mostAndLeastRepoEventCounts(openSearchUtil);
         final double mostRepoEventCount = (double) mostAndLeastRepoEventCounts[0];
         final double leastRepoEventCount = (double) mostAndLeastRepoEventCounts[1];
         final double higherBoundDays = 365; // 1 year
@@ -263,95 +383,199 @@ public class MetricsCalculation {
 
         List<String> eventTypes = maintainerMetrics.getEventTypes(openSearchUtil);
 
-        Map<String, String> metricFinalData = repositories.stream()
-                .flatMap(repo -> {
-                    long currentRepoEventCount = maintainerMetrics.repoEventCount(repo, openSearchUtil);
-                    return maintainerMetrics.repoMaintainers(repo).stream()
-                            .flatMap(maintainerData -> {
-                                // latestEvent will keep track of the latest of all event types
-                                LatestEventData latestEvent = null;
-
-                                // List of documents that represent each particular event type(issues, pull_request, label, etc.)
-                                List<MaintainerData> individualEvents = new ArrayList<>();
-
-                                // Loop through each event type(issues, pull_request, label, etc.)
-                                for (String eventType : eventTypes) {
-                                    MaintainerData maintainerEvent = new MaintainerData(); // doc to be indexed
-
-                                    // setting values for doc
-                                    try {
-                                        maintainerEvent.setId(String.valueOf(UUID.nameUUIDFromBytes(MessageDigest.getInstance("SHA-1")
-                                                .digest(("maintainer-inactivity-" + eventType + "-" + maintainerData.getGithubLogin() + "-" + currentDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + "-" + repo)
-                                                        .getBytes()))));
-                                    } catch (NoSuchAlgorithmException e) {
-                                        throw new RuntimeException(e);
-                                    }
-                                    maintainerEvent.setCurrentDate(currentDate.toString());
-                                    maintainerEvent.setEventType(eventType);
-                                    maintainerEvent.setRepository(repo);
-                                    maintainerEvent.setName(maintainerData.getName());
-                                    maintainerEvent.setGithubLogin((maintainerData.getGithubLogin()));
-                                    maintainerEvent.setAffiliation(maintainerData.getAffiliation());
-
-                                    // Query for the latest event of the current event type(issues, pull_request, label, etc.)
-                                    Optional<LatestEventData> latestEventDataOpt = maintainerMetrics.queryLatestEvent(repo, maintainerData.getGithubLogin(), eventType, openSearchUtil);
-
-                                    if (latestEventDataOpt.isPresent()) { // If an event was found in the query
-                                        LatestEventData currentLatestEvent = latestEventDataOpt.get();
-
-                                        // calculate inactivity for current event type
-                                        currentLatestEvent.setInactive(maintainerMetrics.calculateInactivity(currentRepoEventCount, slopeAndIntercept, lowerBoundDays, currentLatestEvent));
-
-                                        // Logic to keep track of latest event of all event types.
-                                        if (latestEvent != null) {
-                                            if (currentLatestEvent.getTimeLastEngaged().isAfter(latestEvent.getTimeLastEngaged())) {
-                                                latestEvent = currentLatestEvent;
-                                            }
-                                        } else { // first time it is run
-                                            latestEvent = currentLatestEvent;
-                                        }
-
-                                        // continue setting values for doc
-                                        maintainerEvent.setEventAction(currentLatestEvent.getEventAction());
-                                        maintainerEvent.setTimeLastEngaged(currentLatestEvent.getTimeLastEngaged().toString());
-                                        maintainerEvent.setInactive(currentLatestEvent.isInactive());
-                                    } else {
-                                        // If no event was found in query, then leave event action and time last engaged empty,
-                                        // and set inactive to true
-                                        maintainerEvent.setInactive(true);
-                                    }
-
-                                    individualEvents.add(maintainerEvent);
-                                }
-
-                                // Index an extra document that represents a combination of all event types
-                                maintainerData.setEventType("All");
-
-                                // Set values for this document
-                                try {
-                                    maintainerData.setId(String.valueOf(UUID.nameUUIDFromBytes(MessageDigest.getInstance("SHA-1")
-                                            .digest(("maintainer-inactivity-" + maintainerData.getEventType() + "-" + maintainerData.getGithubLogin() + "-" + currentDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + "-" + repo)
-                                                    .getBytes()))));
-                                } catch (NoSuchAlgorithmException e) {
-                                    throw new RuntimeException(e);
-                                }
-                                maintainerData.setCurrentDate(currentDate.toString());
-
-                                // Set values based on latest event of all event types
-                                if (latestEvent != null) {
-                                    maintainerData.setEventAction(latestEvent.getEventType() + "." + latestEvent.getEventAction()); // e.g. issues.opened
-                                    maintainerData.setTimeLastEngaged(latestEvent.getTimeLastEngaged().toString());
-                                    maintainerData.setInactive(latestEvent.isInactive());
-                                } else {
-                                    maintainerData.setInactive(true);
-                                }
-                                Stream<MaintainerData> compositeEvent = Stream.of(maintainerData);
-                                return Stream.concat(individualEvents.stream(), compositeEvent);
-                            });
-                })
-                .collect(Collectors.toMap(MaintainerData::getId, maintainerData -> maintainerData.getJson(maintainerData, objectMapper)));
+        Map<String, MaintainerData> metricFinalData;
+        if (config.isMaintainerLatestEventsAggregation() || config.isMaintainerIncremental()) {
+            // Incrementally, the latest events of the previous run are carried forward and only newer events are queried
+            Optional<MaintainerSnapshot> previousSnapshot = config.isMaintainerIncremental()
+                    ? maintainerMetrics.previousSnapshot(openSearchUtil)
+                    : Optional.empty();
+            // MAINTAINERS.md files are fetched first, so the latest events of every maintainer come from a single aggregation
+            Map<String, List<MaintainerData>> maintainersByRepo = maintainerMetrics.maintainersByRepo(repositories);
+            Map<String, List<String>> maintainerLoginsByRepo = new HashMap<>();
+            maintainersByRepo.forEach((repo, maintainers) -> maintainerLoginsByRepo.put(repo, maintainers.stream()
+                    .map(MaintainerData::getGithubLogin)
+                    .collect(Collectors.toList())));
+            Map<String, Map<String, Map<String, LatestEventData>>> latestEvents = previousSnapshot.isPresent()
+                    ? maintainerMetrics.updateLatestEvents(previousSnapshot.get(), maintainerLoginsByRepo, eventTypes, openSearchUtil)
+                    : maintainerMetrics.queryLatestEvents(maintainerLoginsByRepo, openSearchUtil);
+            metricFinalData = mapRepositories(repositories, repo -> {
+                        long currentRepoEventCount = repoEventCount.applyAsLong(repo);
+                        Map<String, Map<String, LatestEventData>> repoLatestEvents = latestEvents.getOrDefault(repo, Map.of());
+                        return maintainersByRepo.get(repo).stream()
+                                .flatMap(maintainerData -> maintainerDocuments(repo, maintainerData, eventTypes, currentRepoEventCount,
+                                        slopeAndIntercept, lowerBoundDays, eventType -> Optional.ofNullable(
+                                                repoLatestEvents.getOrDefault(maintainerData.getGithubLogin(), Map.of()).get(eventType))))
+                                .collect(Collectors.toList());
+                    })
+                    .stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toMap(MaintainerData::getId, Function.identity()));
+        } else {
+            metricFinalData = mapRepositories(repositories, repo -> {
+                        long currentRepoEventCount = repoEventCount.applyAsLong(repo);
+                        return maintainerMetrics.repoMaintainers(repo).stream()
+                                .flatMap(maintainerData -> maintainerDocuments(repo, maintainerData, eventTypes, currentRepoEventCount,
+                                        slopeAndIntercept, lowerBoundDays, eventType -> maintainerMetrics.queryLatestEvent(repo,
+                                                maintainerData.getGithubLogin(), eventType, openSearchUtil)))
+                                .collect(Collectors.toList());
+                    })
+                    .stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toMap(MaintainerData::getId, Function.identity()));
+        }
         String indexName = "maintainer-inactivity-" + currentDate.format(DateTimeFormatter.ofPattern("MM-yyyy"));
         openSearchUtil.createIndexIfNotExists(indexName, Optional.of("maintainer-inactivity"));
-        openSearchUtil.bulkIndex(indexName, metricFinalData);
+        bulkIndexDocuments(indexName, metricFinalData);
+    }
+
+    /*
+    The documents of one maintainer of repo: one per event type and a composite one ("All") for the latest of them.
+    latestEventOfType returns the latest event of the maintainer in repo for an event type.
+     */
+    private Stream<MaintainerData> maintainerDocuments(String repo, MaintainerData maintainerData, List<String> eventTypes,
+                                                       long currentRepoEventCount, double[] slopeAndIntercept, double lowerBoundDays,
+                                                       Function<String, Optional<LatestEventData>> latestEventOfType) {
+        // latestEvent will keep track of the latest of all event types
+        LatestEventData latestEvent = null;
+
+        // List of documents that represent each particular event type(issues, pull_request, label, etc.)
+        List<MaintainerData> individualEvents = new ArrayList<>();
+
+        // Loop through each event type(issues, pull_request, label, etc.)
+        for (String eventType : eventTypes) {
+            MaintainerData maintainerEvent = new MaintainerData(); // doc to be indexed
+
+            // setting values for doc
+            maintainerEvent.setId(documentIdGenerator.generate("maintainer-inactivity", eventType + "-" + maintainerData.getGithubLogin(), repo));
+            maintainerEvent.setCurrentDate(currentDate.toString());
+            maintainerEvent.setEventType(eventType);
+            maintainerEvent.setRepository(repo);
+            maintainerEvent.setName(maintainerData.getName());
+            maintainerEvent.setGithubLogin((maintainerData.getGithubLogin()));
+            maintainerEvent.setAffiliation(maintainerData.getAffiliation());
+
+            // Query for the latest event of the current event type(issues, pull_request, label, etc.)
+            Optional<LatestEventData> latestEventDataOpt = latestEventOfType.apply(eventType);
+
+            if (latestEventDataOpt.isPresent()) { // If an event was found in the query
+                LatestEventData currentLatestEvent = latestEventDataOpt.get();
+
+                // calculate inactivity for current event type
+                currentLatestEvent.setInactive(maintainerMetrics.calculateInactivity(currentRepoEventCount, slopeAndIntercept, lowerBoundDays, currentLatestEvent));
+
+                // Logic to keep track of latest event of all event types.
+                if (latestEvent != null) {
+                    if (currentLatestEvent.getTimeLastEngaged().isAfter(latestEvent.getTimeLastEngaged())) {
+                        latestEvent = currentLatestEvent;
+                    }
+                } else { // first time it is run
+                    latestEvent = currentLatestEvent;
+                }
+
+                // continue setting values for doc
+                maintainerEvent.setEventAction(currentLatestEvent.getEventAction());
+                maintainerEvent.setTimeLastEngaged(currentLatestEvent.getTimeLastEngaged().toString());
+                maintainerEvent.setInactive(currentLatestEvent.isInactive());
+            } else {
+                // If no event was found in query, then leave event action and time last engaged empty,
+                // and set inactive to true
+                maintainerEvent.setInactive(true);
+            }
+
+            individualEvents.add(maintainerEvent);
+        }
+
+        // Index an extra document that represents a combination of all event types
+        maintainerData.setEventType("All");
+
+        // Set values for this document
+        maintainerData.setId(documentIdGenerator.generate("maintainer-inactivity", maintainerData.getEventType() + "-" + maintainerData.getGithubLogin(), repo));
+        maintainerData.setCurrentDate(currentDate.toString());
+
+        // Set values based on latest event of all event types
+        if (latestEvent != null) {
+            maintainerData.setEventAction(latestEvent.getEventType() + "." + latestEvent.getEventAction()); // e.g. issues.opened
+            maintainerData.setTimeLastEngaged(latestEvent.getTimeLastEngaged().toString());
+            maintainerData.setInactive(latestEvent.isInactive());
+        } else {
+            maintainerData.setInactive(true);
+        }
+        Stream<MaintainerData> compositeEvent = Stream.of(maintainerData);
+        return Stream.concat(individualEvents.stream(), compositeEvent);
+    }
+
+    /*
+    Every (release input, component) pair tracked for a release, in release input order.
+     */
+    private List<Map.Entry<ReleaseInputs, Map.Entry<String, String>>> releaseComponents(ReleaseInputs[] releaseInputs) {
+        return Arrays.stream(releaseInputs)
+                .filter(ReleaseInputs::getTrack)
+                .flatMap(releaseInput -> releaseMetrics.getReleaseRepos(releaseInput.getVersion()).entrySet().stream()
+                        .map(entry -> Map.entry(releaseInput, entry)))
+                .collect(Collectors.toList());
+    }
+
+    /*
+    ReleaseRepoMetrics of every component repo, by release version then repo, with one aggregation per release.
+     */
+    private Map<String, Map<String, ReleaseRepoMetrics>> releaseRepoMetrics(List<Map.Entry<ReleaseInputs, Map.Entry<String, String>>> releaseComponents) {
+        Map<String, List<String>> reposByVersion = releaseComponents.stream()
+                .collect(Collectors.groupingBy(releaseComponent -> releaseComponent.getKey().getVersion(), LinkedHashMap::new,
+                        Collectors.mapping(releaseComponent -> releaseComponent.getValue().getValue(),
+                                Collectors.collectingAndThen(Collectors.toCollection(LinkedHashSet::new), ArrayList::new))));
+        Map<String, Map<String, ReleaseRepoMetrics>> releaseRepoMetrics = new HashMap<>();
+        reposByVersion.forEach((version, repos) -> releaseRepoMetrics.put(version, releaseMetrics.getReleaseRepoMetrics(version, repos)));
+        return releaseRepoMetrics;
+    }
+
+    private Map<ReleaseInputs, List<String>> releaseReposByInput(List<Map.Entry<ReleaseInputs, Map.Entry<String, String>>> releaseComponents) {
+        return releaseComponents.stream()
+                .collect(Collectors.groupingBy(Map.Entry::getKey, LinkedHashMap::new,
+                        Collectors.mapping(releaseComponent -> releaseComponent.getValue().getValue(),
+                                Collectors.collectingAndThen(Collectors.toCollection(LinkedHashSet::new), ArrayList::new))));
+    }
+
+    /*
+    Indexes the documents and fails the run if any of them was dropped, so a partial index is not reported as a success.
+     */
+    private void bulkIndexDocuments(String index, Map<String, ? extends IndexDocument> documents) {
+        BulkIndexResult result = openSearchUtil.bulkIndexDocuments(index, documents);
+        if (result.hasDropped()) {
+            throw new RuntimeException("Dropped " + result.getDropped() + " of " + documents.size() + " documents indexing " + index);
+        }
+    }
+
+    /*
+    Applies task to every repository (or release component) on at most repoConcurrency threads and returns the results in input order,
+    so the documents and their IDs do not depend on the thread count. The fixed pool bounds the number of repositories,
+    and therefore requests, in flight against the domain; the rest wait in its queue. A concurrency of 1 runs inline.
+     */
+    private <T, R> List<R> mapRepositories(List<T> items, Function<T, R> task) {
+        int concurrency = Math.min(config.getRepoConcurrency(), items.size());
+        if (concurrency <= 1) {
+            return items.stream().map(task).collect(Collectors.toList());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                new ThreadFactoryBuilder().setNameFormat("metrics-calculation-%d").setDaemon(true).build());
+        try {
+            List<Future<R>> futures = items.stream()
+                    .map(item -> executor.submit(() -> task.apply(item)))
+                    .collect(Collectors.toList());
+            List<R> results = new ArrayList<>(futures.size());
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics;
+
+import lombok.Data;
+
+/*
+Tunables for MetricsCalculation. The defaults reproduce the original one-request-at-a-time behaviour;
+CommonModule overrides them from the Lambda environment.
+ */
+@Data
+public class MetricsCalculationConfig {
+
+    // Number of general metric searches sent per _msearch request, 0 runs one search per (repo, metric) pair
+    private int generalMetricsBatchSize = 0;
+
+    // Compute general metrics with one terms/filters aggregation per index instead of per-repo searches
+    private boolean generalMetricsAggregation = false;
+
+    // Find the latest event of every maintainer with one composite aggregation instead of one search per (repo, maintainer, event type)
+    private boolean maintainerLatestEventsAggregation = false;
+
+    // Count the events of every repo with one terms aggregation instead of one search per repo
+    private boolean maintainerRepoActivityProfile = false;
+
+    // How long event types discovered from the events indices are reused, 0 queries them on every run
+    private int eventTypesCacheTtlMinutes = 0;
+
+    // Take the event types from the GithubEvents being collected instead of querying the events indices
+    private boolean eventTypesFromGithubEvents = false;
+
+    // Start the maintainer run from the documents of the previous one and only query the events since then
+    private boolean maintainerIncremental = false;
+
+    // Incremental maintainer runs recompute the latest events from scratch at least once every this many days, 0 never forces it
+    private int maintainerFullRecomputeDays = 7;
+
+    // Compute the label counts, owners, issue and version increment pull of every release component with one _msearch per release
+    private boolean releaseMetricsAggregation = false;
+
+    // Probe the release branch and release notes URLs of every release component in one concurrent batch per release
+    private boolean releaseUrlProbeBatch = false;
+
+    // Keep the parsed release manifests with their ETag and revalidate them instead of downloading and parsing them on every call
+    private boolean releaseManifestCache = false;
+
+    // How long a cached release manifest is used without revalidating it, 0 revalidates it on every call
+    private int releaseManifestCacheTtlMinutes = 0;
+
+    // Bucket that also keeps the cached release manifests, so a cold container starts from them; null keeps them in memory only.
+    // Not deployed: the metrics stack sets no bucket or S3_BUCKET_REGION and grants the Metrics Lambda no S3 access.
+    private String releaseManifestCacheBucket = null;
+
+    // Number of repositories (or release components) evaluated in parallel, 1 runs them one after another
+    private int repoConcurrency = 1;
+}
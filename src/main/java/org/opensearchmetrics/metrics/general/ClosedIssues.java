@@ -25,9 +25,8 @@ public class ClosedIssues implements Metrics {
     }
 
     @Override
-    public BoolQueryBuilder getBoolQueryBuilder(String repo) {
+    public BoolQueryBuilder getMetricFilter() {
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
-        boolQueryBuilder.must(QueryBuilders.matchQuery("repository.keyword", repo));
         boolQueryBuilder.must(QueryBuilders.matchQuery("state.keyword", "closed"));
         boolQueryBuilder.must(QueryBuilders.matchQuery("issue_pull_request", false));
         return boolQueryBuilder;
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.general;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.filter.Filters;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregator;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Sum;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearchmetrics.util.OpenSearchUtil;
+
+import javax.inject.Inject;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/*
+Computes every general metric for every repository with one size(0) search per index, all sent concurrently.
+Each repository is a terms bucket, each metric's predicate is a keyed bucket of a filters aggregation
+inside it, and comment/reaction metrics read a sum aggregation under their filter bucket.
+ */
+public class GeneralMetricsAggregator {
+    private static final String REPOS_AGG = "repos";
+    private static final String METRICS_AGG = "metrics";
+    private static final String SUM_AGG_PREFIX = "sum_";
+
+    @Inject
+    public GeneralMetricsAggregator() {
+    }
+
+    /*
+    Returns repository -> metric -> value for every requested repository and metric.
+    Repositories without any matching document get 0, as a single search would report.
+     */
+    public Map<String, Map<Metrics, Long>> aggregate(List<String> repositories, List<Metrics> metricsList, OpenSearchUtil openSearchUtil) {
+        Map<String, Map<Metrics, Long>> results = new LinkedHashMap<>();
+        repositories.forEach(repo -> results.put(repo, new HashMap<>()));
+        Map<String, List<Metrics>> metricsByIndex = metricsList.stream()
+                .collect(Collectors.groupingBy(Metrics::searchIndex, LinkedHashMap::new, Collectors.toList()));
+        // The searches of the different indices are independent: send them all before waiting on any
+        Map<String, CompletableFuture<SearchResponse>> searches = new LinkedHashMap<>();
+        metricsByIndex.forEach((index, indexMetrics) ->
+                searches.put(index, openSearchUtil.searchAsync(createSearchRequest(index, repositories, indexMetrics))));
+        for (Map.Entry<String, List<Metrics>> indexMetrics : metricsByIndex.entrySet()) {
+            SearchResponse searchResponse = awaitSearch(searches.get(indexMetrics.getKey()));
+            if (searchResponse.status() != RestStatus.OK) {
+                throw new RuntimeException("Error connecting to the cluster");
+            }
+            Terms repoTerms = searchResponse.getAggregations().get(REPOS_AGG);
+            Map<String, Filters> repoBuckets = new HashMap<>();
+            for (Terms.Bucket bucket : repoTerms.getBuckets()) {
+                repoBuckets.put(bucket.getKeyAsString(), bucket.getAggregations().get(METRICS_AGG));
+            }
+            for (String repo : repositories) {
+                Filters metricFilters = repoBuckets.get(repo);
+                for (Metrics metric : indexMetrics.getValue()) {
+                    results.get(repo).put(metric, metricFilters == null ? 0L : metricValue(metricFilters, metric));
+                }
+            }
+        }
+        return results;
+    }
+
+    public SearchRequest createSearchRequest(String index, List<String> repositories, List<Metrics> metricsList) {
+        FiltersAggregator.KeyedFilter[] keyedFilters = metricsList.stream()
+                .map(metric -> new FiltersAggregator.KeyedFilter(metric.toString(), metric.getMetricFilter()))
+                .toArray(FiltersAggregator.KeyedFilter[]::new);
+        FiltersAggregationBuilder metricsAggregation = AggregationBuilders.filters(METRICS_AGG, keyedFilters);
+        Set<String> sumFields = metricsList.stream()
+                .map(Metrics::getSumField)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        sumFields.forEach(field -> metricsAggregation.subAggregation(AggregationBuilders.sum(SUM_AGG_PREFIX + field).field(field)));
+
+        TermsAggregationBuilder reposAggregation = AggregationBuilders.terms(REPOS_AGG)
+                .field("repository.keyword")
+                .size(Math.max(1, repositories.size()))
+                .subAggregation(metricsAggregation);
+
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.query(QueryBuilders.termsQuery("repository.keyword", repositories));
+        searchSourceBuilder.size(0);
+        searchSourceBuilder.aggregation(reposAggregation);
+        SearchRequest searchRequest = new SearchRequest(index);
+        searchRequest.source(searchSourceBuilder);
+        return searchRequest;
+    }
+
+    private SearchResponse awaitSearch(CompletableFuture<SearchResponse> search) {
+        try {
+            return search.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private long metricValue(Filters metricFilters, Metrics metric) {
+        Filters.Bucket bucket = metricFilters.getBucketByKey(metric.toString());
+        if (bucket == null) {
+            return 0L;
+        }
+        Optional<String> sumField = metric.getSumField();
+        if (sumField.isPresent()) {
+            Sum sumAgg = bucket.getAggregations().get(SUM_AGG_PREFIX + sumField.get());
+            return (long) sumAgg.getValue();
+        }
+        return bucket.getDocCount();
+    }
+}
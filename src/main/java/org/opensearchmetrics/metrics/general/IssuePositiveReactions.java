@@ -16,9 +16,9 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.metrics.Sum;
 import org.opensearch.search.builder.SearchSourceBuilder;
-import org.opensearchmetrics.util.OpenSearchUtil;
 
 import javax.inject.Inject;
+import java.util.Optional;
 
 public class IssuePositiveReactions implements Metrics {
 
@@ -32,9 +32,8 @@ public class IssuePositiveReactions implements Metrics {
     }
 
     @Override
-    public BoolQueryBuilder getBoolQueryBuilder(String repo) {
+    public BoolQueryBuilder getMetricFilter() {
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
-        boolQueryBuilder.must(QueryBuilders.matchQuery("repository.keyword", repo));
         boolQueryBuilder.must(QueryBuilders.matchQuery("issue_pull_request", false));
         return boolQueryBuilder;
     }
@@ -44,22 +43,26 @@ public class IssuePositiveReactions implements Metrics {
         return "github_issues";
     }
 
+    @Override
+    public Optional<String> getSumField() {
+        return Optional.of("reactions_plus");
+    }
+
     @Override
     public SearchRequest createSearchRequest(BoolQueryBuilder queryBuilder, String index) {
         SearchRequest searchRequest = new SearchRequest(index);
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(queryBuilder);
-        searchSourceBuilder.size(9000);
+        searchSourceBuilder.size(0);
         searchSourceBuilder.aggregation(
-                AggregationBuilders.sum("total_reactions_sum").field("reactions_plus")
+                AggregationBuilders.sum("total_reactions_sum").field(getSumField().get())
         );
         searchRequest.source(searchSourceBuilder);
         return  searchRequest;
     }
 
     @Override
-    public long performSearch(OpenSearchUtil opensearchUtil, SearchRequest request) {
-        SearchResponse searchResponse = opensearchUtil.search(request);
+    public long getMetricCount(SearchResponse searchResponse) {
         RestStatus status = searchResponse.status();
         if (status == RestStatus.OK) {
             Sum sumAgg = searchResponse.getAggregations().get("total_reactions_sum");
@@ -8,30 +8,68 @@
  */
 package org.opensearchmetrics.metrics.general;
 
+import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
+import java.util.Optional;
+
 public interface Metrics {
 
-    BoolQueryBuilder getBoolQueryBuilder(String repo);
+    /*
+    The predicate that selects the documents this metric counts, independent of the repository.
+     */
+    BoolQueryBuilder getMetricFilter();
 
     String searchIndex();
 
+    /*
+    Numeric field summed over the matching documents, or empty when the metric is a document count.
+     */
+    default Optional<String> getSumField() {
+        return Optional.empty();
+    }
+
+    default BoolQueryBuilder getBoolQueryBuilder(String repo) {
+        BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
+        boolQueryBuilder.must(QueryBuilders.matchQuery("repository.keyword", repo));
+        BoolQueryBuilder metricFilter = getMetricFilter();
+        metricFilter.must().forEach(boolQueryBuilder::must);
+        metricFilter.filter().forEach(boolQueryBuilder::filter);
+        metricFilter.mustNot().forEach(boolQueryBuilder::mustNot);
+        metricFilter.should().forEach(boolQueryBuilder::should);
+        return boolQueryBuilder;
+    }
+
+    /*
+    Metrics only consume the total hit count or an aggregation of the matching documents,
+    so the request never asks for hits (size 0). Implementations overriding this must keep it that way.
+    Total hits are tracked exactly, otherwise counts stop at 10,000 for the largest repositories.
+     */
     default SearchRequest createSearchRequest(BoolQueryBuilder queryBuilder, String index) {
         SearchRequest searchRequest = new SearchRequest(index);
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(queryBuilder);
-        searchSourceBuilder.size(9000);
+        searchSourceBuilder.size(0);
+        searchSourceBuilder.trackTotalHits(true);
         searchRequest.source(searchSourceBuilder);
         return  searchRequest;
     };
 
     default long performSearch(OpenSearchUtil opensearchUtil, SearchRequest request) {
-        SearchResponse searchResponse = opensearchUtil.search(request);
+        return getMetricCount(opensearchUtil.search(request));
+    }
+
+    /*
+    Reads the metric value out of a response to the request built by createSearchRequest.
+    Shared by single searches and by the items of a batched multi-search.
+     */
+    default long getMetricCount(SearchResponse searchResponse) {
         RestStatus status = searchResponse.status();
         if (status == RestStatus.OK) {
             return searchResponse.getHits().getTotalHits().value;
@@ -39,4 +77,16 @@ public interface Metrics {
             throw new RuntimeException("Error connecting to the cluster");
         }
     }
+
+    /*
+    Whether the value read by getMetricCount is exact (EQUAL_TO) or a lower bound (GREATER_THAN_OR_EQUAL_TO).
+    Sums are computed over every matching document, so only hit counts can be approximate.
+     */
+    default TotalHits.Relation getMetricCountRelation(SearchResponse searchResponse) {
+        TotalHits totalHits = searchResponse.getHits().getTotalHits();
+        if (getSumField().isPresent() || totalHits == null) {
+            return TotalHits.Relation.EQUAL_TO;
+        }
+        return totalHits.relation;
+    }
 }
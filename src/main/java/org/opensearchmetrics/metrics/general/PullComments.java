@@ -16,9 +16,9 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.metrics.Sum;
 import org.opensearch.search.builder.SearchSourceBuilder;
-import org.opensearchmetrics.util.OpenSearchUtil;
 
 import javax.inject.Inject;
+import java.util.Optional;
 
 public class PullComments implements Metrics {
 
@@ -32,9 +32,8 @@ public class PullComments implements Metrics {
     }
 
     @Override
-    public BoolQueryBuilder getBoolQueryBuilder(String repo) {
+    public BoolQueryBuilder getMetricFilter() {
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
-        boolQueryBuilder.must(QueryBuilders.matchQuery("repository.keyword", repo));
         boolQueryBuilder.mustNot(QueryBuilders.termsQuery("user_login.keyword",
                 new String[]{"opensearch-trigger-bot[bot]", "dependabot[bot]", "mend-for-github-com[bot]", "opensearch-ci-bot"}));
         return boolQueryBuilder;
@@ -45,22 +44,26 @@ public class PullComments implements Metrics {
         return "github_pulls";
     }
 
+    @Override
+    public Optional<String> getSumField() {
+        return Optional.of("comments");
+    }
+
     @Override
     public SearchRequest createSearchRequest(BoolQueryBuilder queryBuilder, String index) {
         SearchRequest searchRequest = new SearchRequest(index);
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(queryBuilder);
-        searchSourceBuilder.size(9000);
+        searchSourceBuilder.size(0);
         searchSourceBuilder.aggregation(
-                AggregationBuilders.sum("total_comments_sum").field("comments")
+                AggregationBuilders.sum("total_comments_sum").field(getSumField().get())
         );
         searchRequest.source(searchSourceBuilder);
         return  searchRequest;
     }
 
     @Override
-    public long performSearch(OpenSearchUtil opensearchUtil, SearchRequest request) {
-        SearchResponse searchResponse = opensearchUtil.search(request);
+    public long getMetricCount(SearchResponse searchResponse) {
         RestStatus status = searchResponse.status();
         if (status == RestStatus.OK) {
             Sum sumAgg = searchResponse.getAggregations().get("total_comments_sum");
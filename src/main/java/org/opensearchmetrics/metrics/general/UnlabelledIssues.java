@@ -24,9 +24,8 @@ public class UnlabelledIssues implements Metrics {
     }
 
     @Override
-    public BoolQueryBuilder getBoolQueryBuilder(String repo) {
+    public BoolQueryBuilder getMetricFilter() {
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
-        boolQueryBuilder.must(QueryBuilders.matchQuery("repository.keyword", repo));
         boolQueryBuilder.must(QueryBuilders.boolQuery().mustNot(QueryBuilders.existsQuery("issue_labels.keyword")));
         boolQueryBuilder.must(QueryBuilders.matchQuery("state.keyword", "open"));
         boolQueryBuilder.must(QueryBuilders.matchQuery("issue_pull_request", false));
@@ -25,9 +25,8 @@ public class UnlabelledPullRequests implements Metrics {
     }
 
     @Override
-    public BoolQueryBuilder getBoolQueryBuilder(String repo) {
+    public BoolQueryBuilder getMetricFilter() {
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
-        boolQueryBuilder.must(QueryBuilders.matchQuery("repository.keyword", repo));
         boolQueryBuilder.must(QueryBuilders.boolQuery().mustNot(QueryBuilders.existsQuery("pull_labels.keyword")));
         boolQueryBuilder.must(QueryBuilders.matchQuery("state.keyword", "open"));
         return boolQueryBuilder;
@@ -24,9 +24,8 @@ public class UntriagedIssues implements Metrics {
     }
 
     @Override
-    public BoolQueryBuilder getBoolQueryBuilder(String repo) {
+    public BoolQueryBuilder getMetricFilter() {
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
-        boolQueryBuilder.must(QueryBuilders.matchQuery("repository.keyword", repo));
         boolQueryBuilder.must(QueryBuilders.matchQuery("issue_labels.keyword", "untriaged"));
         boolQueryBuilder.must(QueryBuilders.matchQuery("state.keyword", "open"));
         boolQueryBuilder.must(QueryBuilders.matchQuery("issue_pull_request", false));
@@ -8,56 +8,127 @@
  */
 package org.opensearchmetrics.metrics.maintainer;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.terms.ParsedStringTerms;
 import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Max;
 import org.opensearch.search.aggregations.metrics.TopHits;
 import org.opensearch.search.aggregations.metrics.TopHitsAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.sort.SortOrder;
+import org.opensearchmetrics.metrics.MetricsCalculationConfig;
+import org.opensearchmetrics.metrics.events.GithubEvents;
 import org.opensearchmetrics.model.maintainer.LatestEventData;
 import org.opensearchmetrics.model.maintainer.MaintainerData;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
 import javax.inject.Inject;
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.HashSet;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class MaintainerMetrics {
     private final String GITHUB_EVENTS_INDEX = "github-user-activity-events-*";
     private final String NUM_EVENTS_SINCE = "now-6M";
+    private static final String LATEST_EVENTS_AGG = "latest_events";
+    private static final String LATEST_EVENT_AGG = "latest_event";
+    private static final int LATEST_EVENTS_PAGE_SIZE = 1000;
+    // Upper bound on the number of repos with events, far above the number of opensearch-project repos
+    private static final int REPO_EVENT_COUNTS_MAX_REPOS = 10000;
+    private static final String MAINTAINER_INACTIVITY_INDEX = "maintainer-inactivity-*";
+    private static final String LATEST_SNAPSHOT_AGG = "latest_snapshot";
+    private static final int SNAPSHOT_PAGE_SIZE = 5000;
+    // Events are indexed up to a day or so after they are created, so the events of the last days before
+    // the previous run are queried again in case they were not searchable yet at the time of that run.
+    // Events indexed later than that (a GithubEventsLambda outage, a backfill with collectionStartDate or
+    // ignoreCheckpoints) are missed by incremental runs; they are only picked up by the next full recompute,
+    // forced at least every maintainerFullRecomputeDays and whenever the previous run is older than the overlap.
+    private static final Duration WATERMARK_OVERLAP = Duration.ofDays(2);
+
+    // Event type (the GitHub event name) of every event collected by GithubEventsLambda, e.g. issues for issues.opened
+    private static final List<String> GITHUB_EVENT_TYPES = Arrays.stream(GithubEvents.getAllGithubEvents())
+            .map(event -> event.getEventName().split("\\.")[0])
+            .distinct()
+            .collect(Collectors.toUnmodifiableList());
+
+    private final MaintainersFetcher maintainersFetcher;
+    private final MetricsCalculationConfig config;
+    private final Clock clock;
+    // Event types discovered by the last query and when they expire, kept across warm Lambda invocations
+    private List<String> cachedEventTypes;
+    private Instant cachedEventTypesExpiry;
 
-    @Inject
     public MaintainerMetrics() {
+        this(new MaintainersFetcher());
+    }
+
+    public MaintainerMetrics(MaintainersFetcher maintainersFetcher) {
+        this(maintainersFetcher, new MetricsCalculationConfig());
+    }
+
+    @Inject
+    public MaintainerMetrics(MaintainersFetcher maintainersFetcher, MetricsCalculationConfig config) {
+        this(maintainersFetcher, config, Clock.systemUTC());
+    }
+
+    @VisibleForTesting
+    MaintainerMetrics(MaintainersFetcher maintainersFetcher, MetricsCalculationConfig config, Clock clock) {
+        this.maintainersFetcher = maintainersFetcher;
+        this.config = config;
+        this.clock = clock;
     }
 
     /*
-    Queries OpenSearch for all possible event types.
+    All possible event types.
+    Taken from GithubEvents when eventTypesFromGithubEvents is set, otherwise queried from OpenSearch and
+    reused for eventTypesCacheTtlMinutes, so warm invocations skip the scan of every events index.
     Returns a list of event type names.
      */
     public List<String> getEventTypes(OpenSearchUtil openSearchUtil) {
+        if (config.isEventTypesFromGithubEvents()) {
+            return GITHUB_EVENT_TYPES;
+        }
+        if (config.getEventTypesCacheTtlMinutes() <= 0) {
+            return queryEventTypes(openSearchUtil);
+        }
+        synchronized (this) {
+            Instant now = clock.instant();
+            if (cachedEventTypes == null || !now.isBefore(cachedEventTypesExpiry)) {
+                cachedEventTypes = List.copyOf(queryEventTypes(openSearchUtil));
+                cachedEventTypesExpiry = now.plus(Duration.ofMinutes(config.getEventTypesCacheTtlMinutes()));
+            }
+            return cachedEventTypes;
+        }
+    }
+
+    /*
+    Queries OpenSearch for all possible event types.
+    Returns a list of event type names.
+     */
+    private List<String> queryEventTypes(OpenSearchUtil openSearchUtil) {
         SearchRequest searchRequest = new SearchRequest(GITHUB_EVENTS_INDEX);
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.size(0);
@@ -98,15 +169,7 @@ public class MaintainerMetrics {
             TopHits topHits = searchResponse.getAggregations().get("latest_event");
             if (topHits.getHits().getHits().length > 0) {
                 Map<String, Object> latestDocument = topHits.getHits().getHits()[0].getSourceAsMap();
-                LatestEventData latestEventData = new LatestEventData();
-                latestEventData.setEventType(eventType);
-                if(latestDocument.containsKey("action")){
-                    latestEventData.setEventAction(latestDocument.get("action").toString());
-                }
-                if(latestDocument.containsKey("created_at")) {
-                    latestEventData.setTimeLastEngaged(Instant.parse(latestDocument.get("created_at").toString()));
-                }
-                return Optional.of(latestEventData);
+                return Optional.of(latestEventData(eventType, latestDocument));
             } else {
                 return Optional.empty();
             }
@@ -116,6 +179,230 @@ public class MaintainerMetrics {
 
     }
 
+    /*
+    Bulk form of queryLatestEvent: the latest event of every maintainer, repo and event type, computed with one
+    composite aggregation over (repository, sender, type) paged through with its after_key.
+    Only events of the given repos sent by one of their maintainers are aggregated; senders match the maintainer
+    login exactly. Returns repo -> maintainer login -> event type -> LatestEventData, without entries for the
+    event types a maintainer has no event of, where queryLatestEvent returns an empty Optional.
+     */
+    public Map<String, Map<String, Map<String, LatestEventData>>> queryLatestEvents(Map<String, List<String>> maintainersByRepo,
+                                                                                 OpenSearchUtil openSearchUtil) {
+        return queryLatestEvents(maintainersByRepo, null, openSearchUtil);
+    }
+
+    /*
+    queryLatestEvents over the events created at or after since only, or over all of them when since is null.
+     */
+    public Map<String, Map<String, Map<String, LatestEventData>>> queryLatestEvents(Map<String, List<String>> maintainersByRepo,
+                                                                                 Instant since, OpenSearchUtil openSearchUtil) {
+        Map<String, Map<String, Map<String, LatestEventData>>> latestEvents = new HashMap<>();
+        Set<String> logins = maintainersByRepo.values().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (logins.isEmpty()) {
+            return latestEvents;
+        }
+        Map<String, Object> afterKey = null;
+        do {
+            SearchResponse searchResponse = openSearchUtil.search(createLatestEventsSearchRequest(maintainersByRepo.keySet(), logins, since, afterKey));
+            if (searchResponse.status() != RestStatus.OK) {
+                throw new RuntimeException("Error connecting to the cluster");
+            }
+            CompositeAggregation compositeAggregation = searchResponse.getAggregations().get(LATEST_EVENTS_AGG);
+            for (CompositeAggregation.Bucket bucket : compositeAggregation.getBuckets()) {
+                String repo = bucket.getKey().get("repository").toString();
+                String login = bucket.getKey().get("sender").toString();
+                String eventType = bucket.getKey().get("type").toString();
+                // A maintainer of one repo acting on another repo of the query is not a maintainer there
+                if (!maintainersByRepo.getOrDefault(repo, List.of()).contains(login)) {
+                    continue;
+                }
+                TopHits topHits = bucket.getAggregations().get(LATEST_EVENT_AGG);
+                if (topHits.getHits().getHits().length > 0) {
+                    Map<String, Object> latestDocument = topHits.getHits().getHits()[0].getSourceAsMap();
+                    latestEvents.computeIfAbsent(repo, key -> new HashMap<>())
+                            .computeIfAbsent(login, key -> new HashMap<>())
+                            .put(eventType, latestEventData(eventType, latestDocument));
+                }
+            }
+            // A page with fewer buckets than requested is the last one
+            afterKey = compositeAggregation.getBuckets().size() < LATEST_EVENTS_PAGE_SIZE ? null : compositeAggregation.afterKey();
+        } while (afterKey != null);
+        return latestEvents;
+    }
+
+    public SearchRequest createLatestEventsSearchRequest(Collection<String> repositories, Collection<String> logins, Map<String, Object> afterKey) {
+        return createLatestEventsSearchRequest(repositories, logins, null, afterKey);
+    }
+
+    public SearchRequest createLatestEventsSearchRequest(Collection<String> repositories, Collection<String> logins, Instant since,
+                                                         Map<String, Object> afterKey) {
+        List<CompositeValuesSourceBuilder<?>> sources = List.of(
+                new TermsValuesSourceBuilder("repository").field("repository.keyword"),
+                new TermsValuesSourceBuilder("sender").field("sender.keyword"),
+                new TermsValuesSourceBuilder("type").field("type.keyword"));
+        CompositeAggregationBuilder aggregation = AggregationBuilders.composite(LATEST_EVENTS_AGG, sources)
+                .size(LATEST_EVENTS_PAGE_SIZE)
+                .subAggregation(AggregationBuilders.topHits(LATEST_EVENT_AGG)
+                        .size(1)
+                        .sort("created_at", SortOrder.DESC)
+                        .fetchSource(new String[]{"action", "created_at"}, null));
+        if (afterKey != null) {
+            aggregation.aggregateAfter(afterKey);
+        }
+        BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termsQuery("repository.keyword", repositories))
+                .filter(QueryBuilders.termsQuery("sender.keyword", logins));
+        if (since != null) {
+            boolQueryBuilder.filter(QueryBuilders.rangeQuery("created_at").gte(since.toString()));
+        }
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.query(boolQueryBuilder);
+        searchSourceBuilder.size(0);
+        searchSourceBuilder.aggregation(aggregation);
+        SearchRequest searchRequest = new SearchRequest(GITHUB_EVENTS_INDEX);
+        searchRequest.source(searchSourceBuilder);
+        return searchRequest;
+    }
+
+    /*
+    Incremental form of queryLatestEvents, starting from the documents of the previous run.
+    Maintainers the snapshot has every event type of only have their events since the previous run queried,
+    each of which replaces the snapshot's latest event of its type when newer. Other maintainers, new ones or
+    ones with an event type new since the previous run, have their full history queried.
+    Returns the same repo -> maintainer login -> event type -> LatestEventData map as queryLatestEvents.
+     */
+    public Map<String, Map<String, Map<String, LatestEventData>>> updateLatestEvents(MaintainerSnapshot snapshot,
+                                                                                  Map<String, List<String>> maintainersByRepo,
+                                                                                  List<String> eventTypes,
+                                                                                  OpenSearchUtil openSearchUtil) {
+        Map<String, List<String>> knownMaintainersByRepo = new HashMap<>();
+        Map<String, List<String>> newMaintainersByRepo = new HashMap<>();
+        maintainersByRepo.forEach((repo, logins) -> {
+            for (String login : logins) {
+                (snapshot.covers(repo, login, eventTypes) ? knownMaintainersByRepo : newMaintainersByRepo)
+                        .computeIfAbsent(repo, key -> new ArrayList<>())
+                        .add(login);
+            }
+        });
+        Map<String, Map<String, Map<String, LatestEventData>>> latestEvents = queryLatestEvents(newMaintainersByRepo, openSearchUtil);
+        Map<String, Map<String, Map<String, LatestEventData>>> recentEvents = queryLatestEvents(knownMaintainersByRepo,
+                snapshot.getWatermark().minus(WATERMARK_OVERLAP), openSearchUtil);
+        knownMaintainersByRepo.forEach((repo, logins) -> {
+            for (String login : logins) {
+                Map<String, LatestEventData> maintainerRecentEvents = recentEvents.getOrDefault(repo, Map.of()).getOrDefault(login, Map.of());
+                for (String eventType : eventTypes) {
+                    LatestEventData recentEvent = maintainerRecentEvents.get(eventType);
+                    Optional<LatestEventData> previousEvent = snapshot.latestEvent(repo, login, eventType);
+                    LatestEventData latestEvent = recentEvent != null && recentEvent.getTimeLastEngaged() != null
+                            && previousEvent.map(event -> recentEvent.getTimeLastEngaged().isAfter(event.getTimeLastEngaged())).orElse(true)
+                            ? recentEvent
+                            : previousEvent.orElse(null);
+                    if (latestEvent != null) {
+                        latestEvents.computeIfAbsent(repo, key -> new HashMap<>())
+                                .computeIfAbsent(login, key -> new HashMap<>())
+                                .put(eventType, latestEvent);
+                    }
+                }
+            }
+        });
+        return latestEvents;
+    }
+
+    /*
+    Reads the maintainer-inactivity documents of the latest run, paged through in id order.
+    Returns an empty Optional, so the latest events are recomputed from scratch, when there was no previous run
+    or a full recompute is due.
+     */
+    public Optional<MaintainerSnapshot> previousSnapshot(OpenSearchUtil openSearchUtil) {
+        SearchRequest latestRequest = new SearchRequest(MAINTAINER_INACTIVITY_INDEX);
+        SearchSourceBuilder latestSource = new SearchSourceBuilder();
+        latestSource.size(0);
+        latestSource.aggregation(AggregationBuilders.max(LATEST_SNAPSHOT_AGG).field("current_date"));
+        latestRequest.source(latestSource);
+        SearchResponse latestResponse = openSearchUtil.search(latestRequest);
+        if (latestResponse.status() != RestStatus.OK) {
+            throw new RuntimeException("Error connecting to the cluster");
+        }
+        Max latestSnapshot = latestResponse.getAggregations().get(LATEST_SNAPSHOT_AGG);
+        if (Double.isInfinite(latestSnapshot.getValue())) {
+            return Optional.empty();
+        }
+        long snapshotMillis = (long) latestSnapshot.getValue();
+        if (isFullRecomputeDue(Instant.ofEpochMilli(snapshotMillis))) {
+            System.out.println("Recomputing the latest maintainer events from scratch");
+            return Optional.empty();
+        }
+        List<MaintainerData> documents = new ArrayList<>();
+        Object[] searchAfter = null;
+        SearchHit[] hits;
+        do {
+            SearchRequest searchRequest = new SearchRequest(MAINTAINER_INACTIVITY_INDEX);
+            SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+            searchSourceBuilder.query(QueryBuilders.rangeQuery("current_date").gte(snapshotMillis).format("epoch_millis"));
+            searchSourceBuilder.size(SNAPSHOT_PAGE_SIZE);
+            searchSourceBuilder.sort("id.keyword", SortOrder.ASC);
+            if (searchAfter != null) {
+                searchSourceBuilder.searchAfter(searchAfter);
+            }
+            searchRequest.source(searchSourceBuilder);
+            SearchResponse searchResponse = openSearchUtil.search(searchRequest);
+            if (searchResponse.status() != RestStatus.OK) {
+                throw new RuntimeException("Error connecting to the cluster");
+            }
+            hits = searchResponse.getHits().getHits();
+            for (SearchHit hit : hits) {
+                documents.add(snapshotDocument(hit.getSourceAsMap()));
+            }
+            if (hits.length > 0) {
+                searchAfter = hits[hits.length - 1].getSortValues();
+            }
+        } while (hits.length == SNAPSHOT_PAGE_SIZE);
+        return Optional.of(new MaintainerSnapshot(Instant.ofEpochMilli(snapshotMillis), documents));
+    }
+
+    /*
+    A full recompute is due when the previous run is older than WATERMARK_OVERLAP, or on the first run of every
+    period of maintainerFullRecomputeDays days (counted from the epoch), so events indexed too late for the overlap
+    are not carried forward indefinitely.
+     */
+    private boolean isFullRecomputeDue(Instant watermark) {
+        Instant now = clock.instant();
+        if (now.isAfter(watermark.plus(WATERMARK_OVERLAP))) {
+            return true;
+        }
+        int fullRecomputeDays = config.getMaintainerFullRecomputeDays();
+        if (fullRecomputeDays <= 0) {
+            return false;
+        }
+        long nowDay = Math.floorDiv(now.getEpochSecond(), Duration.ofDays(1).getSeconds());
+        long watermarkDay = Math.floorDiv(watermark.getEpochSecond(), Duration.ofDays(1).getSeconds());
+        return Math.floorDiv(nowDay, fullRecomputeDays) != Math.floorDiv(watermarkDay, fullRecomputeDays);
+    }
+
+    private MaintainerData snapshotDocument(Map<String, Object> source) {
+        MaintainerData maintainerData = new MaintainerData();
+        maintainerData.setRepository((String) source.get("repository"));
+        maintainerData.setGithubLogin((String) source.get("github_login"));
+        maintainerData.setEventType((String) source.get("event_type"));
+        maintainerData.setEventAction((String) source.get("event_action"));
+        maintainerData.setTimeLastEngaged((String) source.get("time_last_engaged"));
+        return maintainerData;
+    }
+
+    private LatestEventData latestEventData(String eventType, Map<String, Object> latestDocument) {
+        LatestEventData latestEventData = new LatestEventData();
+        latestEventData.setEventType(eventType);
+        if (latestDocument.containsKey("action")) {
+            latestEventData.setEventAction(latestDocument.get("action").toString());
+        }
+        if (latestDocument.containsKey("created_at")) {
+            latestEventData.setTimeLastEngaged(Instant.parse(latestDocument.get("created_at").toString()));
+        }
+        return latestEventData;
+    }
+
     /*
     Queries OpenSearch for the number of events in the repo with the most events and
     queries for the number of events in the repo with the least events.
@@ -161,6 +448,38 @@ public class MaintainerMetrics {
         }
     }
 
+    /*
+    Queries OpenSearch once for the number of events of every repo, with a terms aggregation over the same
+    window as repoEventCount and mostAndLeastRepoEventCounts.
+    Returns a RepoActivityProfile that serves both from memory.
+    */
+    public RepoActivityProfile repoActivityProfile(OpenSearchUtil openSearchUtil) {
+        SearchRequest searchRequest = new SearchRequest(GITHUB_EVENTS_INDEX);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.query(QueryBuilders.boolQuery().must(QueryBuilders.rangeQuery("created_at").gte(NUM_EVENTS_SINCE)));
+        searchSourceBuilder.aggregation(AggregationBuilders.terms("repo_event_counts")
+                .field("repository.keyword")
+                .size(REPO_EVENT_COUNTS_MAX_REPOS));
+        searchSourceBuilder.size(0);
+        searchRequest.source(searchSourceBuilder);
+        SearchResponse searchResponse = openSearchUtil.search(searchRequest);
+        RestStatus status = searchResponse.status();
+        if (status == RestStatus.OK) {
+            Terms repoEventCounts = searchResponse.getAggregations().get("repo_event_counts");
+            // Repos left out of the buckets would count as 0 events
+            if (repoEventCounts.getSumOfOtherDocCounts() > 0) {
+                throw new RuntimeException("More than " + REPO_EVENT_COUNTS_MAX_REPOS + " repos with events");
+            }
+            Map<String, Long> counts = new HashMap<>();
+            for (Terms.Bucket bucket : repoEventCounts.getBuckets()) {
+                counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+            }
+            return new RepoActivityProfile(counts);
+        } else {
+            throw new RuntimeException("Error connecting to the cluster");
+        }
+    }
+
     /*
     Given a repo: queries OpenSearch for the number of events in that repo
     Returns this value.
@@ -173,6 +492,7 @@ public class MaintainerMetrics {
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(boolQueryBuilder);
         searchSourceBuilder.size(0);
+        searchSourceBuilder.trackTotalHits(true);
         searchRequest.source(searchSourceBuilder);
         SearchResponse searchResponse = openSearchUtil.search(searchRequest);
         RestStatus status = searchResponse.status();
@@ -236,46 +556,14 @@ public class MaintainerMetrics {
     Returns a List of MaintainerData objects.
     */
     public List<MaintainerData> repoMaintainers(String repo) {
-        String rawMaintainersFile = String.format("https://raw.githubusercontent.com/opensearch-project/%s/main/MAINTAINERS.md", repo);
-        boolean isEmeritusSection = false;
-        List<MaintainerData> maintainersList = new ArrayList<>();
-        Set<String> maintainerIdSet = new HashSet<>();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new URL(rawMaintainersFile).openStream(),
-                StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-                if (line.startsWith("|")) {
-                    String[] columns = line.split("\\|");
-                    if (columns.length >= 4) {
-                        String maintainer = columns[1].trim();
-                        Pattern pattern = Pattern.compile("\\[(.*?)\\]");
-                        Matcher matcher = pattern.matcher(columns[2]);
-                        String githubId = matcher.find() ? matcher.group(1) : "";
-                        String affiliation = columns[3].trim();
-                        if (!isEmeritusSection && !maintainer.toLowerCase().contains("emeritus") && !githubId.isEmpty()) {
-                            MaintainerData maintainerData = new MaintainerData();
-                            maintainerData.setRepository(repo);
-                            maintainerData.setName(maintainer);
-                            maintainerData.setGithubLogin(githubId);
-                            maintainerData.setAffiliation(affiliation);
-                            if(!maintainerIdSet.contains(githubId)){ // Add only unique github ids
-                                maintainerIdSet.add(githubId);
-                                maintainersList.add(maintainerData);
-                            }
-                        }
-                    }
-                } else if (line.contains("Emeritus")) {
-                    isEmeritusSection = true;
-                } else if (!line.isEmpty() && isEmeritusSection) {
-                    isEmeritusSection = false;
-                }
-            }
-        } catch (FileNotFoundException e) {
-            return maintainersList;
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return maintainersList;
+        return maintainersFetcher.fetch(repo);
+    }
+
+    /*
+    repoMaintainers of every repo, fetched concurrently.
+    Returns repo -> List of MaintainerData objects, in the order of repositories.
+    */
+    public Map<String, List<MaintainerData>> maintainersByRepo(List<String> repositories) {
+        return maintainersFetcher.fetchAll(repositories);
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.maintainer;
+
+import org.opensearchmetrics.model.maintainer.LatestEventData;
+import org.opensearchmetrics.model.maintainer.MaintainerData;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+The per event type maintainer-inactivity documents of the previous run, and the time that run was made at.
+Every event of a maintainer created before that time is already reflected in their latest events.
+ */
+public class MaintainerSnapshot {
+    private static final String ALL_EVENT_TYPES = "All";
+
+    private final Instant watermark;
+    // repo -> maintainer login -> event type -> latest event, without a time last engaged when there was none
+    private final Map<String, Map<String, Map<String, LatestEventData>>> latestEvents = new HashMap<>();
+
+    public MaintainerSnapshot(Instant watermark, Collection<MaintainerData> documents) {
+        this.watermark = watermark;
+        for (MaintainerData document : documents) {
+            if (ALL_EVENT_TYPES.equals(document.getEventType())) {
+                continue;
+            }
+            LatestEventData latestEvent = new LatestEventData();
+            latestEvent.setEventType(document.getEventType());
+            latestEvent.setEventAction(document.getEventAction());
+            if (document.getTimeLastEngaged() != null) {
+                latestEvent.setTimeLastEngaged(Instant.parse(document.getTimeLastEngaged()));
+            }
+            latestEvents.computeIfAbsent(document.getRepository(), key -> new HashMap<>())
+                    .computeIfAbsent(document.getGithubLogin(), key -> new HashMap<>())
+                    .put(document.getEventType(), latestEvent);
+        }
+    }
+
+    public Instant getWatermark() {
+        return watermark;
+    }
+
+    /*
+    Whether the snapshot has a document for every event type of the maintainer of repo.
+    A maintainer or event type that is new since the previous run needs its full history queried.
+     */
+    public boolean covers(String repo, String login, List<String> eventTypes) {
+        Map<String, LatestEventData> maintainerEvents = latestEvents.getOrDefault(repo, Map.of()).get(login);
+        return maintainerEvents != null && maintainerEvents.keySet().containsAll(eventTypes);
+    }
+
+    /*
+    Latest event of the maintainer of repo for an event type as of the previous run, empty when there was none.
+     */
+    public Optional<LatestEventData> latestEvent(String repo, String login, String eventType) {
+        LatestEventData latestEvent = latestEvents.getOrDefault(repo, Map.of()).getOrDefault(login, Map.of()).get(eventType);
+        if (latestEvent == null || latestEvent.getTimeLastEngaged() == null) {
+            return Optional.empty();
+        }
+        LatestEventData copy = new LatestEventData();
+        copy.setEventType(latestEvent.getEventType());
+        copy.setEventAction(latestEvent.getEventAction());
+        copy.setTimeLastEngaged(latestEvent.getTimeLastEngaged());
+        return Optional.of(copy);
+    }
+}
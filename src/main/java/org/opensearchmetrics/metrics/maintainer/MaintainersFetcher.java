@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.maintainer;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.opensearchmetrics.model.maintainer.MaintainerData;
+import org.opensearchmetrics.util.HttpContentCache;
+
+import javax.inject.Inject;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/*
+Fetches and parses the MAINTAINERS.md file of repos through the shared HttpContentCache, many repos at a time.
+A file unchanged since the previous fetch (in this run or an earlier one of the same Lambda container) comes back as a 304.
+ */
+public class MaintainersFetcher {
+    private static final String MAINTAINERS_FILE_URL = "https://raw.githubusercontent.com/opensearch-project/%s/main/MAINTAINERS.md";
+    private static final int FETCH_CONCURRENCY = 16;
+    private static final Pattern COLUMN_SEPARATOR = Pattern.compile("\\|");
+    private static final Pattern GITHUB_ID = Pattern.compile("\\[(.*?)\\]");
+
+    private final HttpContentCache httpContentCache;
+    private final String maintainersFileUrl;
+    private final int fetchConcurrency;
+
+    public MaintainersFetcher() {
+        this(new HttpContentCache());
+    }
+
+    @Inject
+    public MaintainersFetcher(HttpContentCache httpContentCache) {
+        this(httpContentCache, MAINTAINERS_FILE_URL, FETCH_CONCURRENCY);
+    }
+
+    /*
+    maintainersFileUrl is a format string taking the repo name.
+     */
+    @VisibleForTesting
+    MaintainersFetcher(HttpContentCache httpContentCache, String maintainersFileUrl, int fetchConcurrency) {
+        this.httpContentCache = httpContentCache;
+        this.maintainersFileUrl = maintainersFileUrl;
+        this.fetchConcurrency = fetchConcurrency;
+    }
+
+    /*
+    Maintainers of repo, or an empty list when the repo has no MAINTAINERS.md.
+     */
+    public List<MaintainerData> fetch(String repo) {
+        return fetchFile(String.format(maintainersFileUrl, repo))
+                .map(body -> parseMaintainers(repo, body))
+                .orElseGet(ArrayList::new);
+    }
+
+    /*
+    Maintainers of every repo, fetched fetchConcurrency repos at a time. Returns repo -> maintainers in input order.
+     */
+    public Map<String, List<MaintainerData>> fetchAll(List<String> repositories) {
+        Map<String, List<MaintainerData>> maintainersByRepo = new LinkedHashMap<>();
+        if (repositories.isEmpty()) {
+            return maintainersByRepo;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(fetchConcurrency, repositories.size()),
+                new ThreadFactoryBuilder().setNameFormat("maintainers-fetch-%d").setDaemon(true).build());
+        try {
+            Map<String, Future<List<MaintainerData>>> futures = new LinkedHashMap<>();
+            for (String repo : repositories) {
+                futures.put(repo, executor.submit(() -> fetch(repo)));
+            }
+            for (Map.Entry<String, Future<List<MaintainerData>>> future : futures.entrySet()) {
+                maintainersByRepo.put(future.getKey(), future.getValue().get());
+            }
+            return maintainersByRepo;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /*
+    Body of the file at url, empty when there is none. A failed request falls back to the cached body, if any.
+     */
+    private Optional<String> fetchFile(String url) {
+        try {
+            return Optional.of(httpContentCache.get(url));
+        } catch (FileNotFoundException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            System.out.println("Error fetching " + url + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /*
+    Scrapes the maintainers' info from the tables of a MAINTAINERS.md file, skipping the Emeritus section.
+    Stores maintainer info in MaintainerData objects, one per unique GitHub id.
+     */
+    @VisibleForTesting
+    static List<MaintainerData> parseMaintainers(String repo, String maintainersFile) {
+        boolean isEmeritusSection = false;
+        List<MaintainerData> maintainersList = new ArrayList<>();
+        Set<String> maintainerIdSet = new HashSet<>();
+        for (String line : maintainersFile.lines().collect(Collectors.toList())) {
+            line = line.trim();
+            if (line.startsWith("|")) {
+                String[] columns = COLUMN_SEPARATOR.split(line);
+                if (columns.length >= 4) {
+                    String maintainer = columns[1].trim();
+                    Matcher matcher = GITHUB_ID.matcher(columns[2]);
+                    String githubId = matcher.find() ? matcher.group(1) : "";
+                    String affiliation = columns[3].trim();
+                    if (!isEmeritusSection && !maintainer.toLowerCase().contains("emeritus") && !githubId.isEmpty()) {
+                        MaintainerData maintainerData = new MaintainerData();
+                        maintainerData.setRepository(repo);
+                        maintainerData.setName(maintainer);
+                        maintainerData.setGithubLogin(githubId);
+                        maintainerData.setAffiliation(affiliation);
+                        if (maintainerIdSet.add(githubId)) { // Add only unique github ids
+                            maintainersList.add(maintainerData);
+                        }
+                    }
+                }
+            } else if (line.contains("Emeritus")) {
+                isEmeritusSection = true;
+            } else if (!line.isEmpty() && isEmeritusSection) {
+                isEmeritusSection = false;
+            }
+        }
+        return maintainersList;
+    }
+}
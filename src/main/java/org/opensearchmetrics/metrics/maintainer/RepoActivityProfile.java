@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.maintainer;
+
+import java.util.Map;
+
+/*
+Number of events of every repo in the inactivity window, fetched once per run.
+Serves the per-repo counts and their bounds (the most and least active repos) from memory.
+ */
+public class RepoActivityProfile {
+    private final Map<String, Long> repoEventCounts;
+    private final long mostRepoEventCount;
+    private final long leastRepoEventCount;
+
+    public RepoActivityProfile(Map<String, Long> repoEventCounts) {
+        if (repoEventCounts.isEmpty()) {
+            throw new RuntimeException("Error retrieving event counts");
+        }
+        this.repoEventCounts = Map.copyOf(repoEventCounts);
+        this.mostRepoEventCount = repoEventCounts.values().stream().mapToLong(Long::longValue).max().getAsLong();
+        this.leastRepoEventCount = repoEventCounts.values().stream().mapToLong(Long::longValue).min().getAsLong();
+    }
+
+    /*
+    Number of events in repo, 0 when it had none in the window.
+     */
+    public long repoEventCount(String repo) {
+        return repoEventCounts.getOrDefault(repo, 0L);
+    }
+
+    /*
+    Same format as MaintainerMetrics.mostAndLeastRepoEventCounts:
+    [# of events in the repo with the most events, # of events in the repo with the least events]
+     */
+    public long[] mostAndLeastRepoEventCounts() {
+        return new long[]{mostRepoEventCount, leastRepoEventCount};
+    }
+}
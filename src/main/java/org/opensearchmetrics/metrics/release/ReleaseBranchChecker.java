@@ -11,21 +11,25 @@ package org.opensearchmetrics.metrics.release;
 import javax.inject.Inject;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class ReleaseBranchChecker {
 
     private final UrlResponse urlResponse;
+    private final UrlProber urlProber;
+
     @Inject
-    public ReleaseBranchChecker(UrlResponse urlResponse) {
+    public ReleaseBranchChecker(UrlResponse urlResponse, UrlProber urlProber) {
         this.urlResponse = urlResponse;
+        this.urlProber = urlProber;
     }
 
     public Boolean releaseBranch (String releaseVersion, String repo) {
-        Matcher matcher = Pattern.compile("(\\d+)\\.(\\d+)").matcher(releaseVersion);
-        String releaseBranch = matcher.find() ? matcher.group(1) + "." + matcher.group(2) : "";
-        String releaseBranchUrl = String.format("https://github.com/opensearch-project/%s/tree/%s", repo, releaseBranch);
+        String releaseBranchUrl = releaseBranchUrl(releaseVersion, repo);
 
         try {
             int responseCode = urlResponse.getUrlResponse(releaseBranchUrl).getResponseCode();
@@ -39,4 +43,22 @@ public class ReleaseBranchChecker {
         }
     }
 
+    /*
+    releaseBranch of every repo, probed in one batch. Returns repo -> whether its release branch exists.
+     */
+    public Map<String, Boolean> releaseBranches(String releaseVersion, List<String> repos) {
+        Map<String, String> releaseBranchUrls = new LinkedHashMap<>();
+        repos.forEach(repo -> releaseBranchUrls.put(repo, releaseBranchUrl(releaseVersion, repo)));
+        Map<String, Integer> statusCodes = urlProber.statusCodes(releaseBranchUrls.values());
+        Map<String, Boolean> releaseBranches = new LinkedHashMap<>();
+        releaseBranchUrls.forEach((repo, url) -> releaseBranches.put(repo, statusCodes.get(url) == HttpURLConnection.HTTP_OK));
+        return releaseBranches;
+    }
+
+    private String releaseBranchUrl(String releaseVersion, String repo) {
+        Matcher matcher = Pattern.compile("(\\d+)\\.(\\d+)").matcher(releaseVersion);
+        String releaseBranch = matcher.find() ? matcher.group(1) + "." + matcher.group(2) : "";
+        return String.format("https://github.com/opensearch-project/%s/tree/%s", repo, releaseBranch);
+    }
+
 }
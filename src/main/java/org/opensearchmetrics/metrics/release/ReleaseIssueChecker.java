@@ -35,7 +35,7 @@ public class ReleaseIssueChecker {
         SearchRequest searchRequest = new SearchRequest("github_issues");
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(boolQueryBuilder);
-        searchSourceBuilder.size(9000);
+        searchSourceBuilder.size(0);
         searchSourceBuilder.aggregation(
                 AggregationBuilders.terms("issue_assignees")
                         .field("issue_assignees.keyword")
@@ -58,7 +58,8 @@ public class ReleaseIssueChecker {
         SearchRequest searchRequest = new SearchRequest("github_issues");
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(boolQueryBuilder);
-        searchSourceBuilder.size(9000);
+        searchSourceBuilder.size(1);
+        searchSourceBuilder.fetchSource(new String[]{"html_url"}, null);
         searchRequest.source(searchSourceBuilder);
         SearchResponse searchResponse = openSearchUtil.search(searchRequest);
         SearchHit[] hits = searchResponse.getHits().getHits();
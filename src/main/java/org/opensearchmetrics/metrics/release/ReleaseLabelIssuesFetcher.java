@@ -35,7 +35,8 @@ public class ReleaseLabelIssuesFetcher {
         SearchRequest searchRequest = new SearchRequest("github_issues");
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(boolQueryBuilder);
-        searchSourceBuilder.size(9000);
+        searchSourceBuilder.size(0);
+        searchSourceBuilder.trackTotalHits(true);
         searchRequest.source(searchSourceBuilder);
         SearchResponse searchResponse;
         searchResponse = openSearchUtil.search(searchRequest);
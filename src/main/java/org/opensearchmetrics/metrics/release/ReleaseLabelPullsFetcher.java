@@ -31,7 +31,8 @@ public class ReleaseLabelPullsFetcher {
         SearchRequest searchRequest = new SearchRequest("github_pulls");
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(boolQueryBuilder);
-        searchSourceBuilder.size(9000);
+        searchSourceBuilder.size(0);
+        searchSourceBuilder.trackTotalHits(true);
         searchRequest.source(searchSourceBuilder);
         SearchResponse searchResponse;
         searchResponse = openSearchUtil.search(searchRequest);
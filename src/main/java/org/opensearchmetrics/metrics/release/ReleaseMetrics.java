@@ -39,11 +39,14 @@ public class ReleaseMetrics {
 
     private final CodeCoverage codeCoverage;
 
+    private final ReleaseMetricsAggregator releaseMetricsAggregator;
+
     @Inject
     public ReleaseMetrics(OpenSearchUtil openSearchUtil, ObjectMapper objectMapper, ReleaseRepoFetcher releaseRepoFetcher,
                           ReleaseLabelIssuesFetcher releaseLabelIssuesFetcher, ReleaseLabelPullsFetcher releaseLabelPullsFetcher,
                           ReleaseVersionIncrementChecker releaseVersionIncrementChecker, ReleaseBranchChecker releaseBranchChecker,
-                          ReleaseNotesChecker releaseNotesChecker, ReleaseIssueChecker releaseIssueChecker, CodeCoverage codeCoverage) {
+                          ReleaseNotesChecker releaseNotesChecker, ReleaseIssueChecker releaseIssueChecker, CodeCoverage codeCoverage,
+                          ReleaseMetricsAggregator releaseMetricsAggregator) {
         this.openSearchUtil = openSearchUtil;
         this.objectMapper = objectMapper;
         this.releaseRepoFetcher = releaseRepoFetcher;
@@ -54,6 +57,7 @@ public class ReleaseMetrics {
         this.releaseNotesChecker = releaseNotesChecker;
         this.releaseIssueChecker = releaseIssueChecker;
         this.codeCoverage = codeCoverage;
+        this.releaseMetricsAggregator = releaseMetricsAggregator;
     }
 
     public Map<String, String> getReleaseRepos(String releaseVersion) {
@@ -73,7 +77,15 @@ public class ReleaseMetrics {
         return releaseVersionIncrementChecker.releaseVersionIncrement(releaseVersion, repo, branch, objectMapper, openSearchUtil);
     }
 
-    public Boolean getReleaseNotes (String releaseVersion, String repo, String releaseBranch) {
+    /*
+    getReleaseVersionIncrement with the github_pulls check answered by ReleaseRepoMetrics.isVersionIncrementMerged.
+     */
+    public boolean getReleaseVersionIncrement (String releaseVersion, String repo, String branch, ReleaseRepoMetrics releaseRepoMetrics) {
+        return releaseVersionIncrementChecker.checkVersionIncrement(releaseVersion, repo, branch, objectMapper,
+                releaseRepoMetrics::isVersionIncrementMerged);
+    }
+
+        public Boolean getReleaseNotes (String releaseVersion, String repo, String releaseBranch) {
         return releaseNotesChecker.releaseNotes(releaseVersion, repo, releaseBranch);
     }
 
@@ -81,6 +93,20 @@ public class ReleaseMetrics {
         return releaseBranchChecker.releaseBranch(releaseVersion, repo);
     }
 
+    /*
+    getReleaseNotes of every repo of a release, probed concurrently in one batch.
+     */
+    public Map<String, Boolean> getReleaseNotes (String releaseVersion, List<String> repos, String releaseBranch) {
+        return releaseNotesChecker.releaseNotes(releaseVersion, repos, releaseBranch);
+    }
+
+    /*
+    getReleaseBranch of every repo of a release, probed concurrently in one batch.
+     */
+    public Map<String, Boolean> getReleaseBranches (String releaseVersion, List<String> repos) {
+        return releaseBranchChecker.releaseBranches(releaseVersion, repos);
+    }
+
     public String[] getReleaseOwners (String releaseVersion, String repo) {
         return releaseIssueChecker.releaseOwners(releaseVersion, repo, openSearchUtil);
     }
@@ -89,7 +115,14 @@ public class ReleaseMetrics {
         return releaseIssueChecker.releaseIssue(releaseVersion, repo, openSearchUtil);
     }
 
-    public CodeCovResponse getCodeCoverage (String branch, String repo) {
+    /*
+    The label counts, release owners, release issue and version increment pull of every repo of a release, in one _msearch.
+     */
+    public Map<String, ReleaseRepoMetrics> getReleaseRepoMetrics (String releaseVersion, List<String> repos) {
+        return releaseMetricsAggregator.aggregate(releaseVersion, repos, openSearchUtil);
+    }
+
+        public CodeCovResponse getCodeCoverage (String branch, String repo) {
         return codeCoverage.coverage(branch, repo);
     }
 
@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.release;
+
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.filter.Filter;
+import org.opensearch.search.aggregations.bucket.filter.Filters;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregator;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.TopHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearchmetrics.util.OpenSearchUtil;
+
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+Computes the label counts, release owners, release issue and version increment pull of every repo of a release
+with one _msearch of two size(0) searches, one over github_issues and one over github_pulls.
+Each repository is a terms bucket; each count is a keyed bucket of a filters aggregation inside it, and the
+release issue is a filter bucket with the assignees terms and a top_hits for its html_url.
+ */
+public class ReleaseMetricsAggregator {
+    private static final String ISSUES_INDEX = "github_issues";
+    private static final String PULLS_INDEX = "github_pulls";
+    private static final String REPOS_AGG = "repos";
+    private static final String COUNTS_AGG = "counts";
+    private static final String RELEASE_ISSUE_AGG = "release_issue";
+    private static final String RELEASE_OWNERS_AGG = "issue_assignees";
+    private static final String RELEASE_ISSUE_HIT_AGG = "release_issue_hit";
+    private static final String ISSUES_OPEN = "issues_open";
+    private static final String AUTOCUT_ISSUES_OPEN = "autocut_issues_open";
+    private static final String ISSUES_CLOSED = "issues_closed";
+    private static final String PULLS_OPEN = "pulls_open";
+    private static final String PULLS_CLOSED = "pulls_closed";
+    private static final String VERSION_INCREMENT = "version_increment";
+
+    @Inject
+    public ReleaseMetricsAggregator() {
+    }
+
+    /*
+    Returns repository -> ReleaseRepoMetrics for every requested repository, in input order.
+    Repositories without any matching document get the values the single searches would report: 0 counts,
+    no release owners or issue and no merged version increment pull.
+     */
+    public Map<String, ReleaseRepoMetrics> aggregate(String releaseVersion, List<String> repositories, OpenSearchUtil openSearchUtil) {
+        Map<String, ReleaseRepoMetrics> results = new LinkedHashMap<>();
+        repositories.forEach(repo -> results.put(repo, new ReleaseRepoMetrics()));
+        if (repositories.isEmpty()) {
+            return results;
+        }
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        multiSearchRequest.add(createIssuesSearchRequest(releaseVersion, repositories));
+        multiSearchRequest.add(createPullsSearchRequest(releaseVersion, repositories));
+        MultiSearchResponse.Item[] items = openSearchUtil.multiSearch(multiSearchRequest).getResponses();
+
+        for (Terms.Bucket bucket : repoBuckets(items[0], ISSUES_INDEX)) {
+            ReleaseRepoMetrics repoMetrics = results.get(bucket.getKeyAsString());
+            if (repoMetrics == null) {
+                continue;
+            }
+            Filters counts = bucket.getAggregations().get(COUNTS_AGG);
+            repoMetrics.setIssuesOpen(docCount(counts, ISSUES_OPEN));
+            repoMetrics.setAutocutIssuesOpen(docCount(counts, AUTOCUT_ISSUES_OPEN));
+            repoMetrics.setIssuesClosed(docCount(counts, ISSUES_CLOSED));
+            Filter releaseIssue = bucket.getAggregations().get(RELEASE_ISSUE_AGG);
+            Terms releaseOwners = releaseIssue.getAggregations().get(RELEASE_OWNERS_AGG);
+            repoMetrics.setReleaseOwners(releaseOwners.getBuckets().stream()
+                    .map(Terms.Bucket::getKeyAsString)
+                    .toArray(String[]::new));
+            TopHits releaseIssueHit = releaseIssue.getAggregations().get(RELEASE_ISSUE_HIT_AGG);
+            repoMetrics.setReleaseIssue(Arrays.stream(releaseIssueHit.getHits().getHits())
+                    .findFirst()
+                    .map(hit -> (String) hit.getSourceAsMap().get("html_url"))
+                    .orElse(null));
+        }
+        for (Terms.Bucket bucket : repoBuckets(items[1], PULLS_INDEX)) {
+            ReleaseRepoMetrics repoMetrics = results.get(bucket.getKeyAsString());
+            if (repoMetrics == null) {
+                continue;
+            }
+            Filters counts = bucket.getAggregations().get(COUNTS_AGG);
+            repoMetrics.setPullsOpen(docCount(counts, PULLS_OPEN));
+            repoMetrics.setPullsClosed(docCount(counts, PULLS_CLOSED));
+            repoMetrics.setVersionIncrementMerged(docCount(counts, VERSION_INCREMENT) > 0);
+        }
+        return results;
+    }
+
+    public SearchRequest createIssuesSearchRequest(String releaseVersion, List<String> repositories) {
+        String releaseLabel = "v" + releaseVersion;
+        String releaseIssueTitle = "[RELEASE] Release version " + releaseVersion;
+        FiltersAggregator.KeyedFilter[] counts = {
+                new FiltersAggregator.KeyedFilter(ISSUES_OPEN, QueryBuilders.boolQuery()
+                        .filter(QueryBuilders.termQuery("state.keyword", "open"))
+                        .filter(QueryBuilders.termQuery("issue_labels.keyword", releaseLabel))),
+                new FiltersAggregator.KeyedFilter(AUTOCUT_ISSUES_OPEN, QueryBuilders.boolQuery()
+                        .filter(QueryBuilders.termQuery("state.keyword", "open"))
+                        .filter(QueryBuilders.termQuery("issue_labels.keyword", "autocut"))
+                        .filter(QueryBuilders.termQuery("issue_labels.keyword", releaseLabel))),
+                new FiltersAggregator.KeyedFilter(ISSUES_CLOSED, QueryBuilders.boolQuery()
+                        .filter(QueryBuilders.termQuery("state.keyword", "closed"))
+                        .filter(QueryBuilders.termQuery("issue_labels.keyword", releaseLabel)))
+        };
+        BoolQueryBuilder releaseIssueFilter = QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termQuery("title.keyword", releaseIssueTitle))
+                .filter(QueryBuilders.termQuery("state.keyword", "open"));
+        // Only the issues labeled with the release or titled as its release issue take part in any value
+        BoolQueryBuilder query = QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termsQuery("repository.keyword", repositories))
+                .filter(QueryBuilders.termQuery("issue_pull_request", false))
+                .filter(QueryBuilders.boolQuery()
+                        .should(QueryBuilders.termQuery("issue_labels.keyword", releaseLabel))
+                        .should(QueryBuilders.termQuery("title.keyword", releaseIssueTitle))
+                        .minimumShouldMatch(1));
+        TermsAggregationBuilder reposAggregation = reposAggregation(repositories, counts)
+                .subAggregation(AggregationBuilders.filter(RELEASE_ISSUE_AGG, releaseIssueFilter)
+                        .subAggregation(AggregationBuilders.terms(RELEASE_OWNERS_AGG)
+                                .field("issue_assignees.keyword")
+                                .size(50))
+                        .subAggregation(AggregationBuilders.topHits(RELEASE_ISSUE_HIT_AGG)
+                                .size(1)
+                                .fetchSource(new String[]{"html_url"}, null)));
+        return createSearchRequest(ISSUES_INDEX, query, reposAggregation);
+    }
+
+    public SearchRequest createPullsSearchRequest(String releaseVersion, List<String> repositories) {
+        FiltersAggregator.KeyedFilter[] counts = {
+                new FiltersAggregator.KeyedFilter(PULLS_OPEN, QueryBuilders.termQuery("state.keyword", "open")),
+                new FiltersAggregator.KeyedFilter(PULLS_CLOSED, QueryBuilders.termQuery("state.keyword", "closed")),
+                new FiltersAggregator.KeyedFilter(VERSION_INCREMENT, QueryBuilders.boolQuery()
+                        .filter(QueryBuilders.termQuery("merged", true))
+                        .filter(QueryBuilders.prefixQuery("title.keyword", "[AUTO] Increment version to")))
+        };
+        // Every pulls value is of the pulls labeled with the release
+        BoolQueryBuilder query = QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termsQuery("repository.keyword", repositories))
+                .filter(QueryBuilders.termQuery("pull_labels.keyword", "v" + releaseVersion));
+        return createSearchRequest(PULLS_INDEX, query, reposAggregation(repositories, counts));
+    }
+
+    private TermsAggregationBuilder reposAggregation(List<String> repositories, FiltersAggregator.KeyedFilter[] counts) {
+        return AggregationBuilders.terms(REPOS_AGG)
+                .field("repository.keyword")
+                .size(repositories.size())
+                .subAggregation(AggregationBuilders.filters(COUNTS_AGG, counts));
+    }
+
+    private SearchRequest createSearchRequest(String index, BoolQueryBuilder query, TermsAggregationBuilder reposAggregation) {
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.query(query);
+        searchSourceBuilder.size(0);
+        searchSourceBuilder.aggregation(reposAggregation);
+        SearchRequest searchRequest = new SearchRequest(index);
+        searchRequest.source(searchSourceBuilder);
+        return searchRequest;
+    }
+
+    private List<? extends Terms.Bucket> repoBuckets(MultiSearchResponse.Item item, String index) {
+        if (item.isFailure()) {
+            throw new RuntimeException("Error fetching release metrics from " + index, item.getFailure());
+        }
+        SearchResponse searchResponse = item.getResponse();
+        if (searchResponse.status() != RestStatus.OK) {
+            throw new RuntimeException("Error connecting to the cluster");
+        }
+        Terms repoTerms = searchResponse.getAggregations().get(REPOS_AGG);
+        return repoTerms.getBuckets();
+    }
+
+    private long docCount(Filters counts, String key) {
+        Filters.Bucket bucket = counts.getBucketByKey(key);
+        return bucket == null ? 0L : bucket.getDocCount();
+    }
+}
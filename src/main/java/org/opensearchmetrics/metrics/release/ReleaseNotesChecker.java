@@ -11,24 +11,23 @@ package org.opensearchmetrics.metrics.release;
 import javax.inject.Inject;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class ReleaseNotesChecker extends UrlResponse {
 
     private final UrlResponse urlResponse;
+    private final UrlProber urlProber;
+
     @Inject
-    public ReleaseNotesChecker(UrlResponse urlResponse) {
+    public ReleaseNotesChecker(UrlResponse urlResponse, UrlProber urlProber) {
         this.urlResponse = urlResponse;
+        this.urlProber = urlProber;
     }
 
     public Boolean releaseNotes(String releaseVersion, String repo, String releaseBranch) {
-        String releaseNotesUrl;
-        if(repo.equals("OpenSearch")) {
-            releaseNotesUrl = String.format("https://raw.githubusercontent.com/opensearch-project/%s/%s/release-notes/opensearch.release-notes-%s.md", repo, releaseBranch, releaseVersion);
-        } else if (repo.equals("OpenSearch-Dashboards")) {
-            releaseNotesUrl = String.format("https://raw.githubusercontent.com/opensearch-project/%s/%s/release-notes/opensearch-dashboards.release-notes-%s.md", repo, releaseBranch, releaseVersion);
-        } else {
-            releaseNotesUrl = String.format("https://raw.githubusercontent.com/opensearch-project/%s/%s/release-notes/opensearch-%s.release-notes-%s.0.md", repo, releaseBranch, repo, releaseVersion);
-        }
+        String releaseNotesUrl = releaseNotesUrl(releaseVersion, repo, releaseBranch);
         try {
             int responseCode = urlResponse.getUrlResponse(releaseNotesUrl).getResponseCode();
             if (responseCode == HttpURLConnection.HTTP_OK) {
@@ -40,4 +39,26 @@ public class ReleaseNotesChecker extends UrlResponse {
             throw new RuntimeException(e);
         }
     }
+
+    /*
+    releaseNotes of every repo, probed in one batch. Returns repo -> whether its release notes exist on releaseBranch.
+     */
+    public Map<String, Boolean> releaseNotes(String releaseVersion, List<String> repos, String releaseBranch) {
+        Map<String, String> releaseNotesUrls = new LinkedHashMap<>();
+        repos.forEach(repo -> releaseNotesUrls.put(repo, releaseNotesUrl(releaseVersion, repo, releaseBranch)));
+        Map<String, Integer> statusCodes = urlProber.statusCodes(releaseNotesUrls.values());
+        Map<String, Boolean> releaseNotes = new LinkedHashMap<>();
+        releaseNotesUrls.forEach((repo, url) -> releaseNotes.put(repo, statusCodes.get(url) == HttpURLConnection.HTTP_OK));
+        return releaseNotes;
+    }
+
+    private String releaseNotesUrl(String releaseVersion, String repo, String releaseBranch) {
+        if(repo.equals("OpenSearch")) {
+            return String.format("https://raw.githubusercontent.com/opensearch-project/%s/%s/release-notes/opensearch.release-notes-%s.md", repo, releaseBranch, releaseVersion);
+        } else if (repo.equals("OpenSearch-Dashboards")) {
+            return String.format("https://raw.githubusercontent.com/opensearch-project/%s/%s/release-notes/opensearch-dashboards.release-notes-%s.md", repo, releaseBranch, releaseVersion);
+        } else {
+            return String.format("https://raw.githubusercontent.com/opensearch-project/%s/%s/release-notes/opensearch-%s.release-notes-%s.0.md", repo, releaseBranch, repo, releaseVersion);
+        }
+    }
 }
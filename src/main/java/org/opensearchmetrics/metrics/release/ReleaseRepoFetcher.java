@@ -8,39 +8,172 @@
  */
 package org.opensearchmetrics.metrics.release;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
+import lombok.Data;
+import org.opensearchmetrics.metrics.MetricsCalculationConfig;
+import org.opensearchmetrics.util.HttpContentCache;
+import org.opensearchmetrics.util.S3Util;
 import org.yaml.snakeyaml.Yaml;
+import software.amazon.awssdk.services.s3.S3Client;
 
 import javax.inject.Inject;
+import javax.inject.Provider;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class ReleaseRepoFetcher {
+    private static final String MANIFESTS_URL = "https://raw.githubusercontent.com/opensearch-project/opensearch-build/main/manifests";
+    private static final String MANIFEST_CACHE_PREFIX = "release-manifests/";
 
+    private final MetricsCalculationConfig config;
+    private final ObjectMapper objectMapper;
+    private final Provider<S3Util> s3Util;
+    private final HttpContentCache httpContentCache;
+    private final Clock clock;
+    private final String manifestsUrl;
+    // Parsed component -> repo map and ETag of every manifest by URL, kept for the life of the Lambda container
+    private final Map<String, CachedManifest> cachedManifests = new HashMap<>();
+    // Versions whose manifests were already looked up in S3
+    private final Set<String> s3CheckedVersions = new HashSet<>();
 
-    @Inject
     public ReleaseRepoFetcher() {
+        this(new MetricsCalculationConfig(), new ObjectMapper(), () -> null, new HttpContentCache(), Clock.systemUTC(), MANIFESTS_URL);
+    }
+
+    /*
+    The S3 client is only resolved when the S3 layer of the manifest cache is enabled. The manifests are kept in their own
+    releaseManifestCacheBucket, not in the GitHub events bucket.
+     */
+    @Inject
+    public ReleaseRepoFetcher(MetricsCalculationConfig config, ObjectMapper objectMapper, Provider<S3Client> s3Client,
+                              HttpContentCache httpContentCache) {
+        this(config, objectMapper, Suppliers.memoize(() -> new S3Util(s3Client.get(), config.getReleaseManifestCacheBucket()))::get,
+                httpContentCache, Clock.systemUTC(), MANIFESTS_URL);
+    }
+
+    @VisibleForTesting
+    ReleaseRepoFetcher(MetricsCalculationConfig config, ObjectMapper objectMapper, Provider<S3Util> s3Util,
+                       HttpContentCache httpContentCache, Clock clock, String manifestsUrl) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.s3Util = s3Util;
+        this.httpContentCache = httpContentCache;
+        this.clock = clock;
+        this.manifestsUrl = manifestsUrl;
     }
 
     public Map<String, String> getReleaseRepos(String releaseVersion) {
         Map<String, String> repoMap = new HashMap<>();
         String[] urls = {
-                String.format("https://raw.githubusercontent.com/opensearch-project/opensearch-build/main/manifests/%s/opensearch-%s.yml", releaseVersion, releaseVersion),
-                String.format("https://raw.githubusercontent.com/opensearch-project/opensearch-build/main/manifests/%s/opensearch-dashboards-%s.yml", releaseVersion, releaseVersion)
+                String.format("%s/%s/opensearch-%s.yml", manifestsUrl, releaseVersion, releaseVersion),
+                String.format("%s/%s/opensearch-dashboards-%s.yml", manifestsUrl, releaseVersion, releaseVersion)
         };
-        for (String url : urls) {
-            String responseBody = readUrl(url);
-            parseYaml(responseBody, repoMap);
+        if (config.isReleaseManifestCache()) {
+            repoMap.putAll(cachedReleaseRepos(releaseVersion, urls));
+        } else {
+            for (String url : urls) {
+                String responseBody = readUrl(url);
+                parseYaml(responseBody, repoMap);
+            }
         }
         repoMap.putAll(releaseRepoExceptionMap());
         return repoMap;
     }
 
+    /*
+    Component -> repo map of the manifests of a release, served from the cache. A manifest validated less than
+    releaseManifestCacheTtlMinutes ago is used as is; an older one is revalidated through the HttpContentCache and
+    only parsed again when its ETag changed. With the S3 layer (not deployed, see releaseManifestCacheBucket), a cold
+    container starts from the manifests cached by an earlier one, and changed manifests are written back.
+     */
+    private synchronized Map<String, String> cachedReleaseRepos(String releaseVersion, String[] urls) {
+        if (config.getReleaseManifestCacheBucket() != null && s3CheckedVersions.add(releaseVersion)) {
+            loadManifests(releaseVersion);
+        }
+        Map<String, String> repoMap = new HashMap<>();
+        boolean changed = false;
+        for (String url : urls) {
+            CachedManifest previous = cachedManifests.get(url);
+            CachedManifest manifest = fetchManifest(url, previous);
+            changed |= manifest != previous;
+            repoMap.putAll(manifest.getComponents());
+        }
+        if (config.getReleaseManifestCacheBucket() != null && changed) {
+            storeManifests(releaseVersion, urls);
+        }
+        return repoMap;
+    }
+
+    private CachedManifest fetchManifest(String url, CachedManifest cached) {
+        Instant now = clock.instant();
+        if (cached != null && cached.getValidatedAt() != null
+                && now.isBefore(cached.getValidatedAt().plus(Duration.ofMinutes(config.getReleaseManifestCacheTtlMinutes())))) {
+            return cached;
+        }
+        try {
+            HttpContentCache.Content content = httpContentCache.getContent(url, cached != null ? cached.getEtag() : null);
+            if (cached != null && cached.getEtag() != null && cached.getEtag().equals(content.getEtag())) {
+                cached.setValidatedAt(now);
+                return cached;
+            }
+            CachedManifest manifest = new CachedManifest();
+            parseYaml(content.getBody(), manifest.getComponents());
+            manifest.setEtag(content.getEtag());
+            manifest.setValidatedAt(now);
+            cachedManifests.put(url, manifest);
+            return manifest;
+        } catch (IOException e) {
+            if (cached != null) {
+                System.out.println("Error revalidating " + url + ", using the cached manifest: " + e);
+                return cached;
+            }
+            throw new RuntimeException("Error fetching " + url, e);
+        }
+    }
+
+    private void loadManifests(String releaseVersion) {
+        try {
+            s3Util.get().getObjectInputStreamIfExists(MANIFEST_CACHE_PREFIX + releaseVersion + ".json").ifPresent(inputStream -> {
+                try (InputStream manifests = inputStream) {
+                    Map<String, CachedManifest> stored = objectMapper.readValue(manifests, new TypeReference<Map<String, CachedManifest>>() {});
+                    stored.forEach(cachedManifests::putIfAbsent);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            System.out.println("Error loading the cached manifests of " + releaseVersion + ": " + e);
+        }
+    }
+
+    private void storeManifests(String releaseVersion, String[] urls) {
+        Map<String, CachedManifest> manifests = new LinkedHashMap<>();
+        for (String url : urls) {
+            manifests.put(url, cachedManifests.get(url));
+        }
+        try {
+            s3Util.get().putObject(MANIFEST_CACHE_PREFIX + releaseVersion + ".json", objectMapper.writeValueAsBytes(manifests), "application/json");
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error storing the cached manifests of " + releaseVersion + ": " + e);
+        }
+    }
 
     public Map<String, String> releaseRepoExceptionMap() {
         Map<String, String> repoExceptionMap = new HashMap<>();
@@ -52,15 +185,20 @@ public class ReleaseRepoFetcher {
     };
 
     public String readUrl(String url) {
-        StringBuilder content = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(createURL(url).openStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                content.append(line).append("\n");
-            }
+        try (InputStream inputStream = createURL(url).openStream()) {
+            return readStream(inputStream);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+    }
+
+    private String readStream(InputStream inputStream) throws IOException {
+        StringBuilder content = new StringBuilder();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            content.append(line).append("\n");
+        }
         return content.toString();
     }
 
@@ -95,5 +233,16 @@ public class ReleaseRepoFetcher {
             }
         });
     }
-}
 
+    /*
+    A parsed manifest and its ETag. validatedAt, when the manifest was last fetched or revalidated, is not stored in S3,
+    so a manifest loaded from there is revalidated on first use.
+     */
+    @Data
+    static class CachedManifest {
+        private String etag;
+        private Map<String, String> components = new HashMap<>();
+        @JsonIgnore
+        private Instant validatedAt;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.release;
+
+import lombok.Data;
+
+/*
+The values ReleaseLabelIssuesFetcher, ReleaseLabelPullsFetcher, ReleaseIssueChecker and the github_pulls
+check of ReleaseVersionIncrementChecker give for one repo of a release.
+ */
+@Data
+public class ReleaseRepoMetrics {
+    private long issuesOpen;
+    private long autocutIssuesOpen;
+    private long issuesClosed;
+    private long pullsOpen;
+    private long pullsClosed;
+    private boolean versionIncrementMerged;
+    private String[] releaseOwners = new String[0];
+    private String releaseIssue;
+}
@@ -17,31 +17,46 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearchmetrics.util.HttpContentCache;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
 import javax.inject.Inject;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URL;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class ReleaseVersionIncrementChecker {
 
+    private final HttpContentCache httpContentCache;
+
+    public ReleaseVersionIncrementChecker() {
+        this(new HttpContentCache());
+    }
+
     @Inject
-    public ReleaseVersionIncrementChecker() {}
+    public ReleaseVersionIncrementChecker(HttpContentCache httpContentCache) {
+        this.httpContentCache = httpContentCache;
+    }
 
 
     public boolean releaseVersionIncrement(String releaseVersion, String repo, String branch, ObjectMapper objectMapper, OpenSearchUtil openSearchUtil) {
+        return checkVersionIncrement(releaseVersion, repo, branch, objectMapper,
+                () -> checkGithubPulls(repo, releaseVersion, objectMapper, openSearchUtil));
+    }
+
+    /*
+    githubPullsCheck answers for the repos whose version increment is a merged [AUTO] Increment version pull.
+     */
+    public boolean checkVersionIncrement(String releaseVersion, String repo, String branch, ObjectMapper objectMapper, BooleanSupplier githubPullsCheck) {
         if (repo.equals("OpenSearch")) {
             return checkOpenSearchVersion(releaseVersion, branch);
         } else if (repo.equals("OpenSearch-Dashboards") || repo.equals("opensearch-dashboards-functional-test")) {
             return checkOpenSearchDashboardsVersion(releaseVersion, repo, branch, objectMapper);
         } else {
-            return checkGithubPulls(repo, releaseVersion, objectMapper, openSearchUtil);
+            return githubPullsCheck.getAsBoolean();
         }
     }
 
@@ -49,7 +64,7 @@ public class ReleaseVersionIncrementChecker {
     public boolean checkOpenSearchVersion(String releaseVersion, String branch) {
         String url = String.format("https://raw.githubusercontent.com/opensearch-project/OpenSearch/%s/buildSrc/version.properties", branch);
         try {
-            return new BufferedReader(new InputStreamReader(new URL(url).openStream()))
+            return httpContentCache.get(url)
                     .lines()
                     .map(String::trim)
                     .filter(line -> line.startsWith("opensearch"))
@@ -72,10 +87,7 @@ public class ReleaseVersionIncrementChecker {
     public boolean checkOpenSearchDashboardsVersion(String releaseVersion, String repo, String branch, ObjectMapper objectMapper) {
         String url = String.format("https://raw.githubusercontent.com/opensearch-project/%s/%s/package.json", repo, branch);
         try {
-            String content = new BufferedReader(new InputStreamReader(new URL(url).openStream()))
-                    .lines()
-                    .collect(StringBuilder::new, StringBuilder::append, StringBuilder::append)
-                    .toString();
+            String content = httpContentCache.get(url);
             return objectMapper.readTree(content).get("version").asText().equals(releaseVersion);
         } catch (IOException e) {
             e.printStackTrace();
@@ -93,7 +105,7 @@ public class ReleaseVersionIncrementChecker {
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(boolQueryBuilder);
         searchSourceBuilder.fetchSource(new String[]{"merged"}, null);
-        searchSourceBuilder.size(9000);
+        searchSourceBuilder.size(1);
         searchRequest.source(searchSourceBuilder);
         SearchResponse searchResponse;
         searchResponse = openSearchUtil.search(searchRequest);
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.release;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+/*
+Sends HEAD requests for many URLs at once over a shared, keep-alive async HTTP client, so probing a release's
+components reuses connections instead of paying a TLS handshake per URL.
+At most probeConcurrency requests are in flight, and requests to one host are started at most
+requestsPerSecondPerHost times per second.
+ */
+@Singleton
+public class UrlProber {
+    private static final int PROBE_CONCURRENCY = 16;
+    private static final double REQUESTS_PER_SECOND_PER_HOST = 20;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final Semaphore inFlightProbes;
+    private final double requestsPerSecondPerHost;
+    private final Map<String, RateLimiter> hostRateLimiters = new ConcurrentHashMap<>();
+
+    @Inject
+    public UrlProber() {
+        this(HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build(), PROBE_CONCURRENCY, REQUESTS_PER_SECOND_PER_HOST);
+    }
+
+    @VisibleForTesting
+    UrlProber(HttpClient httpClient, int probeConcurrency, double requestsPerSecondPerHost) {
+        this.httpClient = httpClient;
+        this.inFlightProbes = new Semaphore(probeConcurrency);
+        this.requestsPerSecondPerHost = requestsPerSecondPerHost;
+    }
+
+    /*
+    HTTP status code of a HEAD request to every url, probed concurrently. Returns url -> status code in input order.
+    A request that fails without a response fails the whole batch, as a single HttpURLConnection probe would.
+     */
+    public Map<String, Integer> statusCodes(Collection<String> urls) {
+        Map<String, CompletableFuture<Integer>> probes = new LinkedHashMap<>();
+        for (String url : new LinkedHashSet<>(urls)) {
+            probes.put(url, probe(url));
+        }
+        Map<String, Integer> statusCodes = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, CompletableFuture<Integer>> probe : probes.entrySet()) {
+                statusCodes.put(probe.getKey(), probe.getValue().get());
+            }
+            return statusCodes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private CompletableFuture<Integer> probe(String url) {
+        URI uri = URI.create(url);
+        hostRateLimiters.computeIfAbsent(uri.getHost(), host -> RateLimiter.create(requestsPerSecondPerHost)).acquire();
+        try {
+            inFlightProbes.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+        try {
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(HttpResponse::statusCode)
+                    .whenComplete((statusCode, e) -> inFlightProbes.release());
+        } catch (RuntimeException e) {
+            inFlightProbes.release();
+            throw e;
+        }
+    }
+}
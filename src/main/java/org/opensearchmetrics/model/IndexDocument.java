@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/*
+Document that writes its own JSON source straight to a generator, without building an intermediate Map or String.
+The source has the same fields as toJson with the service ObjectMapper, whose NON_DEFAULT inclusion leaves out null values.
+ */
+public interface IndexDocument {
+
+    String getId();
+
+    void writeTo(JsonGenerator generator) throws IOException;
+
+    static void writeField(JsonGenerator generator, String fieldName, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(fieldName, value);
+        }
+    }
+
+    static void writeField(JsonGenerator generator, String fieldName, Long value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(fieldName, value);
+        }
+    }
+
+    static void writeField(JsonGenerator generator, String fieldName, Double value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(fieldName, value);
+        }
+    }
+
+    static void writeField(JsonGenerator generator, String fieldName, String[] values) throws IOException {
+        if (values != null) {
+            generator.writeArrayFieldStart(fieldName);
+            for (String value : values) {
+                generator.writeString(value);
+            }
+            generator.writeEndArray();
+        }
+    }
+}
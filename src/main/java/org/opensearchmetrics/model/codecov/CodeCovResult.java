@@ -10,16 +10,18 @@
 package org.opensearchmetrics.model.codecov;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
+import org.opensearchmetrics.model.IndexDocument;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 @Data
-public class CodeCovResult {
+public class CodeCovResult implements IndexDocument {
 
     @JsonProperty("id")
     private String id;
@@ -78,6 +80,24 @@ public class CodeCovResult {
         return mapper.writeValueAsString(data);
     }
 
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        IndexDocument.writeField(generator, "id", id);
+        IndexDocument.writeField(generator, "current_date", currentDate);
+        IndexDocument.writeField(generator, "repository", repository);
+        IndexDocument.writeField(generator, "component", component);
+        IndexDocument.writeField(generator, "release_version", releaseVersion);
+        IndexDocument.writeField(generator, "version", version);
+        IndexDocument.writeField(generator, "release_state", releaseState);
+        IndexDocument.writeField(generator, "commitid", commitId);
+        IndexDocument.writeField(generator, "state", state);
+        IndexDocument.writeField(generator, "coverage", coverage);
+        IndexDocument.writeField(generator, "branch", branch);
+        IndexDocument.writeField(generator, "url", url);
+        generator.writeEndObject();
+    }
+
     public String getJson(CodeCovResult codeCovResult, ObjectMapper objectMapper) {
         try {
             return codeCovResult.toJson(objectMapper);
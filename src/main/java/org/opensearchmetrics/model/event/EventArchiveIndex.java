@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.model.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class EventArchiveIndex {
+
+    // S3 prefix the archive was compacted from, <event>/<yyyy-MM-dd>/
+    @JsonProperty("prefix")
+    private String prefix;
+
+    @JsonProperty("source_objects")
+    private long sourceObjects;
+
+    // Most recently modified source object, objects modified after it are not part of the archive
+    @JsonProperty("last_key")
+    private String lastKey;
+
+    @JsonProperty("last_modified")
+    private String lastModified;
+
+    @JsonProperty("compacted_at")
+    private String compactedAt;
+
+    @JsonProperty("blocks")
+    private List<Block> blocks = new ArrayList<>();
+
+    // Independently gzipped run of events within the archive object
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Block {
+        @JsonProperty("offset")
+        private long offset;
+
+        @JsonProperty("length")
+        private long length;
+
+        @JsonProperty("events")
+        private int events;
+    }
+}
@@ -9,15 +9,18 @@
 package org.opensearchmetrics.model.event;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
+import org.opensearchmetrics.model.IndexDocument;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 @Data
-public class EventData {
+public class EventData implements IndexDocument {
 
     @JsonProperty("id")
     private String id;
@@ -52,6 +55,19 @@ public class EventData {
         return mapper.writeValueAsString(data);
     }
 
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        IndexDocument.writeField(generator, "id", id);
+        IndexDocument.writeField(generator, "organization", organization);
+        IndexDocument.writeField(generator, "repository", repository);
+        IndexDocument.writeField(generator, "type", type);
+        IndexDocument.writeField(generator, "action", action);
+        IndexDocument.writeField(generator, "sender", sender);
+        IndexDocument.writeField(generator, "created_at", createdAt);
+        generator.writeEndObject();
+    }
+
     public String getJson(EventData eventData, ObjectMapper objectMapper) {
         try {
             return eventData.toJson(objectMapper);
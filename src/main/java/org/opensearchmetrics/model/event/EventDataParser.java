@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.model.event;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Extracts EventData from a stored GitHub webhook event by streaming over its tokens.
+ * Only the handful of fields that are indexed are read; every other subtree, such as issue and pull request
+ * bodies, is skipped without being materialized. Fields are taken only when they are JSON strings, as
+ * JsonNode.textValue does for the tree-based extraction this replaces.
+ */
+public final class EventDataParser {
+
+    private EventDataParser() {
+    }
+
+    /**
+     * Read one event from the parser.
+     *
+     * @param parser parser positioned before the event object
+     * @return the extracted event, with null fields for anything missing
+     * @throws IOException if the event is not well-formed JSON
+     */
+    public static EventData parse(JsonParser parser) throws IOException {
+        EventData event = new EventData();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return event;
+        }
+        String repositoryOwner = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id":
+                    event.setId(text(parser, value));
+                    break;
+                case "name":
+                    event.setType(text(parser, value));
+                    break;
+                case "uploaded_at":
+                    event.setCreatedAt(text(parser, value));
+                    break;
+                case "payload":
+                    repositoryOwner = parsePayload(parser, value, event);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (event.getOrganization() == null) {
+            event.setOrganization(repositoryOwner);
+        }
+        return event;
+    }
+
+    /*
+    Reads payload into event and returns payload.repository.owner.login, the fallback organization.
+     */
+    private static String parsePayload(JsonParser parser, JsonToken value, EventData event) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String repositoryOwner = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken fieldValue = parser.nextToken();
+            switch (field) {
+                case "repository":
+                    repositoryOwner = parseRepository(parser, fieldValue, event);
+                    break;
+                case "organization":
+                    event.setOrganization(login(parser, fieldValue));
+                    break;
+                case "action":
+                    event.setAction(text(parser, fieldValue));
+                    break;
+                case "sender":
+                    event.setSender(login(parser, fieldValue));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return repositoryOwner;
+    }
+
+    private static String parseRepository(JsonParser parser, JsonToken value, EventData event) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String owner = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken fieldValue = parser.nextToken();
+            switch (field) {
+                case "name":
+                    event.setRepository(text(parser, fieldValue));
+                    break;
+                case "owner":
+                    owner = login(parser, fieldValue);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return owner;
+    }
+
+    /*
+    The login string field of an object value, skipping the rest of the object.
+     */
+    private static String login(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String login = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken fieldValue = parser.nextToken();
+            if ("login".equals(field)) {
+                login = text(parser, fieldValue);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return login;
+    }
+
+    private static String text(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.model.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+public class IngestionCheckpoint {
+
+    // S3 prefix the checkpoint belongs to, <event>/<yyyy-MM-dd>/, also used as the document id
+    @JsonProperty("prefix")
+    private String prefix;
+
+    // Key of the most recently modified object indexed under the prefix
+    @JsonProperty("last_key")
+    private String lastKey;
+
+    // LastModified of that object, objects modified before it have been indexed
+    @JsonProperty("last_modified")
+    private String lastModified;
+
+    @JsonProperty("updated_at")
+    private String updatedAt;
+
+    public String toJson(ObjectMapper mapper) throws JsonProcessingException {
+        Map<String, Object> data = new HashMap<>();
+        data.put("prefix", prefix);
+        data.put("last_key", lastKey);
+        data.put("last_modified", lastModified);
+        data.put("updated_at", updatedAt);
+        return mapper.writeValueAsString(data);
+    }
+
+    public String getJson(IngestionCheckpoint checkpoint, ObjectMapper objectMapper) {
+        try {
+            return checkpoint.toJson(objectMapper);
+        } catch (JsonProcessingException e) {
+            System.out.println("Error while serializing IngestionCheckpoint to JSON " + e);
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -9,17 +9,20 @@
 package org.opensearchmetrics.model.general;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Data;
 import org.opensearchmetrics.model.CustomLongSerializer;
+import org.opensearchmetrics.model.IndexDocument;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 @Data
-public class MetricsData {
+public class MetricsData implements IndexDocument {
 
     @JsonProperty("id")
     private String id;
@@ -36,6 +39,9 @@ public class MetricsData {
     @JsonSerialize(using = CustomLongSerializer.class)
     private Long metricCount;
 
+    // "eq" when metric_count is exact, "gte" when it is a lower bound
+    @JsonProperty("metric_count_relation")
+    private String metricCountRelation;
 
 
      public String toJson(ObjectMapper mapper) throws JsonProcessingException {
@@ -45,9 +51,24 @@ public class MetricsData {
         data.put("repository", repository);
         data.put("metric_name", metricName);
         data.put("metric_count", metricCount);
+        if (metricCountRelation != null) {
+            data.put("metric_count_relation", metricCountRelation);
+        }
         return mapper.writeValueAsString(data);
     }
 
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        IndexDocument.writeField(generator, "id", id);
+        IndexDocument.writeField(generator, "current_date", currentDate);
+        IndexDocument.writeField(generator, "repository", repository);
+        IndexDocument.writeField(generator, "metric_name", metricName);
+        IndexDocument.writeField(generator, "metric_count", metricCount);
+        IndexDocument.writeField(generator, "metric_count_relation", metricCountRelation);
+        generator.writeEndObject();
+    }
+
     public String getJson(MetricsData metricsData, ObjectMapper objectMapper) {
         try {
             return metricsData.toJson(objectMapper);
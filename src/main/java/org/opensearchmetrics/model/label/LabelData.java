@@ -9,17 +9,20 @@
 package org.opensearchmetrics.model.label;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Data;
 import org.opensearchmetrics.model.CustomLongSerializer;
+import org.opensearchmetrics.model.IndexDocument;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 @Data
-public final class LabelData {
+public final class LabelData implements IndexDocument {
 
     @JsonProperty("id")
     private String id;
@@ -52,6 +55,18 @@ public final class LabelData {
         return mapper.writeValueAsString(data);
     }
 
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        IndexDocument.writeField(generator, "id", id);
+        IndexDocument.writeField(generator, "current_date", currentDate);
+        IndexDocument.writeField(generator, "repository", repository);
+        IndexDocument.writeField(generator, "label_name", labelName);
+        IndexDocument.writeField(generator, "label_issue_count", labelIssueCount);
+        IndexDocument.writeField(generator, "label_pull_count", labelPullCount);
+        generator.writeEndObject();
+    }
+
     public String getJson(LabelData labelData, ObjectMapper objectMapper) {
         try {
             return labelData.toJson(objectMapper);
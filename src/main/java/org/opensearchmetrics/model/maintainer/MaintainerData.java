@@ -9,15 +9,18 @@
 package org.opensearchmetrics.model.maintainer;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
+import org.opensearchmetrics.model.IndexDocument;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 @Data
-public class MaintainerData {
+public class MaintainerData implements IndexDocument {
 
     @JsonProperty("id")
     private String id;
@@ -64,6 +67,22 @@ public class MaintainerData {
         return mapper.writeValueAsString(data);
     }
 
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        IndexDocument.writeField(generator, "id", id);
+        IndexDocument.writeField(generator, "current_date", currentDate);
+        IndexDocument.writeField(generator, "repository", repository);
+        IndexDocument.writeField(generator, "name", name);
+        IndexDocument.writeField(generator, "github_login", githubLogin);
+        IndexDocument.writeField(generator, "affiliation", affiliation);
+        IndexDocument.writeField(generator, "event_type", eventType);
+        IndexDocument.writeField(generator, "event_action", eventAction);
+        IndexDocument.writeField(generator, "time_last_engaged", timeLastEngaged);
+        generator.writeBooleanField("inactive", inactive);
+        generator.writeEndObject();
+    }
+
     public String getJson(MaintainerData maintainerData, ObjectMapper objectMapper) {
         try {
             return maintainerData.toJson(objectMapper);
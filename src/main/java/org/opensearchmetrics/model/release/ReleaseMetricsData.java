@@ -9,15 +9,18 @@
 package org.opensearchmetrics.model.release;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
+import org.opensearchmetrics.model.IndexDocument;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 @Data
-public class ReleaseMetricsData {
+public class ReleaseMetricsData implements IndexDocument {
 
     @JsonProperty("id")
     private String id;
@@ -101,6 +104,31 @@ public class ReleaseMetricsData {
         return mapper.writeValueAsString(data);
     }
 
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        IndexDocument.writeField(generator, "id", id);
+        IndexDocument.writeField(generator, "current_date", currentDate);
+        IndexDocument.writeField(generator, "repository", repository);
+        IndexDocument.writeField(generator, "component", component);
+        IndexDocument.writeField(generator, "release_version", releaseVersion);
+        IndexDocument.writeField(generator, "version", version);
+        IndexDocument.writeField(generator, "release_state", releaseState);
+        IndexDocument.writeField(generator, "issues_open", issuesOpen);
+        IndexDocument.writeField(generator, "autocut_issues_open", autocutIssuesOpen);
+        IndexDocument.writeField(generator, "issues_closed", issuesClosed);
+        IndexDocument.writeField(generator, "pulls_open", pullsOpen);
+        IndexDocument.writeField(generator, "pulls_closed", pullsClosed);
+        generator.writeBooleanField("version_increment", versionIncrement);
+        generator.writeBooleanField("release_notes", releaseNotes);
+        generator.writeBooleanField("release_branch", releaseBranch);
+        IndexDocument.writeField(generator, "release_owners", releaseOwners);
+        generator.writeBooleanField("release_owner_exists", releaseOwnerExists);
+        IndexDocument.writeField(generator, "release_issue", releaseIssue);
+        generator.writeBooleanField("release_issue_exists", releaseIssueExists);
+        generator.writeEndObject();
+    }
+
     public String getJson(ReleaseMetricsData releaseMetricsData, ObjectMapper objectMapper) {
         try {
             return releaseMetricsData.toJson(objectMapper);
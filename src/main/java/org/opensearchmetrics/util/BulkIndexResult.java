@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of a bulk indexing run: documents indexed, item retries sent, and documents given up on.
+ */
+@Data
+@AllArgsConstructor
+public class BulkIndexResult {
+    private long indexed;
+    private long retried;
+    private long dropped;
+
+    public boolean hasDropped() {
+        return dropped > 0;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearchmetrics.model.IndexDocument;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accumulates documents for one index into bulk requests and sends them on a shared executor.
+ * A bulk request is sent once it holds maxActions documents or maxBytes of source, or when the
+ * flush interval elapses, whichever comes first. At most maxConcurrentRequests bulk requests are
+ * in flight; add blocks until one of them completes. close sends the remainder and waits for all of them.
+ * Documents added again under an id that is still pending replace the pending one, so each bulk request
+ * carries at most one version of a document and memory is bounded by maxActions and maxBytes.
+ * Items rejected with a retryable status, or whole requests rejected with one, are sent again as allowed by the retry policy;
+ * the counts of indexed, retried and dropped documents are available from getResult once closed.
+ */
+public class BulkIndexer implements AutoCloseable {
+    private final RestHighLevelClient client;
+    private final ExecutorService executor;
+    private final String index;
+    private final int maxActions;
+    private final long maxBytes;
+    private final long timeoutMinutes;
+    private final Semaphore inFlightRequests;
+    private final BulkRetryPolicy retryPolicy;
+    private final AtomicLong indexed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final List<Future<?>> sentRequests = new ArrayList<>();
+    private final ScheduledFuture<?> scheduledFlush;
+    // Documents waiting for the next bulk request, keyed by id (or a unique key when the id is null)
+    private Map<Object, IndexRequest> pendingDocuments = new LinkedHashMap<>();
+    private long pendingBytes = 0;
+
+    BulkIndexer(RestHighLevelClient client, ExecutorService executor, ScheduledExecutorService scheduler,
+                String index, int maxActions, long maxBytes, int maxConcurrentRequests,
+                long flushIntervalSeconds, long timeoutMinutes, BulkRetryPolicy retryPolicy) {
+        this.client = client;
+        this.executor = executor;
+        this.index = index;
+        this.maxActions = maxActions;
+        this.maxBytes = maxBytes;
+        this.timeoutMinutes = timeoutMinutes;
+        this.inFlightRequests = new Semaphore(maxConcurrentRequests);
+        this.retryPolicy = retryPolicy;
+        this.scheduledFlush = scheduler.scheduleWithFixedDelay(this::flush,
+                flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public void add(String id, String json) {
+        add(new IndexRequest()
+                .index(index)
+                .id(id)
+                .source(json, XContentType.JSON));
+    }
+
+    /**
+     * Add a document serialized straight to its source bytes, without an intermediate Map or String.
+     */
+    public void add(IndexDocument document) {
+        add(document.getId(), DocumentSerializer.toBytes(document));
+    }
+
+    public void add(String id, BytesReference source) {
+        add(new IndexRequest()
+                .index(index)
+                .id(id)
+                .source(source, XContentType.JSON));
+    }
+
+    private synchronized void add(IndexRequest indexRequest) {
+        String id = indexRequest.id();
+        IndexRequest replaced = pendingDocuments.put(id != null ? id : new Object(), indexRequest);
+        if (replaced != null) {
+            pendingBytes -= replaced.source().length();
+        }
+        pendingBytes += indexRequest.source().length();
+        if (pendingDocuments.size() >= maxActions || pendingBytes >= maxBytes) {
+            flush();
+        }
+    }
+
+    /**
+     * Send the pending documents, if any, without waiting for the response.
+     */
+    public synchronized void flush() {
+        if (pendingDocuments.isEmpty()) {
+            return;
+        }
+        BulkRequest request = new BulkRequest();
+        pendingDocuments.values().forEach(request::add);
+        pendingDocuments = new LinkedHashMap<>();
+        pendingBytes = 0;
+        try {
+            inFlightRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        try {
+            sentRequests.add(executor.submit(() -> {
+                try {
+                    execBulkRequest(request);
+                } finally {
+                    inFlightRequests.release();
+                }
+            }));
+        } catch (RuntimeException e) {
+            inFlightRequests.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Send the pending documents and wait for every bulk request of this indexer to complete.
+     */
+    @Override
+    public void close() {
+        scheduledFlush.cancel(false);
+        awaitSent();
+    }
+
+    /**
+     * Send the pending documents and wait until every document added so far has been indexed or dropped.
+     * The indexer stays open.
+     */
+    public void awaitSent() {
+        List<Future<?>> requests;
+        synchronized (this) {
+            flush();
+            requests = new ArrayList<>(sentRequests);
+            sentRequests.clear();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(timeoutMinutes);
+        try {
+            for (Future<?> request : requests) {
+                request.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public BulkIndexResult getResult() {
+        return new BulkIndexResult(indexed.get(), retried.get(), dropped.get());
+    }
+
+    /*
+    Sends the request, then keeps resending only the items rejected with a retryable status
+    until they are all indexed or the retry policy gives up on them.
+     */
+    private void execBulkRequest(BulkRequest request) {
+        System.out.println("Sending bulk request of " + request.numberOfActions() + " documents to " + index);
+        BulkRequest pending = request;
+        for (int attempt = 0; ; attempt++) {
+            BulkRequest retry = new BulkRequest();
+            try {
+                BulkResponse response = client.bulk(pending, RequestOptions.DEFAULT);
+                if (!response.hasFailures()) {
+                    indexed.addAndGet(pending.numberOfActions());
+                    return;
+                }
+                for (BulkItemResponse item : response.getItems()) {
+                    if (!item.isFailed()) {
+                        indexed.incrementAndGet();
+                    } else if (retryPolicy.isRetryable(item.status())) {
+                        retry.add(pending.requests().get(item.getItemId()));
+                    } else {
+                        System.out.println("Dropping document " + item.getId() + ": " + item.getFailureMessage());
+                        dropped.incrementAndGet();
+                    }
+                }
+            } catch (OpenSearchStatusException statusException) {
+                // The whole bulk request was rejected
+                if (!retryPolicy.isRetryable(statusException.status())) {
+                    System.out.println("Dropping " + pending.numberOfActions() + " documents for " + index + ": " + statusException);
+                    dropped.addAndGet(pending.numberOfActions());
+                    return;
+                }
+                System.out.println("Error " + statusException);
+                retry = pending;
+            } catch (IOException ioException) {
+                System.out.println("Error " + ioException);
+                retry = pending;
+            }
+            if (retry.numberOfActions() == 0) {
+                return;
+            }
+            if (!retryPolicy.tryAcquire(attempt, retry.numberOfActions())) {
+                System.out.println("Dropping " + retry.numberOfActions() + " documents for " + index + " after " + attempt + " retries");
+                dropped.addAndGet(retry.numberOfActions());
+                return;
+            }
+            retried.addAndGet(retry.numberOfActions());
+            try {
+                Thread.sleep(retryPolicy.delayMillis(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.addAndGet(retry.numberOfActions());
+                return;
+            }
+            pending = retry;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import org.opensearch.core.rest.RestStatus;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which rejected bulk items are sent again and how long to wait before doing so.
+ * Only items rejected because the cluster is overloaded or briefly unavailable are retried,
+ * at most maxRetries times each, after a full-jitter exponential backoff. The retry budget
+ * caps the number of item retries across every bulk request sharing this policy, so a cluster
+ * that keeps rejecting is not sent an ever growing amount of traffic.
+ */
+public class BulkRetryPolicy {
+    private static final Set<RestStatus> RETRYABLE_STATUSES = Set.of(RestStatus.TOO_MANY_REQUESTS,
+            RestStatus.BAD_GATEWAY, RestStatus.SERVICE_UNAVAILABLE, RestStatus.GATEWAY_TIMEOUT);
+
+    private final int maxRetries;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final AtomicLong retryBudget;
+
+    public BulkRetryPolicy(int maxRetries, long baseDelayMillis, long maxDelayMillis, long retryBudget) {
+        this.maxRetries = maxRetries;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.retryBudget = new AtomicLong(retryBudget);
+    }
+
+    public boolean isRetryable(RestStatus status) {
+        return RETRYABLE_STATUSES.contains(status);
+    }
+
+    /**
+     * Take items retries out of the budget for the given attempt (0 for the first retry).
+     *
+     * @return false if the items have been retried maxRetries times or the budget is exhausted
+     */
+    public boolean tryAcquire(int attempt, int items) {
+        if (attempt >= maxRetries) {
+            return false;
+        }
+        long remaining = retryBudget.get();
+        while (remaining >= items) {
+            if (retryBudget.compareAndSet(remaining, remaining - items)) {
+                return true;
+            }
+            remaining = retryBudget.get();
+        }
+        return false;
+    }
+
+    /**
+     * Random delay in [0, min(maxDelay, baseDelay * 2^attempt)].
+     */
+    public long delayMillis(int attempt) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Deterministic ids of the documents computed for one date, so a document computed again on the same day
+ * overwrites the previous one. An id is the name-based UUID of the SHA-1 of "prefix-name-yyyy-MM-dd-suffix",
+ * the same value as UUID.nameUUIDFromBytes(MessageDigest.getInstance("SHA-1").digest(...getBytes())).
+ * Thread-safe: each thread reuses its own SHA-1 and MD5 digests and the date is formatted once.
+ */
+public class DocumentIdGenerator {
+    private static final ThreadLocal<MessageDigest> SHA1 = ThreadLocal.withInitial(() -> messageDigest("SHA-1"));
+    private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(() -> messageDigest("MD5"));
+
+    private final String datePart;
+
+    public DocumentIdGenerator(LocalDateTime currentDate) {
+        this.datePart = "-" + currentDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + "-";
+    }
+
+    public String generate(String prefix, String name, String suffix) {
+        // Platform charset, as the ids have always been computed
+        byte[] source = (prefix + "-" + name + datePart + suffix).getBytes();
+        return nameUUIDFromBytes(SHA1.get().digest(source)).toString();
+    }
+
+    /*
+    Same as UUID.nameUUIDFromBytes, without looking up a new MD5 digest for each id.
+     */
+    static UUID nameUUIDFromBytes(byte[] name) {
+        byte[] md5 = MD5.get().digest(name);
+        md5[6] &= 0x0f;  // clear version
+        md5[6] |= 0x30;  // set to version 3
+        md5[8] &= 0x3f;  // clear variant
+        md5[8] |= (byte) 0x80;  // set to IETF variant
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        for (int i = 0; i < 8; i++) {
+            mostSignificantBits = (mostSignificantBits << 8) | (md5[i] & 0xff);
+        }
+        for (int i = 8; i < 16; i++) {
+            leastSignificantBits = (leastSignificantBits << 8) | (md5[i] & 0xff);
+        }
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static MessageDigest messageDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
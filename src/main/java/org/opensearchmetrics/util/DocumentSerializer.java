@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearchmetrics.model.IndexDocument;
+
+import java.io.IOException;
+
+/**
+ * Serializes documents to the UTF-8 JSON bytes of a bulk request source.
+ * Each thread encodes into its own reusable buffer, so a document costs a single array copy of its source.
+ */
+public final class DocumentSerializer {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final ThreadLocal<ByteArrayBuilder> BUFFERS = ThreadLocal.withInitial(ByteArrayBuilder::new);
+
+    private DocumentSerializer() {
+    }
+
+    public static BytesReference toBytes(IndexDocument document) {
+        ByteArrayBuilder buffer = BUFFERS.get();
+        buffer.reset();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+            document.writeTo(generator);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new BytesArray(buffer.toByteArray());
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterators;
+import org.opensearchmetrics.model.event.EventArchiveIndex;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compacted archive of the GitHub events stored under one S3 prefix (one event type and day).
+ * The events are written one JSON document per line into archive/&lt;prefix&gt;events.ndjson.gz as a sequence of
+ * independently gzipped blocks: the object as a whole is a valid gzip file, and each block can be read on its own
+ * with a ranged GET. archive/&lt;prefix&gt;index.json lists the offset, length and event count of every block and
+ * is written after the events, so an archive is only visible once it is complete. Source objects are kept.
+ */
+public class EventArchive {
+    public static final String ARCHIVE_ROOT = "archive/";
+    static final String EVENTS_OBJECT = "events.ndjson.gz";
+    static final String INDEX_OBJECT = "index.json";
+    // Keeps a block of raw webhook payloads to a few MB in memory and each ranged GET well above the per-request latency
+    private static final int DEFAULT_EVENTS_PER_BLOCK = 500;
+
+    private final S3Util s3Util;
+    private final ObjectMapper mapper;
+    private final int eventsPerBlock;
+
+    public EventArchive(S3Util s3Util, ObjectMapper mapper) {
+        this(s3Util, mapper, DEFAULT_EVENTS_PER_BLOCK);
+    }
+
+    EventArchive(S3Util s3Util, ObjectMapper mapper, int eventsPerBlock) {
+        this.s3Util = s3Util;
+        this.mapper = mapper;
+        this.eventsPerBlock = eventsPerBlock;
+    }
+
+    /**
+     * Index of the archive of a prefix.
+     *
+     * @param prefix S3 prefix of the source objects, &lt;event&gt;/&lt;yyyy-MM-dd&gt;/
+     * @return the index, or empty if the prefix has not been compacted
+     */
+    public Optional<EventArchiveIndex> readIndex(String prefix) {
+        return s3Util.getObjectInputStreamIfExists(indexKey(prefix)).map(indexInputStream -> {
+            try (indexInputStream) {
+                return mapper.readValue(indexInputStream, EventArchiveIndex.class);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * Read one block of an archive with a ranged GET and pass each of its events, as a JSON string, to eventConsumer.
+     *
+     * @param prefix        S3 prefix of the source objects
+     * @param block         block from the index of the archive
+     * @param eventConsumer called for each event of the block, in archive order
+     */
+    public void readBlock(String prefix, EventArchiveIndex.Block block, Consumer<String> eventConsumer) {
+        try (ResponseInputStream<GetObjectResponse> blockInputStream = s3Util.getObjectRangeInputStream(eventsKey(prefix), block.getOffset(), block.getLength());
+             BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(blockInputStream), StandardCharsets.UTF_8))) {
+            String event;
+            while ((event = reader.readLine()) != null) {
+                if (!event.isEmpty()) {
+                    eventConsumer.accept(event);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Roll every object under a prefix into its archive, replacing any previous archive of the prefix.
+     * The archive is staged in a temporary file; the source objects of one block are fetched concurrently on fetchExecutor.
+     *
+     * @param prefix        S3 prefix of the source objects, &lt;event&gt;/&lt;yyyy-MM-dd&gt;/
+     * @param fetchExecutor executor the source objects are fetched on
+     * @return the index of the new archive, or empty if there is no object under the prefix
+     */
+    public Optional<EventArchiveIndex> compact(String prefix, ExecutorService fetchExecutor) {
+        Path archiveFile = null;
+        try {
+            archiveFile = Files.createTempFile("github-events-", ".ndjson.gz");
+            EventArchiveIndex index = new EventArchiveIndex();
+            index.setPrefix(prefix);
+            S3Object newest = null;
+            long offset = 0;
+            try (OutputStream archiveOutputStream = new BufferedOutputStream(Files.newOutputStream(archiveFile))) {
+                Iterator<List<S3Object>> batches = Iterators.partition(s3Util.streamObjects(prefix).iterator(), eventsPerBlock);
+                while (batches.hasNext()) {
+                    List<S3Object> batch = batches.next();
+                    List<Future<String>> events = batch.stream()
+                            .map(object -> fetchExecutor.submit(() -> readEvent(object.key())))
+                            .collect(Collectors.toList());
+                    ByteArrayOutputStream block = new ByteArrayOutputStream();
+                    try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(block), StandardCharsets.UTF_8)) {
+                        for (Future<String> event : events) {
+                            writer.write(await(event));
+                            writer.write('\n');
+                        }
+                    }
+                    block.writeTo(archiveOutputStream);
+                    index.getBlocks().add(new EventArchiveIndex.Block(offset, block.size(), batch.size()));
+                    offset += block.size();
+                    for (S3Object object : batch) {
+                        if (newest == null || object.lastModified().isAfter(newest.lastModified())) {
+                            newest = object;
+                        }
+                    }
+                    index.setSourceObjects(index.getSourceObjects() + batch.size());
+                }
+            }
+            if (newest == null) {
+                return Optional.empty();
+            }
+            index.setLastKey(newest.key());
+            index.setLastModified(newest.lastModified().toString());
+            index.setCompactedAt(Instant.now().toString());
+            s3Util.putObject(eventsKey(prefix), archiveFile, "application/gzip");
+            s3Util.putObject(indexKey(prefix), mapper.writeValueAsBytes(index), "application/json");
+            System.out.println("Compacted " + index.getSourceObjects() + " events of " + prefix + " into " + offset + " bytes");
+            return Optional.of(index);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (archiveFile != null) {
+                try {
+                    Files.deleteIfExists(archiveFile);
+                } catch (IOException e) {
+                    System.out.println("Error deleting " + archiveFile + ": " + e);
+                }
+            }
+        }
+    }
+
+    static String eventsKey(String prefix) {
+        return ARCHIVE_ROOT + prefix + EVENTS_OBJECT;
+    }
+
+    static String indexKey(String prefix) {
+        return ARCHIVE_ROOT + prefix + INDEX_OBJECT;
+    }
+
+    /*
+    Source object as a single line of JSON.
+     */
+    private String readEvent(String objectKey) throws IOException {
+        try (ResponseInputStream<GetObjectResponse> eventInputStream = s3Util.getObjectInputStream(objectKey)) {
+            return mapper.readTree(eventInputStream).toString();
+        }
+    }
+
+    private static String await(Future<String> event) {
+        try {
+            return event.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
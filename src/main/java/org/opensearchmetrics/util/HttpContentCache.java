@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+Bodies of the small files read from raw.githubusercontent.com (MAINTAINERS.md files, version files of the release checkers),
+fetched over one shared, pooled HTTP client and kept with their ETag and Last-Modified in an LRU cache of at most maxEntries files.
+Every get revalidates the cached copy with If-None-Match / If-Modified-Since, so an unchanged file costs a 304
+without a body. Responses are always consumed and closed, so their connections go back to the pool.
+ */
+@Singleton
+public class HttpContentCache {
+    private static final int MAX_ENTRIES = 256;
+    private static final int MAX_CONNECTIONS = 16;
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int SOCKET_TIMEOUT_MILLIS = 30_000;
+
+    private final CloseableHttpClient httpClient;
+    // Body and validators by URL, least recently used first
+    private final Map<String, Content> cachedContents;
+
+    @Inject
+    public HttpContentCache() {
+        this(pooledHttpClient(MAX_CONNECTIONS), MAX_ENTRIES);
+    }
+
+    public HttpContentCache(CloseableHttpClient httpClient, int maxEntries) {
+        this.httpClient = httpClient;
+        this.cachedContents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Content> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /*
+    Body of the file at url. Throws FileNotFoundException when there is none, as URL.openStream does.
+    Any other failed request falls back to the cached body, if any.
+     */
+    public String get(String url) throws IOException {
+        return getContent(url, null).getBody();
+    }
+
+    /*
+    Body and ETag of the file at url, as get. knownEtag is the ETag of a copy the caller kept itself (for instance
+    parsed, or stored by an earlier Lambda container), or null. When nothing is cached for url, that copy is
+    revalidated instead, and a 304 for it returns a Content without body: the caller's copy is still current.
+     */
+    public Content getContent(String url, String knownEtag) throws IOException {
+        Content cachedContent;
+        synchronized (cachedContents) {
+            cachedContent = cachedContents.get(url);
+        }
+        HttpGet request = new HttpGet(url);
+        String etag = cachedContent != null ? cachedContent.etag : knownEtag;
+        if (etag != null) {
+            request.setHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        if (cachedContent != null && cachedContent.lastModified != null) {
+            request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, cachedContent.lastModified);
+        }
+        int statusCode;
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode == HttpStatus.SC_NOT_MODIFIED && (cachedContent != null || knownEtag != null)) {
+                EntityUtils.consumeQuietly(response.getEntity());
+                return cachedContent != null ? cachedContent : new Content(knownEtag, null, null);
+            }
+            if (statusCode == HttpStatus.SC_OK) {
+                Content content = new Content(headerValue(response.getFirstHeader(HttpHeaders.ETAG)),
+                        headerValue(response.getFirstHeader(HttpHeaders.LAST_MODIFIED)),
+                        EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8));
+                synchronized (cachedContents) {
+                    if (content.etag != null || content.lastModified != null) {
+                        cachedContents.put(url, content);
+                    } else {
+                        cachedContents.remove(url);
+                    }
+                }
+                return content;
+            }
+            EntityUtils.consumeQuietly(response.getEntity());
+        } catch (IOException e) {
+            if (cachedContent != null) {
+                System.out.println("Error fetching " + url + ", using the cached body: " + e);
+                return cachedContent;
+            }
+            throw e;
+        }
+        if (statusCode == HttpStatus.SC_NOT_FOUND) {
+            synchronized (cachedContents) {
+                cachedContents.remove(url);
+            }
+            throw new FileNotFoundException(url);
+        }
+        if (cachedContent != null) {
+            System.out.println("Error fetching " + url + ": HTTP " + statusCode + ", using the cached body");
+            return cachedContent;
+        }
+        throw new IOException("Error fetching " + url + ": HTTP " + statusCode);
+    }
+
+    private static String headerValue(Header header) {
+        return header == null ? null : header.getValue();
+    }
+
+    private static CloseableHttpClient pooledHttpClient(int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(CONNECT_TIMEOUT_MILLIS)
+                        .setConnectionRequestTimeout(CONNECT_TIMEOUT_MILLIS)
+                        .setSocketTimeout(SOCKET_TIMEOUT_MILLIS)
+                        .build())
+                .build();
+    }
+
+    /*
+    A file body with its validators. body is null when the caller's own copy was found current.
+     */
+    public static class Content {
+        private final String etag;
+        private final String lastModified;
+        private final String body;
+
+        private Content(String etag, String lastModified, String body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.body = body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getBody() {
+            return body;
+        }
+    }
+}
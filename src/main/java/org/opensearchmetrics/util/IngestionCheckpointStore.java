@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearchmetrics.model.event.IngestionCheckpoint;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Persists, per S3 event prefix, how far GithubEventsLambda has indexed, as one document per prefix
+ * in an OpenSearch index. A run only fetches objects modified at or after the checkpoint of their prefix.
+ */
+public class IngestionCheckpointStore {
+    public static final String CHECKPOINT_INDEX = "github-events-ingestion-checkpoints";
+
+    private final OpenSearchUtil openSearchUtil;
+    private final ObjectMapper mapper;
+
+    public IngestionCheckpointStore(OpenSearchUtil openSearchUtil, ObjectMapper mapper) {
+        this.openSearchUtil = openSearchUtil;
+        this.mapper = mapper;
+    }
+
+    public void createIndexIfNotExists() {
+        openSearchUtil.createIndexIfNotExists(CHECKPOINT_INDEX, Optional.empty());
+    }
+
+    public Optional<IngestionCheckpoint> load(String prefix) {
+        return openSearchUtil.getDocument(CHECKPOINT_INDEX, prefix)
+                .map(source -> {
+                    IngestionCheckpoint checkpoint = new IngestionCheckpoint();
+                    checkpoint.setPrefix(prefix);
+                    checkpoint.setLastKey((String) source.get("last_key"));
+                    checkpoint.setLastModified((String) source.get("last_modified"));
+                    checkpoint.setUpdatedAt((String) source.get("updated_at"));
+                    return checkpoint;
+                });
+    }
+
+    public void save(Collection<IngestionCheckpoint> checkpoints) {
+        if (checkpoints.isEmpty()) {
+            return;
+        }
+        Map<String, String> checkpointData = checkpoints.stream()
+                .collect(Collectors.toMap(IngestionCheckpoint::getPrefix, checkpoint -> checkpoint.getJson(checkpoint, mapper)));
+        BulkIndexResult result = openSearchUtil.bulkIndex(CHECKPOINT_INDEX, checkpointData);
+        if (result.hasDropped()) {
+            throw new RuntimeException("Dropped " + result.getDropped() + " of " + checkpointData.size() + " checkpoints indexing " + CHECKPOINT_INDEX);
+        }
+    }
+}
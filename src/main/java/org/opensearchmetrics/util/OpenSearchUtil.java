@@ -8,7 +8,8 @@
  */
 package org.opensearchmetrics.util;
 
-import com.google.common.collect.Iterables;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.DocWriteResponse;
@@ -16,7 +17,10 @@ import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.delete.DeleteResponse;
-import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RequestOptions;
@@ -27,29 +31,61 @@ import org.opensearch.action.support.master.AcknowledgedResponse;
 import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
 import org.opensearch.client.indices.GetIndexRequest;
 import org.opensearch.common.settings.Settings;
-import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearchmetrics.model.IndexDocument;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 public class OpenSearchUtil {
     private static final int NUM_REPLICAS = 2;
     private static final int NUM_THREADS = 8;
     private static final int OS_BULK_SIZE = 200;
+    private static final long OS_BULK_SIZE_BYTES = 5 * 1024 * 1024;
+    private static final long BULK_FLUSH_INTERVAL_SECONDS = 5;
     private static final int INDEX_THREAD_TIMEOUT_MINUTES = 10;
+    private static final int BULK_MAX_RETRIES = 5;
+    private static final long BULK_RETRY_BASE_DELAY_MILLIS = 200;
+    private static final long BULK_RETRY_MAX_DELAY_MILLIS = 10_000;
+    private static final long BULK_RETRY_BUDGET = 50_000;
+    // RestClient's default connections per route: more async requests than connections would only queue in the pool
+    public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 10;
 
     private final RestHighLevelClient client;
+    private final Semaphore inFlightRequests;
+    // Completes the async futures, so dependent stages never run on (and block) the client's I/O reactor thread
+    private final ExecutorService asyncCallbackExecutor;
+    private final ExecutorService bulkExecutor;
+    private final ScheduledExecutorService bulkFlushScheduler;
+    private final long bulkRetryBudget;
 
     public OpenSearchUtil(RestHighLevelClient client) {
+        this(client, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+    }
+
+    public OpenSearchUtil(RestHighLevelClient client, int maxInFlightRequests) {
+        this(client, maxInFlightRequests, BULK_RETRY_BUDGET);
+    }
+
+    @VisibleForTesting
+    OpenSearchUtil(RestHighLevelClient client, int maxInFlightRequests, long bulkRetryBudget) {
         this.client = client;
+        this.inFlightRequests = new Semaphore(Math.max(1, maxInFlightRequests));
+        this.asyncCallbackExecutor = Executors.newCachedThreadPool(
+                new ThreadFactoryBuilder().setNameFormat("opensearch-async-%d").setDaemon(true).build());
+        // Shared by every bulkIndex call for the lifetime of the (warm) Lambda container
+        this.bulkExecutor = Executors.newFixedThreadPool(NUM_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("bulk-index-%d").setDaemon(true).build());
+        this.bulkFlushScheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("bulk-flush-%d").setDaemon(true).build());
+        this.bulkRetryBudget = bulkRetryBudget;
     }
 
     public void createIndexIfNotExists(String index, Optional<String> aliasName) {
@@ -100,56 +136,72 @@ public class OpenSearchUtil {
      *
      * @param index   name of the index
      * @param jsonMap key/value pair where key is the id of the doc and value is the json string
+     * @return counts of documents indexed, retried and dropped
      * @throws Exception if indexing failed
      */
-    public void bulkIndex(@NonNull String index, @NonNull Map<String, String> jsonMap) {
+    public BulkIndexResult bulkIndex(@NonNull String index, @NonNull Map<String, String> jsonMap) {
         if (jsonMap.isEmpty()) {
             System.out.println("Empty data received for indexing");
-            return;
+            return new BulkIndexResult(0, 0, 0);
         }
-        var forkJoinPool = new ForkJoinPool(NUM_THREADS);
-        Set<Map.Entry<String, String>> entries = jsonMap.entrySet();
-        var partitions = Iterables.partition(entries, Math.max(1, entries.size() / NUM_THREADS));
-        try {
-            forkJoinPool.submit(() -> partitions.forEach(p -> bulkIndexInBatches(index, p)))
-                    .get(INDEX_THREAD_TIMEOUT_MINUTES, TimeUnit.MINUTES);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        } catch (ExecutionException e) {
-            throw new RuntimeException(e);
-        } catch (TimeoutException e) {
-            throw new RuntimeException(e);
+        System.out.println("Started bulk indexing of " + jsonMap.size() + " documents into " + index);
+        BulkIndexer bulkIndexer = bulkIndexer(index);
+        try (bulkIndexer) {
+            jsonMap.forEach(bulkIndexer::add);
         }
+        BulkIndexResult result = bulkIndexer.getResult();
+        System.out.println("Bulk indexing finished for " + index + ": " + result);
+        return result;
     }
 
-    private void bulkIndexInBatches(String index, List<Map.Entry<String, String>> partition) {
-        System.out.println("Started bulk indexing...");
-        BulkRequest bulkRequest = new BulkRequest();
-        for (Map.Entry<String, String> entry : partition) {
-            bulkRequest.add(new IndexRequest()
-                    .index(index)
-                    .id(entry.getKey())
-                    .source(entry.getValue(), XContentType.JSON));
-            if (bulkRequest.numberOfActions() >= OS_BULK_SIZE) {
-                execBulkRequest(bulkRequest, client);
-                bulkRequest = new BulkRequest();
-            }
+    /**
+     * Bulk index documents into an OpenSearch index, writing each one straight to its source bytes.
+     *
+     * @param index     name of the index
+     * @param documents key/value pair where key is the id of the doc and value is the document
+     * @return counts of documents indexed, retried and dropped
+     */
+    public BulkIndexResult bulkIndexDocuments(@NonNull String index, @NonNull Map<String, ? extends IndexDocument> documents) {
+        if (documents.isEmpty()) {
+            System.out.println("Empty data received for indexing");
+            return new BulkIndexResult(0, 0, 0);
         }
-        if (bulkRequest.numberOfActions() > 0) {
-            execBulkRequest(bulkRequest, client);
+        System.out.println("Started bulk indexing of " + documents.size() + " documents into " + index);
+        BulkIndexer bulkIndexer = bulkIndexer(index);
+        try (bulkIndexer) {
+            documents.forEach((id, document) -> bulkIndexer.add(id, DocumentSerializer.toBytes(document)));
         }
-        System.out.println("Bulk indexing finished on thread");
+        BulkIndexResult result = bulkIndexer.getResult();
+        System.out.println("Bulk indexing finished for " + index + ": " + result);
+        return result;
     }
 
-    private static void execBulkRequest(BulkRequest bulkRequest, RestHighLevelClient client) {
-        try {
-            BulkResponse response = client.bulk(bulkRequest, RequestOptions.DEFAULT);
-            if (response.hasFailures()) {
-                System.out.println("Bulk index has errors: " + response.buildFailureMessage());
-            }
-        } catch (IOException ioException) {
-            System.out.println ("Error " + ioException);
-        }
+    /**
+     * Open a bulk indexer for an index, backed by the shared indexing executor.
+     * Documents are sent in bulk requests of up to OS_BULK_SIZE documents or OS_BULK_SIZE_BYTES,
+     * with up to NUM_THREADS requests in flight, and pending documents are flushed every
+     * BULK_FLUSH_INTERVAL_SECONDS. Rejected documents are retried with a retry policy of its own, so the
+     * retry budget is spent by this indexer only. The caller must close it to send the remainder.
+     *
+     * @param index name of the index
+     * @return a new bulk indexer
+     */
+    public BulkIndexer bulkIndexer(@NonNull String index) {
+        return bulkIndexer(index, OS_BULK_SIZE, OS_BULK_SIZE_BYTES);
+    }
+
+    /**
+     * Open a bulk indexer that sends a bulk request every maxActions documents or maxBytes of source.
+     *
+     * @param index      name of the index
+     * @param maxActions maximum number of documents per bulk request
+     * @param maxBytes   maximum source size per bulk request
+     * @return a new bulk indexer
+     */
+    public BulkIndexer bulkIndexer(@NonNull String index, int maxActions, long maxBytes) {
+        return new BulkIndexer(client, bulkExecutor, bulkFlushScheduler, index, maxActions, maxBytes,
+                NUM_THREADS, BULK_FLUSH_INTERVAL_SECONDS, INDEX_THREAD_TIMEOUT_MINUTES,
+                new BulkRetryPolicy(BULK_MAX_RETRIES, BULK_RETRY_BASE_DELAY_MILLIS, BULK_RETRY_MAX_DELAY_MILLIS, bulkRetryBudget));
     }
 
     public void deleteDocument(String issueIndex, String docId) {
@@ -167,6 +219,22 @@ public class OpenSearchUtil {
         }
     }
 
+    /**
+     * Fetch the source of a document by id.
+     *
+     * @param index name of the index
+     * @param id    id of the document
+     * @return the document source, or empty if there is no such document
+     */
+    public Optional<Map<String, Object>> getDocument(String index, String id) {
+        try {
+            GetResponse response = client.get(new GetRequest(index, id), RequestOptions.DEFAULT);
+            return response.isExists() ? Optional.of(response.getSourceAsMap()) : Optional.empty();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public SearchResponse search(SearchRequest searchRequest) {
         try {
             return client.search(searchRequest, RequestOptions.DEFAULT);
@@ -174,4 +242,84 @@ public class OpenSearchUtil {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Execute several searches in a single _msearch round trip.
+     *
+     * @param multiSearchRequest the searches to execute
+     * @return one response item per search, in request order
+     */
+    public MultiSearchResponse multiSearch(MultiSearchRequest multiSearchRequest) {
+        try {
+            return client.msearch(multiSearchRequest, RequestOptions.DEFAULT);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Execute a search without blocking on the response. The request runs on the client's
+     * async connection pool; at most maxInFlightRequests async requests are outstanding,
+     * further calls block until one of them completes. The permit is released on the I/O reactor
+     * and the future is completed on a separate executor, so a stage chaining another async
+     * request never blocks the reactor that has to release the permits.
+     *
+     * @param searchRequest the search to execute
+     * @return future completed with the response, or exceptionally with the failure
+     */
+    public CompletableFuture<SearchResponse> searchAsync(SearchRequest searchRequest) {
+        CompletableFuture<SearchResponse> future = new CompletableFuture<>();
+        acquireInFlightPermit();
+        try {
+            client.searchAsync(searchRequest, RequestOptions.DEFAULT, completing(future));
+        } catch (RuntimeException e) {
+            inFlightRequests.release();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Execute a bulk request without blocking on the response, sharing the in-flight cap with searchAsync.
+     * Item level failures are reported in the response, not as an exceptional completion.
+     *
+     * @param bulkRequest the bulk request to execute
+     * @return future completed with the response, or exceptionally with the failure
+     */
+    public CompletableFuture<BulkResponse> bulkAsync(BulkRequest bulkRequest) {
+        CompletableFuture<BulkResponse> future = new CompletableFuture<>();
+        acquireInFlightPermit();
+        try {
+            client.bulkAsync(bulkRequest, RequestOptions.DEFAULT, completing(future));
+        } catch (RuntimeException e) {
+            inFlightRequests.release();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void acquireInFlightPermit() {
+        try {
+            inFlightRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private <T> ActionListener<T> completing(CompletableFuture<T> future) {
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(T response) {
+                inFlightRequests.release();
+                asyncCallbackExecutor.execute(() -> future.complete(response));
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                inFlightRequests.release();
+                asyncCallbackExecutor.execute(() -> future.completeExceptionally(e));
+            }
+        };
+    }
 }
@@ -10,13 +10,21 @@ package org.opensearchmetrics.util;
 
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Slf4j
 public class S3Util {
@@ -43,7 +51,89 @@ public class S3Util {
         }
     }
 
+    /*
+    Bytes [start, start + length) of the object, read with a ranged GET.
+     */
+    public ResponseInputStream<GetObjectResponse> getObjectRangeInputStream(String objectName, long start, long length) {
+        try {
+            GetObjectRequest objectRequest = GetObjectRequest
+                    .builder()
+                    .key(objectName)
+                    .bucket(bucketName)
+                    .range("bytes=" + start + "-" + (start + length - 1))
+                    .build();
+
+            return s3Client.getObject(objectRequest);
+        } catch (S3Exception e) {
+            System.err.println(e.awsErrorDetails().errorMessage());
+            throw new RuntimeException("Failed to get object from S3", e);
+        }
+    }
+
+    /*
+    The object, or empty when there is no object under that key.
+     */
+    public Optional<ResponseInputStream<GetObjectResponse>> getObjectInputStreamIfExists(String objectName) {
+        try {
+            GetObjectRequest objectRequest = GetObjectRequest
+                    .builder()
+                    .key(objectName)
+                    .bucket(bucketName)
+                    .build();
+
+            return Optional.of(s3Client.getObject(objectRequest));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            System.err.println(e.awsErrorDetails().errorMessage());
+            throw new RuntimeException("Failed to get object from S3", e);
+        }
+    }
+
+    public void putObject(String objectName, Path file, String contentType) {
+        try {
+            PutObjectRequest objectRequest = PutObjectRequest
+                    .builder()
+                    .key(objectName)
+                    .bucket(bucketName)
+                    .contentType(contentType)
+                    .build();
+
+            s3Client.putObject(objectRequest, RequestBody.fromFile(file));
+        } catch (S3Exception e) {
+            System.err.println(e.awsErrorDetails().errorMessage());
+            throw new RuntimeException("Failed to put object to S3", e);
+        }
+    }
+
+    public void putObject(String objectName, byte[] content, String contentType) {
+        try {
+            PutObjectRequest objectRequest = PutObjectRequest
+                    .builder()
+                    .key(objectName)
+                    .bucket(bucketName)
+                    .contentType(contentType)
+                    .build();
+
+            s3Client.putObject(objectRequest, RequestBody.fromBytes(content));
+        } catch (S3Exception e) {
+            System.err.println(e.awsErrorDetails().errorMessage());
+            throw new RuntimeException("Failed to put object to S3", e);
+        }
+    }
+
     public List<String> listObjectsKeys(String prefix) {
+        return streamObjects(prefix)
+                .map(S3Object::key)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /*
+    Objects (key, LastModified, size) under prefix, listed lazily: the next ListObjectsV2 page is only requested
+    once the objects of the previous one have been consumed, so callers can start on the first page right away.
+     */
+    public Stream<S3Object> streamObjects(String prefix) {
+        Iterator<ListObjectsV2Response> pages;
         try {
             ListObjectsV2Request listReq = ListObjectsV2Request.builder()
                     .bucket(bucketName)
@@ -51,14 +141,36 @@ public class S3Util {
                     .build();
 
             ListObjectsV2Iterable listRes = s3Client.listObjectsV2Paginator(listReq);
-
-            return listRes.stream()
-                    .flatMap(r -> r.contents().stream())
-                    .map(S3Object::key)
-                    .collect(Collectors.toCollection(ArrayList::new));
+            pages = listRes.stream().iterator();
         } catch (S3Exception e) {
-            System.out.println(e.awsErrorDetails().errorMessage());
-            throw new RuntimeException("Failed to list object keys from S3", e);
+            throw listFailure(e);
         }
+        // Pages are fetched inside hasNext, so failures of later pages surface while the stream is consumed
+        Iterator<ListObjectsV2Response> listedPages = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return pages.hasNext();
+                } catch (S3Exception e) {
+                    throw listFailure(e);
+                }
+            }
+
+            @Override
+            public ListObjectsV2Response next() {
+                try {
+                    return pages.next();
+                } catch (S3Exception e) {
+                    throw listFailure(e);
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(listedPages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(page -> page.contents().stream());
+    }
+
+    private static RuntimeException listFailure(S3Exception e) {
+        System.out.println(e.awsErrorDetails().errorMessage());
+        return new RuntimeException("Failed to list object keys from S3", e);
     }
 }
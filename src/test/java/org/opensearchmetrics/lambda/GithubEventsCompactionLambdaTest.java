@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearchmetrics.metrics.events.GithubEvents;
+import org.opensearchmetrics.model.event.EventArchiveIndex;
+import org.opensearchmetrics.util.EventArchive;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GithubEventsCompactionLambdaTest {
+    @Mock
+    private EventArchive eventArchive;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void testHandleRequestCompactsEveryEventOfYesterday() {
+        GithubEventsCompactionLambda compactionLambda = new GithubEventsCompactionLambda(eventArchive);
+        LocalDate yesterday = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+
+        compactionLambda.handleRequest(new HashMap<>(), mock(Context.class));
+
+        int events = GithubEvents.getAllGithubEvents().length;
+        verify(eventArchive, times(events)).compact(anyString(), any(ExecutorService.class));
+        verify(eventArchive).compact(eq(GithubEvents.getAllGithubEvents()[0].getEventName() + "/" + yesterday + "/"), any(ExecutorService.class));
+    }
+
+    @Test
+    public void testHandleRequestSkipsCompactedDaysAndToday() {
+        GithubEventsCompactionLambda compactionLambda = new GithubEventsCompactionLambda(eventArchive);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(eventArchive.readIndex(anyString())).thenReturn(Optional.of(new EventArchiveIndex()));
+
+        Map<String, String> input = new HashMap<>();
+        input.put("collectionStartDate", today.minusDays(1).toString());
+        input.put("collectionEndDate", today.toString());
+        compactionLambda.handleRequest(input, mock(Context.class));
+
+        verify(eventArchive, never()).compact(anyString(), any(ExecutorService.class));
+    }
+
+    @Test
+    public void testHandleRequestOverwrite() {
+        GithubEventsCompactionLambda compactionLambda = new GithubEventsCompactionLambda(eventArchive);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(eventArchive.readIndex(anyString())).thenReturn(Optional.of(new EventArchiveIndex()));
+
+        Map<String, String> input = new HashMap<>();
+        input.put("collectionStartDate", today.minusDays(2).toString());
+        input.put("collectionEndDate", today.toString());
+        input.put("overwrite", "true");
+        compactionLambda.handleRequest(input, mock(Context.class));
+
+        int events = GithubEvents.getAllGithubEvents().length;
+        verify(eventArchive, times(2 * events)).compact(anyString(), any(ExecutorService.class));
+        verify(eventArchive, never()).compact(startsWith(GithubEvents.getAllGithubEvents()[0].getEventName() + "/" + today), any(ExecutorService.class));
+    }
+}
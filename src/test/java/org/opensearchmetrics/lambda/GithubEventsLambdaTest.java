@@ -12,27 +12,41 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearchmetrics.model.IndexDocument;
+import org.opensearchmetrics.model.event.EventArchiveIndex;
+import org.opensearchmetrics.model.event.IngestionCheckpoint;
+import org.opensearchmetrics.util.BulkIndexResult;
+import org.opensearchmetrics.util.BulkIndexer;
+import org.opensearchmetrics.util.EventArchive;
+import org.opensearchmetrics.util.IngestionCheckpointStore;
 import org.opensearchmetrics.util.OpenSearchUtil;
 import org.opensearchmetrics.util.S3Util;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -47,9 +61,20 @@ public class GithubEventsLambdaTest {
     @Mock
     private S3Util s3Util;
 
+    @Mock
+    private BulkIndexer bulkIndexer;
+
+    @Mock
+    private IngestionCheckpointStore checkpointStore;
+
+    @Mock
+    private EventArchive eventArchive;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(openSearchUtil.bulkIndexer(anyString(), anyInt(), anyLong())).thenReturn(bulkIndexer);
+        when(bulkIndexer.getResult()).thenReturn(new BulkIndexResult(0, 0, 0));
     }
 
     @Test
@@ -58,10 +83,10 @@ public class GithubEventsLambdaTest {
         ObjectMapper realMapper = new ObjectMapper();
         GithubEventsLambda githubEventsLambda = new GithubEventsLambda(openSearchUtil, s3Util, realMapper);
         String eventJson = "{\"id\":\"123\",\"name\":\"push\",\"payload\":{\"repository\":{\"name\":\"myrepo\"},\"organization\":{\"login\":\"myorg\"},\"action\":\"created\",\"sender\":{\"login\":\"user\"}},\"uploaded_at\":\"2023-05-01T12:00:00Z\"}";
-        List<String> objectKeys = List.of("test_s3_key");
+        List<S3Object> objects = List.of(s3Object("test_s3_key", Instant.parse("2023-05-01T12:00:00Z")));
         GetObjectResponse getObjectResponse = mock(GetObjectResponse.class);
 
-        when(s3Util.listObjectsKeys(anyString())).thenReturn(objectKeys);
+        when(s3Util.streamObjects(anyString())).thenAnswer(invocation -> objects.stream());
         when(s3Util.getObjectInputStream(anyString())).thenReturn(new ResponseInputStream<>(getObjectResponse, new ByteArrayInputStream(eventJson.getBytes())));
 
         Map<String,String> input = new HashMap<>();
@@ -77,8 +102,10 @@ public class GithubEventsLambdaTest {
         String indexNameToday = "github-user-activity-events-" + today.format(DateTimeFormatter.ofPattern("MM-yyyy"));
         verify(openSearchUtil, atLeastOnce()).createIndexIfNotExists(indexNameYesterday, Optional.empty());
         verify(openSearchUtil, atLeastOnce()).createIndexIfNotExists(indexNameToday, Optional.empty());
-        verify(openSearchUtil, atLeastOnce()).bulkIndex(eq(indexNameYesterday), any(Map.class));
-        verify(openSearchUtil, atLeastOnce()).bulkIndex(eq(indexNameToday), any(Map.class));
+        verify(openSearchUtil, atLeastOnce()).bulkIndexer(eq(indexNameYesterday), anyInt(), anyLong());
+        verify(openSearchUtil, atLeastOnce()).bulkIndexer(eq(indexNameToday), anyInt(), anyLong());
+        verify(bulkIndexer, atLeastOnce()).add(argThat((IndexDocument document) -> "123".equals(document.getId())));
+        verify(bulkIndexer, atLeastOnce()).close();
     }
 
     @Test
@@ -87,10 +114,10 @@ public class GithubEventsLambdaTest {
         ObjectMapper realMapper = new ObjectMapper();
         GithubEventsLambda githubEventsLambda = new GithubEventsLambda(openSearchUtil, s3Util, realMapper);
         String eventJson = "{\"id\":\"123\",\"name\":\"push\",\"payload\":{\"repository\":{\"name\":\"myrepo\"},\"organization\":{\"login\":\"myorg\"},\"action\":\"created\",\"sender\":{\"login\":\"user\"}},\"uploaded_at\":\"2023-05-01T12:00:00Z\"}";
-        List<String> objectKeys = List.of("test_s3_key");
+        List<S3Object> objects = List.of(s3Object("test_s3_key", Instant.parse("2023-05-01T12:00:00Z")));
         GetObjectResponse getObjectResponse = mock(GetObjectResponse.class);
 
-        when(s3Util.listObjectsKeys(anyString())).thenReturn(objectKeys);
+        when(s3Util.streamObjects(anyString())).thenAnswer(invocation -> objects.stream());
         when(s3Util.getObjectInputStream(anyString())).thenReturn(new ResponseInputStream<>(getObjectResponse, new ByteArrayInputStream(eventJson.getBytes())));
 
         Map<String,String> input = new HashMap<>();
@@ -104,11 +131,14 @@ public class GithubEventsLambdaTest {
         // Assert
         String indexNameLastMonth = "github-user-activity-events-" + lastMonth.format(DateTimeFormatter.ofPattern("MM-yyyy"));
         verify(openSearchUtil, atLeastOnce()).createIndexIfNotExists(indexNameLastMonth, Optional.empty());
-        verify(openSearchUtil, atLeastOnce()).bulkIndex(eq(indexNameLastMonth), any(Map.class));
+        verify(openSearchUtil, atLeastOnce()).bulkIndexer(eq(indexNameLastMonth), anyInt(), anyLong());
 
         String indexNameThisMonth = "github-user-activity-events-" + today.format(DateTimeFormatter.ofPattern("MM-yyyy"));
         verify(openSearchUtil, atLeastOnce()).createIndexIfNotExists(indexNameThisMonth, Optional.empty());
-        verify(openSearchUtil, atLeastOnce()).bulkIndex(eq(indexNameThisMonth), any(Map.class));
+        verify(openSearchUtil, atLeastOnce()).bulkIndexer(eq(indexNameThisMonth), anyInt(), anyLong());
+        // last month's indexer is closed when this month starts, this month's at the end of the run
+        verify(openSearchUtil, times(2)).bulkIndexer(anyString(), anyInt(), anyLong());
+        verify(bulkIndexer, times(2)).close();
     }
 
     @Test
@@ -117,10 +147,10 @@ public class GithubEventsLambdaTest {
         ObjectMapper realMapper = new ObjectMapper();
         GithubEventsLambda githubEventsLambda = new GithubEventsLambda(openSearchUtil, s3Util, realMapper);
         String eventJson = "{\"id\":\"123\",\"name\":\"push\",\"payload\":{\"repository\":{\"name\":\"myrepo\"},\"organization\":{\"login\":\"myorg\"},\"action\":\"created\",\"sender\":{\"login\":\"user\"}},\"uploaded_at\":\"2023-05-01T12:00:00Z\"}";
-        List<String> objectKeys = List.of("test_s3_key");
+        List<S3Object> objects = List.of(s3Object("test_s3_key", Instant.parse("2023-05-01T12:00:00Z")));
         GetObjectResponse getObjectResponse = mock(GetObjectResponse.class);
 
-        when(s3Util.listObjectsKeys(anyString())).thenReturn(objectKeys);
+        when(s3Util.streamObjects(anyString())).thenAnswer(invocation -> objects.stream());
         when(s3Util.getObjectInputStream(anyString())).thenReturn(new ResponseInputStream<>(getObjectResponse, new ByteArrayInputStream(eventJson.getBytes())));
 
         Map<String,String> input = new HashMap<>();
@@ -135,8 +165,8 @@ public class GithubEventsLambdaTest {
         String indexNameToday = "github-user-activity-events-" + today.format(DateTimeFormatter.ofPattern("MM-yyyy"));
         verify(openSearchUtil, atLeastOnce()).createIndexIfNotExists(indexNameYesterday, Optional.empty());
         verify(openSearchUtil, atLeastOnce()).createIndexIfNotExists(indexNameToday, Optional.empty());
-        verify(openSearchUtil, atLeastOnce()).bulkIndex(eq(indexNameYesterday), any(Map.class));
-        verify(openSearchUtil, atLeastOnce()).bulkIndex(eq(indexNameToday), any(Map.class));
+        verify(openSearchUtil, atLeastOnce()).bulkIndexer(eq(indexNameYesterday), anyInt(), anyLong());
+        verify(openSearchUtil, atLeastOnce()).bulkIndexer(eq(indexNameToday), anyInt(), anyLong());
     }
 
     @Test
@@ -144,12 +174,12 @@ public class GithubEventsLambdaTest {
         // Arrange
         GithubEventsLambda githubEventsLambda = new GithubEventsLambda(openSearchUtil, s3Util, objectMapper);
         String eventJson = "{\"id\":\"123\",\"name\":\"push\",\"payload\":\"repository\":{\"name\":\"myrepo\"},\"organization\":{\"login\":\"myorg\"},\"action\":\"created\",\"sender\":{\"login\":\"user\"}},\"uploaded_at\":\"2023-05-01T12:00:00Z\"}";
-        List<String> objectKeys = List.of("test_s3_key");
+        List<S3Object> objects = List.of(s3Object("test_s3_key", Instant.parse("2023-05-01T12:00:00Z")));
         GetObjectResponse getObjectResponse = mock(GetObjectResponse.class);
 
-        when(s3Util.listObjectsKeys(anyString())).thenReturn(objectKeys);
+        when(s3Util.streamObjects(anyString())).thenAnswer(invocation -> objects.stream());
         when(s3Util.getObjectInputStream(anyString())).thenReturn(new ResponseInputStream<>(getObjectResponse, new ByteArrayInputStream(eventJson.getBytes())));
-        doThrow(new RuntimeException("Error running Github Events Lambda")).when(objectMapper).readTree(any(InputStream.class));
+        doThrow(new RuntimeException("Error running Github Events Lambda")).when(objectMapper).createParser(any(InputStream.class));
 
         Map<String,String> input = new HashMap<>();
         LocalDate yesterday = LocalDate.now(ZoneOffset.UTC).minus(1, ChronoUnit.DAYS);
@@ -173,4 +203,168 @@ public class GithubEventsLambdaTest {
                 githubEventsLambda.handleRequest(input, mock(Context.class))
         );
     }
+
+    @Test
+    public void testHandleRequestSkipsObjectsBeforeCheckpoint() {
+        // Arrange
+        ObjectMapper realMapper = new ObjectMapper();
+        GithubEventsLambda githubEventsLambda = new GithubEventsLambda(openSearchUtil, s3Util, realMapper, checkpointStore, eventArchive);
+        String eventJson = "{\"id\":\"123\",\"name\":\"push\",\"payload\":{\"repository\":{\"name\":\"myrepo\"}},\"uploaded_at\":\"2023-05-01T12:00:00Z\"}";
+        Instant checkpointTime = Instant.parse("2023-05-01T12:00:00Z");
+        IngestionCheckpoint checkpoint = new IngestionCheckpoint();
+        checkpoint.setLastModified(checkpointTime.toString());
+        GetObjectResponse getObjectResponse = mock(GetObjectResponse.class);
+
+        when(checkpointStore.load(anyString())).thenReturn(Optional.of(checkpoint));
+        when(s3Util.streamObjects(anyString())).thenAnswer(invocation -> Stream.of(
+                s3Object("old_key", checkpointTime.minusSeconds(600)),
+                s3Object("late_key", checkpointTime.minusSeconds(60)),
+                s3Object("new_key", checkpointTime.plusSeconds(60))));
+        when(s3Util.getObjectInputStream(anyString())).thenAnswer(invocation ->
+                new ResponseInputStream<>(getObjectResponse, new ByteArrayInputStream(eventJson.getBytes())));
+
+        Map<String,String> input = new HashMap<>();
+        input.put("collectionStartDate", LocalDate.now(ZoneOffset.UTC).toString());
+
+        // Act
+        githubEventsLambda.handleRequest(input, mock(Context.class));
+
+        // Assert
+        verify(s3Util, never()).getObjectInputStream("old_key");
+        // Modified within the overlap before the checkpoint, so fetched again in case it was listed late
+        verify(s3Util, atLeastOnce()).getObjectInputStream("late_key");
+        verify(s3Util, atLeastOnce()).getObjectInputStream("new_key");
+        verify(bulkIndexer, atLeastOnce()).awaitSent();
+        ArgumentCaptor<Collection<IngestionCheckpoint>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(checkpointStore).save(captor.capture());
+        IngestionCheckpoint saved = captor.getValue().iterator().next();
+        assertEquals("new_key", saved.getLastKey());
+        assertEquals(checkpointTime.plusSeconds(60).toString(), saved.getLastModified());
+    }
+
+    @Test
+    public void testHandleRequestIgnoreCheckpoints() {
+        // Arrange
+        ObjectMapper realMapper = new ObjectMapper();
+        GithubEventsLambda githubEventsLambda = new GithubEventsLambda(openSearchUtil, s3Util, realMapper, checkpointStore, eventArchive);
+        when(s3Util.streamObjects(anyString())).thenAnswer(invocation -> Stream.empty());
+
+        Map<String,String> input = new HashMap<>();
+        input.put("collectionStartDate", LocalDate.now(ZoneOffset.UTC).toString());
+        input.put("ignoreCheckpoints", "true");
+
+        // Act
+        githubEventsLambda.handleRequest(input, mock(Context.class));
+
+        // Assert
+        verify(checkpointStore, never()).load(anyString());
+    }
+
+    @Test
+    public void testHandleRequestDroppedEventsKeepCheckpoint() {
+        // Arrange
+        ObjectMapper realMapper = new ObjectMapper();
+        GithubEventsLambda githubEventsLambda = new GithubEventsLambda(openSearchUtil, s3Util, realMapper, checkpointStore, eventArchive);
+        String eventJson = "{\"id\":\"123\",\"name\":\"push\",\"uploaded_at\":\"2023-05-01T12:00:00Z\"}";
+        GetObjectResponse getObjectResponse = mock(GetObjectResponse.class);
+
+        when(s3Util.streamObjects(anyString())).thenAnswer(invocation -> Stream.of(s3Object("test_s3_key", Instant.now())));
+        when(s3Util.getObjectInputStream(anyString())).thenAnswer(invocation ->
+                new ResponseInputStream<>(getObjectResponse, new ByteArrayInputStream(eventJson.getBytes())));
+        when(bulkIndexer.getResult()).thenReturn(new BulkIndexResult(0, 0, 0), new BulkIndexResult(0, 0, 1));
+
+        Map<String,String> input = new HashMap<>();
+        input.put("collectionStartDate", LocalDate.now(ZoneOffset.UTC).toString());
+
+        // Act
+        githubEventsLambda.handleRequest(input, mock(Context.class));
+
+        // Assert
+        verify(checkpointStore, never()).save(any());
+    }
+
+    @Test
+    public void testHandleRequestReadsCompactedArchive() {
+        // Arrange
+        ObjectMapper realMapper = new ObjectMapper();
+        GithubEventsLambda githubEventsLambda = new GithubEventsLambda(openSearchUtil, s3Util, realMapper, checkpointStore, eventArchive);
+        String eventJson = "{\"id\":\"123\",\"name\":\"push\",\"uploaded_at\":\"2023-05-01T12:00:00Z\"}";
+        Instant archivedUntil = Instant.parse("2023-05-01T12:00:00Z");
+        EventArchiveIndex archive = new EventArchiveIndex();
+        archive.setLastKey("archived_key");
+        archive.setLastModified(archivedUntil.toString());
+        archive.getBlocks().add(new EventArchiveIndex.Block(0, 100, 1));
+        GetObjectResponse getObjectResponse = mock(GetObjectResponse.class);
+
+        when(eventArchive.readIndex(anyString())).thenReturn(Optional.of(archive));
+        doAnswer(invocation -> {
+            Consumer<String> eventConsumer = invocation.getArgument(2);
+            eventConsumer.accept(eventJson);
+            return null;
+        }).when(eventArchive).readBlock(anyString(), any(EventArchiveIndex.Block.class), any());
+        when(s3Util.streamObjects(anyString())).thenAnswer(invocation -> Stream.of(
+                s3Object("archived_key", archivedUntil.minusSeconds(600)),
+                s3Object("listed_late_key", archivedUntil.minusSeconds(60)),
+                s3Object("late_key", archivedUntil.plusSeconds(60))));
+        when(s3Util.getObjectInputStream(anyString())).thenAnswer(invocation ->
+                new ResponseInputStream<>(getObjectResponse, new ByteArrayInputStream(eventJson.getBytes())));
+
+        Map<String,String> input = new HashMap<>();
+        input.put("collectionStartDate", LocalDate.now(ZoneOffset.UTC).toString());
+
+        // Act
+        githubEventsLambda.handleRequest(input, mock(Context.class));
+
+        // Assert
+        verify(eventArchive, atLeastOnce()).readBlock(anyString(), eq(archive.getBlocks().get(0)), any());
+        verify(s3Util, never()).getObjectInputStream("archived_key");
+        // Within the overlap before the end of the archive, in case the compaction listing missed it
+        verify(s3Util, atLeastOnce()).getObjectInputStream("listed_late_key");
+        verify(s3Util, atLeastOnce()).getObjectInputStream("late_key");
+        verify(bulkIndexer, atLeastOnce()).add(argThat((IndexDocument document) -> "123".equals(document.getId())));
+    }
+
+    @Test
+    public void testHandleRequestSkipsIngestedArchive() {
+        // Arrange
+        ObjectMapper realMapper = new ObjectMapper();
+        GithubEventsLambda githubEventsLambda = new GithubEventsLambda(openSearchUtil, s3Util, realMapper, checkpointStore, eventArchive);
+        String eventJson = "{\"id\":\"123\",\"name\":\"push\",\"uploaded_at\":\"2023-05-01T12:00:00Z\"}";
+        Instant archivedUntil = Instant.parse("2023-05-01T12:00:00Z");
+        EventArchiveIndex archive = new EventArchiveIndex();
+        archive.setLastKey("archived_key");
+        archive.setLastModified(archivedUntil.toString());
+        archive.getBlocks().add(new EventArchiveIndex.Block(0, 100, 1));
+        GetObjectResponse getObjectResponse = mock(GetObjectResponse.class);
+        // Checkpoints saved by a run are loaded by the next one
+        Map<String, IngestionCheckpoint> checkpoints = new HashMap<>();
+
+        when(checkpointStore.load(anyString())).thenAnswer(invocation -> Optional.ofNullable(checkpoints.get(invocation.<String>getArgument(0))));
+        doAnswer(invocation -> {
+            Collection<IngestionCheckpoint> saved = invocation.getArgument(0);
+            saved.forEach(checkpoint -> checkpoints.put(checkpoint.getPrefix(), checkpoint));
+            return null;
+        }).when(checkpointStore).save(any());
+        when(eventArchive.readIndex(anyString())).thenReturn(Optional.of(archive));
+        when(s3Util.streamObjects(anyString())).thenAnswer(invocation -> Stream.of(
+                s3Object("archived_key", archivedUntil)));
+        when(s3Util.getObjectInputStream(anyString())).thenAnswer(invocation ->
+                new ResponseInputStream<>(getObjectResponse, new ByteArrayInputStream(eventJson.getBytes())));
+
+        Map<String,String> input = new HashMap<>();
+        input.put("collectionStartDate", LocalDate.now(ZoneOffset.UTC).toString());
+
+        // Act
+        githubEventsLambda.handleRequest(input, mock(Context.class));
+        verify(eventArchive, atLeastOnce()).readBlock(anyString(), any(EventArchiveIndex.Block.class), any());
+        clearInvocations(eventArchive);
+        githubEventsLambda.handleRequest(input, mock(Context.class));
+
+        // Assert
+        verify(eventArchive, never()).readBlock(anyString(), any(EventArchiveIndex.Block.class), any());
+    }
+
+    private static S3Object s3Object(String key, Instant lastModified) {
+        return S3Object.builder().key(key).lastModified(lastModified).build();
+    }
 }
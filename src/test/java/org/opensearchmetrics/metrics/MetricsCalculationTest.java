@@ -10,6 +10,7 @@ package org.opensearchmetrics.metrics;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -19,19 +20,26 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearchmetrics.metrics.general.*;
 import org.opensearchmetrics.metrics.label.LabelMetrics;
 import org.opensearchmetrics.metrics.maintainer.MaintainerMetrics;
+import org.opensearchmetrics.metrics.maintainer.MaintainerSnapshot;
+import org.opensearchmetrics.metrics.maintainer.RepoActivityProfile;
 import org.opensearchmetrics.metrics.release.ReleaseInputs;
 import org.opensearchmetrics.metrics.release.ReleaseMetrics;
+import org.opensearchmetrics.metrics.release.ReleaseRepoMetrics;
 import org.opensearchmetrics.model.codecov.CodeCovResponse;
 import org.opensearchmetrics.model.label.LabelData;
 import org.opensearchmetrics.model.general.MetricsData;
 import org.opensearchmetrics.model.maintainer.LatestEventData;
 import org.opensearchmetrics.model.maintainer.MaintainerData;
 import org.opensearchmetrics.model.release.ReleaseMetricsData;
+import org.opensearchmetrics.util.BulkIndexResult;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
 import java.io.IOException;
@@ -42,9 +50,14 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -96,6 +109,7 @@ public class MetricsCalculationTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(openSearchUtil.bulkIndexDocuments(anyString(), anyMap())).thenReturn(new BulkIndexResult(1, 0, 0));
         metricsCalculation = new MetricsCalculation(openSearchUtil, objectMapper,
                 untriagedIssues, uncommentedPullRequests, unlabelledPullRequests, unlabelledIssues,
                 mergedPullRequests, openPullRequests, openIssues, closedIssues, createdIssues,
@@ -114,11 +128,110 @@ public class MetricsCalculationTest {
         metricsData.setMetricCount(10L);
         when(untriagedIssues.getBoolQueryBuilder(any())).thenReturn(new BoolQueryBuilder());
         when(untriagedIssues.createSearchRequest(any(), any())).thenReturn(new SearchRequest());
-        when(untriagedIssues.performSearch(any(), any())).thenReturn(10L);
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(searchResponse);
+        when(untriagedIssues.getMetricCount(searchResponse)).thenReturn(10L);
+        when(untriagedIssues.getMetricCountRelation(searchResponse)).thenReturn(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
         when(objectMapper.writeValueAsString(any())).thenReturn("json");
         metricsCalculation.generateGeneralMetrics(repositories);
+        verify(untriagedIssues, times(2)).getMetricCount(searchResponse);
+        verify(objectMapper, times(2)).writeValueAsString(argThat(data ->
+                "gte".equals(((Map<?, ?>) data).get("metric_count_relation"))
+                        && Long.valueOf(10L).equals(((Map<?, ?>) data).get("metric_count"))));
         verify(openSearchUtil).createIndexIfNotExists("opensearch_general_metrics", Optional.empty());
-        verify(openSearchUtil).bulkIndex(eq("opensearch_general_metrics"), any(Map.class));
+        verify(openSearchUtil).bulkIndexDocuments(eq("opensearch_general_metrics"), any(Map.class));
+    }
+
+    @Test
+    void testGenerateGeneralMetricsBatched() throws IOException {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setGeneralMetricsBatchSize(5);
+        MetricsCalculation batchedMetricsCalculation = new MetricsCalculation(openSearchUtil, objectMapper,
+                untriagedIssues, uncommentedPullRequests, unlabelledPullRequests, unlabelledIssues,
+                mergedPullRequests, openPullRequests, openIssues, closedIssues, createdIssues,
+                issueComments, pullComments, issuePositiveReactions, issueNegativeReactions,
+                labelMetrics, releaseMetrics, maintainerMetrics, config);
+        List<String> repositories = Arrays.asList("repo1", "repo2");
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(untriagedIssues.createSearchRequest(any(), any())).thenReturn(new SearchRequest());
+        when(untriagedIssues.getMetricCount(searchResponse)).thenReturn(10L);
+        when(openSearchUtil.multiSearch(any(MultiSearchRequest.class))).thenAnswer(invocation -> {
+            MultiSearchRequest request = invocation.getArgument(0);
+            MultiSearchResponse.Item[] items = request.requests().stream()
+                    .map(searchRequest -> new MultiSearchResponse.Item(searchResponse, null))
+                    .toArray(MultiSearchResponse.Item[]::new);
+            return new MultiSearchResponse(items, 1L);
+        });
+        when(objectMapper.writeValueAsString(any())).thenReturn("json");
+        batchedMetricsCalculation.generateGeneralMetrics(repositories);
+        // 2 repos x 13 metrics = 26 searches, 5 per _msearch
+        verify(openSearchUtil, times(6)).multiSearch(any(MultiSearchRequest.class));
+        verify(openSearchUtil, never()).search(any(SearchRequest.class));
+        verify(untriagedIssues, times(2)).getMetricCount(searchResponse);
+        verify(openSearchUtil).createIndexIfNotExists("opensearch_general_metrics", Optional.empty());
+        verify(openSearchUtil).bulkIndexDocuments(eq("opensearch_general_metrics"), argThat(map -> map.size() == 26));
+    }
+
+    @Test
+    void testGenerateGeneralMetricsBatchedFailure() {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setGeneralMetricsBatchSize(100);
+        MetricsCalculation batchedMetricsCalculation = new MetricsCalculation(openSearchUtil, objectMapper,
+                untriagedIssues, uncommentedPullRequests, unlabelledPullRequests, unlabelledIssues,
+                mergedPullRequests, openPullRequests, openIssues, closedIssues, createdIssues,
+                issueComments, pullComments, issuePositiveReactions, issueNegativeReactions,
+                labelMetrics, releaseMetrics, maintainerMetrics, config);
+        when(openSearchUtil.multiSearch(any(MultiSearchRequest.class))).thenAnswer(invocation -> {
+            MultiSearchRequest request = invocation.getArgument(0);
+            MultiSearchResponse.Item[] items = request.requests().stream()
+                    .map(searchRequest -> new MultiSearchResponse.Item(null, new RuntimeException("shard failure")))
+                    .toArray(MultiSearchResponse.Item[]::new);
+            return new MultiSearchResponse(items, 1L);
+        });
+        assertThrows(RuntimeException.class, () -> batchedMetricsCalculation.generateGeneralMetrics(List.of("repo1")));
+        verify(openSearchUtil, never()).bulkIndexDocuments(any(), any());
+    }
+
+    @Test
+    void testGenerateGeneralMetricsParallel() throws IOException {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setRepoConcurrency(4);
+        MetricsCalculation parallelMetricsCalculation = new MetricsCalculation(openSearchUtil, objectMapper,
+                untriagedIssues, uncommentedPullRequests, unlabelledPullRequests, unlabelledIssues,
+                mergedPullRequests, openPullRequests, openIssues, closedIssues, createdIssues,
+                issueComments, pullComments, issuePositiveReactions, issueNegativeReactions,
+                labelMetrics, releaseMetrics, maintainerMetrics, config);
+        List<String> repositories = Arrays.asList("repo1", "repo2", "repo3", "repo4", "repo5", "repo6");
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(openSearchUtil.search(any())).thenReturn(searchResponse);
+        when(untriagedIssues.getMetricCount(searchResponse)).thenReturn(10L);
+        when(objectMapper.writeValueAsString(any())).thenAnswer(invocation -> invocation.getArgument(0).toString());
+
+        metricsCalculation.generateGeneralMetrics(repositories);
+        parallelMetricsCalculation.generateGeneralMetrics(repositories);
+
+        // Same documents under the same IDs, whatever the number of threads
+        ArgumentCaptor<Map> captor = ArgumentCaptor.forClass(Map.class);
+        verify(openSearchUtil, times(2)).bulkIndexDocuments(eq("opensearch_general_metrics"), captor.capture());
+        assertEquals(78, captor.getAllValues().get(1).size());
+        assertEquals(captor.getAllValues().get(0), captor.getAllValues().get(1));
+    }
+
+    @Test
+    void testGenerateGeneralMetricsParallelFailure() {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setRepoConcurrency(4);
+        MetricsCalculation parallelMetricsCalculation = new MetricsCalculation(openSearchUtil, objectMapper,
+                untriagedIssues, uncommentedPullRequests, unlabelledPullRequests, unlabelledIssues,
+                mergedPullRequests, openPullRequests, openIssues, closedIssues, createdIssues,
+                issueComments, pullComments, issuePositiveReactions, issueNegativeReactions,
+                labelMetrics, releaseMetrics, maintainerMetrics, config);
+        when(openSearchUtil.search(any())).thenThrow(new RuntimeException("Error connecting to the cluster"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> parallelMetricsCalculation.generateGeneralMetrics(Arrays.asList("repo1", "repo2", "repo3")));
+        assertEquals("Error connecting to the cluster", exception.getMessage());
+        verify(openSearchUtil, never()).bulkIndexDocuments(any(), any());
     }
 
     @Test
@@ -137,7 +250,19 @@ public class MetricsCalculationTest {
         when(objectMapper.writeValueAsString(any())).thenReturn("json");
         metricsCalculation.generateLabelMetrics(repositories);
         verify(openSearchUtil).createIndexIfNotExists("opensearch_label_metrics", Optional.empty());
-        verify(openSearchUtil).bulkIndex(eq("opensearch_label_metrics"), any(Map.class));
+        verify(openSearchUtil).bulkIndexDocuments(eq("opensearch_label_metrics"), any(Map.class));
+    }
+
+    @Test
+    void testGenerateLabelMetricsDroppedDocuments() throws IOException {
+        Map<String, List<Long>> labelInfo = new HashMap<>();
+        labelInfo.put("label1", Arrays.asList(5L, 10L));
+        when(labelMetrics.getLabelInfo(any(), any())).thenReturn(labelInfo);
+        when(openSearchUtil.bulkIndexDocuments(anyString(), anyMap())).thenReturn(new BulkIndexResult(0, 5, 1));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> metricsCalculation.generateLabelMetrics(List.of("repo1")));
+        assertTrue(exception.getMessage().contains("opensearch_label_metrics"));
     }
 
     @Test
@@ -158,10 +283,119 @@ public class MetricsCalculationTest {
         when(releaseMetrics.getReleaseIssue(ReleaseInputs.VERSION_2_13_0.getVersion(), "repo1")).thenReturn("release-123");
         metricsCalculation.generateReleaseMetrics();
         verify(openSearchUtil).createIndexIfNotExists("opensearch_release_metrics", Optional.empty());
-        verify(openSearchUtil).bulkIndex(eq("opensearch_release_metrics"), ArgumentMatchers.anyMap());
+        verify(openSearchUtil).bulkIndexDocuments(eq("opensearch_release_metrics"), ArgumentMatchers.anyMap());
         verify(openSearchUtil, times(1)).createIndexIfNotExists("opensearch_release_metrics", Optional.empty());
     }
 
+    @Test
+    void testGenerateReleaseMetricsAggregated() {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setReleaseMetricsAggregation(true);
+        MetricsCalculation aggregatedMetricsCalculation = new MetricsCalculation(openSearchUtil, objectMapper,
+                untriagedIssues, uncommentedPullRequests, unlabelledPullRequests, unlabelledIssues,
+                mergedPullRequests, openPullRequests, openIssues, closedIssues, createdIssues,
+                issueComments, pullComments, issuePositiveReactions, issueNegativeReactions,
+                labelMetrics, releaseMetrics, maintainerMetrics, config);
+        try (MockedStatic<ReleaseInputs> mockedReleaseInputs = Mockito.mockStatic(ReleaseInputs.class)) {
+            ReleaseInputs releaseInput = mock(ReleaseInputs.class);
+            when(releaseInput.getVersion()).thenReturn("2.18.0");
+            when(releaseInput.getBranch()).thenReturn("main");
+            when(releaseInput.getTrack()).thenReturn(true);
+            when(releaseInput.getState()).thenReturn("active");
+            mockedReleaseInputs.when(ReleaseInputs::getAllReleaseInputs).thenReturn(new ReleaseInputs[]{releaseInput});
+            Map<String, String> releaseRepos = new LinkedHashMap<>();
+            releaseRepos.put("component1", "repo1");
+            releaseRepos.put("component2", "repo1");
+            releaseRepos.put("component3", "repo2");
+            when(releaseMetrics.getReleaseRepos("2.18.0")).thenReturn(releaseRepos);
+            ReleaseRepoMetrics repo1Metrics = new ReleaseRepoMetrics();
+            repo1Metrics.setIssuesOpen(10L);
+            repo1Metrics.setAutocutIssuesOpen(5L);
+            repo1Metrics.setIssuesClosed(20L);
+            repo1Metrics.setPullsOpen(3L);
+            repo1Metrics.setPullsClosed(8L);
+            repo1Metrics.setReleaseOwners(new String[]{"owner1"});
+            repo1Metrics.setReleaseIssue("https://github.com/opensearch-project/repo1/issues/1");
+            Map<String, ReleaseRepoMetrics> repoMetrics = new LinkedHashMap<>();
+            repoMetrics.put("repo1", repo1Metrics);
+            repoMetrics.put("repo2", new ReleaseRepoMetrics());
+            when(releaseMetrics.getReleaseRepoMetrics("2.18.0", List.of("repo1", "repo2"))).thenReturn(repoMetrics);
+            when(releaseMetrics.getReleaseVersionIncrement("2.18.0", "repo1", "main", repo1Metrics)).thenReturn(true);
+
+            aggregatedMetricsCalculation.generateReleaseMetrics();
+
+            verify(releaseMetrics, times(1)).getReleaseRepoMetrics(any(), any());
+            verify(releaseMetrics, never()).getReleaseLabelIssues(any(), any(), any(), anyBoolean());
+            verify(releaseMetrics, never()).getReleaseLabelPulls(any(), any(), any());
+            verify(releaseMetrics, never()).getReleaseOwners(any(), any());
+            verify(releaseMetrics, never()).getReleaseIssue(any(), any());
+            verify(releaseMetrics, never()).getReleaseVersionIncrement(any(), any(), any());
+            ArgumentCaptor<Map<String, ReleaseMetricsData>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(openSearchUtil).bulkIndexDocuments(eq("opensearch_release_metrics"), captor.capture());
+            Map<String, ReleaseMetricsData> documents = captor.getValue().values().stream()
+                    .collect(Collectors.toMap(ReleaseMetricsData::getComponent, Function.identity()));
+            assertEquals(3, documents.size());
+            ReleaseMetricsData component1 = documents.get("component1");
+            assertEquals(10L, component1.getIssuesOpen());
+            assertEquals(5L, component1.getAutocutIssuesOpen());
+            assertEquals(20L, component1.getIssuesClosed());
+            assertEquals(3L, component1.getPullsOpen());
+            assertEquals(8L, component1.getPullsClosed());
+            assertTrue(component1.isVersionIncrement());
+            assertTrue(component1.isReleaseOwnerExists());
+            assertTrue(component1.isReleaseIssueExists());
+            ReleaseMetricsData component3 = documents.get("component3");
+            assertEquals(0L, component3.getIssuesOpen());
+            assertFalse(component3.isReleaseOwnerExists());
+            assertFalse(component3.isReleaseIssueExists());
+        }
+    }
+
+    @Test
+    void testGenerateReleaseMetricsUrlProbeBatch() {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setReleaseUrlProbeBatch(true);
+        MetricsCalculation batchMetricsCalculation = new MetricsCalculation(openSearchUtil, objectMapper,
+                untriagedIssues, uncommentedPullRequests, unlabelledPullRequests, unlabelledIssues,
+                mergedPullRequests, openPullRequests, openIssues, closedIssues, createdIssues,
+                issueComments, pullComments, issuePositiveReactions, issueNegativeReactions,
+                labelMetrics, releaseMetrics, maintainerMetrics, config);
+        try (MockedStatic<ReleaseInputs> mockedReleaseInputs = Mockito.mockStatic(ReleaseInputs.class)) {
+            ReleaseInputs releaseInput = mock(ReleaseInputs.class);
+            when(releaseInput.getVersion()).thenReturn("2.18.0");
+            when(releaseInput.getBranch()).thenReturn("2.18");
+            when(releaseInput.getTrack()).thenReturn(true);
+            when(releaseInput.getState()).thenReturn("active");
+            mockedReleaseInputs.when(ReleaseInputs::getAllReleaseInputs).thenReturn(new ReleaseInputs[]{releaseInput});
+            Map<String, String> releaseRepos = new LinkedHashMap<>();
+            releaseRepos.put("component1", "repo1");
+            releaseRepos.put("component2", "repo1");
+            releaseRepos.put("component3", "repo2");
+            when(releaseMetrics.getReleaseRepos("2.18.0")).thenReturn(releaseRepos);
+            when(releaseMetrics.getReleaseNotes("2.18.0", List.of("repo1", "repo2"), "2.18"))
+                    .thenReturn(Map.of("repo1", true, "repo2", false));
+            when(releaseMetrics.getReleaseBranches("2.18.0", List.of("repo1", "repo2")))
+                    .thenReturn(Map.of("repo1", false, "repo2", true));
+
+            batchMetricsCalculation.generateReleaseMetrics();
+
+            verify(releaseMetrics, times(1)).getReleaseNotes(anyString(), anyList(), anyString());
+            verify(releaseMetrics, times(1)).getReleaseBranches(anyString(), anyList());
+            verify(releaseMetrics, never()).getReleaseNotes(anyString(), anyString(), anyString());
+            verify(releaseMetrics, never()).getReleaseBranch(anyString(), anyString());
+            ArgumentCaptor<Map<String, ReleaseMetricsData>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(openSearchUtil).bulkIndexDocuments(eq("opensearch_release_metrics"), captor.capture());
+            Map<String, ReleaseMetricsData> documents = captor.getValue().values().stream()
+                    .collect(Collectors.toMap(ReleaseMetricsData::getComponent, Function.identity()));
+            assertEquals(3, documents.size());
+            assertTrue(documents.get("component1").isReleaseNotes());
+            assertFalse(documents.get("component1").isReleaseBranch());
+            assertTrue(documents.get("component2").isReleaseNotes());
+            assertFalse(documents.get("component3").isReleaseNotes());
+            assertTrue(documents.get("component3").isReleaseBranch());
+        }
+    }
+
     @Test
     void testGenerateCodeCovMetrics() {
         try (MockedStatic<ReleaseInputs> mockedReleaseInputs = Mockito.mockStatic(ReleaseInputs.class)) {
@@ -188,7 +422,7 @@ public class MetricsCalculationTest {
             }
             metricsCalculation.generateCodeCovMetrics();
             verify(openSearchUtil).createIndexIfNotExists(matches("opensearch-codecov-metrics-\\d{2}-\\d{4}"), eq(Optional.of("opensearch-codecov-metrics")));
-            verify(openSearchUtil).bulkIndex(matches("opensearch-codecov-metrics-\\d{2}-\\d{4}"), argThat(map -> !map.isEmpty()));
+            verify(openSearchUtil).bulkIndexDocuments(matches("opensearch-codecov-metrics-\\d{2}-\\d{4}"), argThat(map -> !map.isEmpty()));
             verify(releaseMetrics).getCodeCoverage("main", "repo1");
             verify(releaseMetrics).getReleaseRepos("2.18.0");
         }
@@ -222,6 +456,132 @@ public class MetricsCalculationTest {
         when(objectMapper.writeValueAsString(any())).thenReturn("json");
         metricsCalculation.generateMaintainerMetrics(repositories);
         verify(openSearchUtil).createIndexIfNotExists(matches("maintainer-inactivity-\\d{2}-\\d{4}"), eq(Optional.of("maintainer-inactivity")));
-        verify(openSearchUtil).bulkIndex(matches("maintainer-inactivity-\\d{2}-\\d{4}"), argThat(map -> !map.isEmpty()));
+        verify(openSearchUtil).bulkIndexDocuments(matches("maintainer-inactivity-\\d{2}-\\d{4}"), argThat(map -> !map.isEmpty()));
+    }
+
+    @Test
+    void testGenerateMaintainerMetricsAggregated() throws IOException {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setMaintainerLatestEventsAggregation(true);
+        MetricsCalculation aggregatedMetricsCalculation = new MetricsCalculation(openSearchUtil, objectMapper,
+                untriagedIssues, uncommentedPullRequests, unlabelledPullRequests, unlabelledIssues,
+                mergedPullRequests, openPullRequests, openIssues, closedIssues, createdIssues,
+                issueComments, pullComments, issuePositiveReactions, issueNegativeReactions,
+                labelMetrics, releaseMetrics, maintainerMetrics, config);
+        List<String> repositories = Arrays.asList("repo1", "repo2");
+        Map<String, List<MaintainerData>> maintainersByRepo = new LinkedHashMap<>();
+        for (String repo : repositories) {
+            MaintainerData maintainerData = new MaintainerData();
+            maintainerData.setRepository(repo);
+            maintainerData.setName("maintainer1");
+            maintainerData.setGithubLogin("githubId");
+            maintainerData.setAffiliation("affiliation1");
+            maintainersByRepo.put(repo, new ArrayList<>(List.of(maintainerData)));
+        }
+        when(maintainerMetrics.maintainersByRepo(repositories)).thenReturn(maintainersByRepo);
+        LatestEventData latestEventData = new LatestEventData();
+        latestEventData.setEventType("event1");
+        latestEventData.setEventAction("opened");
+        latestEventData.setTimeLastEngaged(Instant.now().minus(7, ChronoUnit.DAYS));
+        double[] slopeAndIntercept = {-1.0, 368.0};
+        when(maintainerMetrics.mostAndLeastRepoEventCounts(any())).thenReturn(new long[]{100L, 10L});
+        when(maintainerMetrics.getSlopeAndIntercept(10, 365, 100, 90)).thenReturn(slopeAndIntercept);
+        when(maintainerMetrics.getEventTypes(any())).thenReturn(Arrays.asList("event1", "event2"));
+        when(maintainerMetrics.repoEventCount(any(), any())).thenReturn(50L);
+        when(maintainerMetrics.queryLatestEvents(any(), any()))
+                .thenReturn(Map.of("repo1", Map.of("githubId", Map.of("event1", latestEventData))));
+        when(maintainerMetrics.calculateInactivity(50L, slopeAndIntercept, 90, latestEventData)).thenReturn(false);
+
+        aggregatedMetricsCalculation.generateMaintainerMetrics(repositories);
+
+        verify(maintainerMetrics).queryLatestEvents(eq(Map.of("repo1", List.of("githubId"), "repo2", List.of("githubId"))), eq(openSearchUtil));
+        verify(maintainerMetrics, never()).queryLatestEvent(any(), any(), any(), any());
+        verify(maintainerMetrics, never()).repoMaintainers(any());
+        ArgumentCaptor<Map<String, MaintainerData>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(openSearchUtil).bulkIndexDocuments(matches("maintainer-inactivity-\\d{2}-\\d{4}"), captor.capture());
+        // 2 repos x (2 event types + "All")
+        Map<String, MaintainerData> documents = captor.getValue();
+        assertEquals(6, documents.size());
+        Map<String, Boolean> inactiveByRepoAndType = documents.values().stream()
+                .collect(Collectors.toMap(document -> document.getRepository() + "/" + document.getEventType(), MaintainerData::isInactive));
+        assertEquals(Map.of("repo1/event1", false, "repo1/event2", true, "repo1/All", false,
+                "repo2/event1", true, "repo2/event2", true, "repo2/All", true), inactiveByRepoAndType);
+    }
+
+    @Test
+    void testGenerateMaintainerMetricsIncremental() throws IOException {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setMaintainerIncremental(true);
+        MetricsCalculation incrementalMetricsCalculation = new MetricsCalculation(openSearchUtil, objectMapper,
+                untriagedIssues, uncommentedPullRequests, unlabelledPullRequests, unlabelledIssues,
+                mergedPullRequests, openPullRequests, openIssues, closedIssues, createdIssues,
+                issueComments, pullComments, issuePositiveReactions, issueNegativeReactions,
+                labelMetrics, releaseMetrics, maintainerMetrics, config);
+        MaintainerData maintainerData = new MaintainerData();
+        maintainerData.setRepository("repo1");
+        maintainerData.setName("maintainer1");
+        maintainerData.setGithubLogin("githubId");
+        maintainerData.setAffiliation("affiliation1");
+        when(maintainerMetrics.maintainersByRepo(List.of("repo1"))).thenReturn(Map.of("repo1", new ArrayList<>(List.of(maintainerData))));
+        MaintainerSnapshot snapshot = new MaintainerSnapshot(Instant.now().minus(1, ChronoUnit.DAYS), List.of());
+        when(maintainerMetrics.previousSnapshot(openSearchUtil)).thenReturn(Optional.of(snapshot));
+        LatestEventData latestEventData = new LatestEventData();
+        latestEventData.setEventType("event1");
+        latestEventData.setEventAction("opened");
+        latestEventData.setTimeLastEngaged(Instant.now().minus(200, ChronoUnit.DAYS));
+        double[] slopeAndIntercept = {-1.0, 368.0};
+        when(maintainerMetrics.mostAndLeastRepoEventCounts(any())).thenReturn(new long[]{100L, 10L});
+        when(maintainerMetrics.getSlopeAndIntercept(10, 365, 100, 90)).thenReturn(slopeAndIntercept);
+        when(maintainerMetrics.getEventTypes(any())).thenReturn(List.of("event1"));
+        when(maintainerMetrics.repoEventCount(any(), any())).thenReturn(50L);
+        when(maintainerMetrics.updateLatestEvents(eq(snapshot), eq(Map.of("repo1", List.of("githubId"))), eq(List.of("event1")), eq(openSearchUtil)))
+                .thenReturn(Map.of("repo1", Map.of("githubId", Map.of("event1", latestEventData))));
+        when(maintainerMetrics.calculateInactivity(50L, slopeAndIntercept, 90, latestEventData)).thenReturn(true);
+
+        incrementalMetricsCalculation.generateMaintainerMetrics(List.of("repo1"));
+
+        verify(maintainerMetrics, never()).queryLatestEvents(any(), any());
+        verify(maintainerMetrics, never()).queryLatestEvent(any(), any(), any(), any());
+        ArgumentCaptor<Map<String, MaintainerData>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(openSearchUtil).bulkIndexDocuments(matches("maintainer-inactivity-\\d{2}-\\d{4}"), captor.capture());
+        // The carried forward event is evaluated again as of this run
+        Map<String, MaintainerData> documents = captor.getValue();
+        assertEquals(2, documents.size());
+        assertTrue(documents.values().stream().allMatch(MaintainerData::isInactive));
+        assertTrue(documents.values().stream().allMatch(document -> latestEventData.getTimeLastEngaged().toString().equals(document.getTimeLastEngaged())));
+    }
+
+    @Test
+    void testGenerateMaintainerMetricsRepoActivityProfile() throws IOException {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setMaintainerRepoActivityProfile(true);
+        MetricsCalculation profiledMetricsCalculation = new MetricsCalculation(openSearchUtil, objectMapper,
+                untriagedIssues, uncommentedPullRequests, unlabelledPullRequests, unlabelledIssues,
+                mergedPullRequests, openPullRequests, openIssues, closedIssues, createdIssues,
+                issueComments, pullComments, issuePositiveReactions, issueNegativeReactions,
+                labelMetrics, releaseMetrics, maintainerMetrics, config);
+        MaintainerData maintainerData = new MaintainerData();
+        maintainerData.setRepository("repo1");
+        maintainerData.setName("maintainer1");
+        maintainerData.setGithubLogin("githubId");
+        maintainerData.setAffiliation("affiliation1");
+        LatestEventData latestEventData = new LatestEventData();
+        latestEventData.setEventType("event1");
+        latestEventData.setEventAction("opened");
+        latestEventData.setTimeLastEngaged(Instant.now().minus(7, ChronoUnit.DAYS));
+        double[] slopeAndIntercept = {-1.0, 368.0};
+        when(maintainerMetrics.repoActivityProfile(any())).thenReturn(new RepoActivityProfile(Map.of("repo1", 50L, "repo2", 10L, "repo3", 100L)));
+        when(maintainerMetrics.getSlopeAndIntercept(10, 365, 100, 90)).thenReturn(slopeAndIntercept);
+        when(maintainerMetrics.getEventTypes(any())).thenReturn(List.of("event1"));
+        when(maintainerMetrics.repoMaintainers(any())).thenReturn(new ArrayList<>(List.of(maintainerData)));
+        when(maintainerMetrics.queryLatestEvent(any(), any(), any(), any())).thenReturn(Optional.of(latestEventData));
+        when(maintainerMetrics.calculateInactivity(50L, slopeAndIntercept, 90, latestEventData)).thenReturn(false);
+
+        profiledMetricsCalculation.generateMaintainerMetrics(List.of("repo1"));
+
+        verify(maintainerMetrics, never()).mostAndLeastRepoEventCounts(any());
+        verify(maintainerMetrics, never()).repoEventCount(any(), any());
+        verify(maintainerMetrics).calculateInactivity(50L, slopeAndIntercept, 90, latestEventData);
+        verify(openSearchUtil).bulkIndexDocuments(matches("maintainer-inactivity-\\d{2}-\\d{4}"), argThat(map -> map.size() == 2));
     }
 }
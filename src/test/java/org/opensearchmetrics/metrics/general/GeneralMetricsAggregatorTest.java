@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.general;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.filter.Filters;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.Sum;
+import org.opensearchmetrics.util.OpenSearchUtil;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GeneralMetricsAggregatorTest {
+
+    @Test
+    void testCreateSearchRequest() {
+        GeneralMetricsAggregator aggregator = new GeneralMetricsAggregator();
+        List<Metrics> metricsList = Arrays.asList(new OpenIssues(), new IssueComments());
+
+        SearchRequest request = aggregator.createSearchRequest("github_issues", List.of("repo1", "repo2"), metricsList);
+
+        assertEquals("github_issues", request.indices()[0]);
+        assertEquals(0, request.source().size());
+        assertEquals(1, request.source().aggregations().count());
+        String source = request.source().toString();
+        assertTrue(source.contains("\"repos\""));
+        assertTrue(source.contains("\"Open Issues\""));
+        assertTrue(source.contains("\"Issue Comments\""));
+        assertTrue(source.contains("\"sum_comments\""));
+    }
+
+    @Test
+    void testAggregate() {
+        OpenSearchUtil openSearchUtil = mock(OpenSearchUtil.class);
+        Metrics openIssues = new OpenIssues();
+        Metrics issueComments = new IssueComments();
+        Metrics openPullRequests = new OpenPullRequests();
+
+        // repo1 has issues, repo2 has no documents at all
+        Filters.Bucket openIssuesBucket = mock(Filters.Bucket.class);
+        when(openIssuesBucket.getDocCount()).thenReturn(7L);
+        Sum commentsSum = mock(Sum.class);
+        when(commentsSum.getValue()).thenReturn(15.0);
+        Aggregations commentsBucketAggregations = mock(Aggregations.class);
+        when(commentsBucketAggregations.get("sum_comments")).thenReturn(commentsSum);
+        Filters.Bucket issueCommentsBucket = mock(Filters.Bucket.class);
+        when(issueCommentsBucket.getAggregations()).thenReturn(commentsBucketAggregations);
+        Filters issueFilters = mock(Filters.class);
+        doReturn(openIssuesBucket).when(issueFilters).getBucketByKey("Open Issues");
+        doReturn(issueCommentsBucket).when(issueFilters).getBucketByKey("Issue Comments");
+        SearchResponse issuesResponse = repoTermsResponse("repo1", issueFilters);
+
+        Filters.Bucket openPullsBucket = mock(Filters.Bucket.class);
+        when(openPullsBucket.getDocCount()).thenReturn(3L);
+        Filters pullFilters = mock(Filters.class);
+        doReturn(openPullsBucket).when(pullFilters).getBucketByKey("Open Pull Requests");
+        SearchResponse pullsResponse = repoTermsResponse("repo1", pullFilters);
+
+        when(openSearchUtil.searchAsync(any(SearchRequest.class))).thenAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(request.indices()[0].equals("github_issues") ? issuesResponse : pullsResponse);
+        });
+
+        GeneralMetricsAggregator aggregator = new GeneralMetricsAggregator();
+        Map<String, Map<Metrics, Long>> result = aggregator.aggregate(List.of("repo1", "repo2"),
+                Arrays.asList(openIssues, issueComments, openPullRequests), openSearchUtil);
+
+        // one search per index, regardless of the number of repos and metrics
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(openSearchUtil, times(2)).searchAsync(captor.capture());
+        assertEquals("github_issues", captor.getAllValues().get(0).indices()[0]);
+        assertEquals("github_pulls", captor.getAllValues().get(1).indices()[0]);
+
+        assertEquals(7L, result.get("repo1").get(openIssues));
+        assertEquals(15L, result.get("repo1").get(issueComments));
+        assertEquals(3L, result.get("repo1").get(openPullRequests));
+        assertEquals(0L, result.get("repo2").get(openIssues));
+        assertEquals(0L, result.get("repo2").get(issueComments));
+        assertEquals(0L, result.get("repo2").get(openPullRequests));
+    }
+
+    @Test
+    void testAggregate_Failure() {
+        OpenSearchUtil openSearchUtil = mock(OpenSearchUtil.class);
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.status()).thenReturn(RestStatus.BAD_GATEWAY);
+        when(openSearchUtil.searchAsync(any(SearchRequest.class))).thenReturn(CompletableFuture.completedFuture(searchResponse));
+
+        GeneralMetricsAggregator aggregator = new GeneralMetricsAggregator();
+        assertThrows(RuntimeException.class, () ->
+                aggregator.aggregate(List.of("repo1"), List.of(new OpenIssues()), openSearchUtil));
+    }
+
+    @Test
+    void testAggregate_SearchFailure() {
+        OpenSearchUtil openSearchUtil = mock(OpenSearchUtil.class);
+        when(openSearchUtil.searchAsync(any(SearchRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("search failed")));
+
+        GeneralMetricsAggregator aggregator = new GeneralMetricsAggregator();
+        assertThrows(IllegalStateException.class, () ->
+                aggregator.aggregate(List.of("repo1"), List.of(new OpenIssues()), openSearchUtil));
+    }
+
+    private SearchResponse repoTermsResponse(String repo, Filters metricFilters) {
+        Aggregations bucketAggregations = mock(Aggregations.class);
+        when(bucketAggregations.get("metrics")).thenReturn(metricFilters);
+        Terms.Bucket repoBucket = mock(Terms.Bucket.class);
+        when(repoBucket.getKeyAsString()).thenReturn(repo);
+        when(repoBucket.getAggregations()).thenReturn(bucketAggregations);
+        Terms repoTerms = mock(Terms.class);
+        doReturn(List.of(repoBucket)).when(repoTerms).getBuckets();
+        Aggregations aggregations = mock(Aggregations.class);
+        when(aggregations.get("repos")).thenReturn(repoTerms);
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.status()).thenReturn(RestStatus.OK);
+        when(searchResponse.getAggregations()).thenReturn(aggregations);
+        return searchResponse;
+    }
+}
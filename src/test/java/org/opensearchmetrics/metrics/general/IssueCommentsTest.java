@@ -19,6 +19,8 @@ import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.metrics.Sum;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
@@ -53,6 +55,13 @@ public class IssueCommentsTest {
         assertEquals(expectedQueryBuilder.toString(), queryBuilder.toString());
     }
 
+    @Test
+    void testGetSumField() {
+        // Issue comments are summed, not counted
+        IssueComments issueComments = new IssueComments();
+        assertEquals(Optional.of("comments"), issueComments.getSumField());
+    }
+
     @Test
     void testSearchIndex() {
         // Create an instance of IssueComments
@@ -80,7 +89,7 @@ public class IssueCommentsTest {
         // Verify the created SearchRequest
         assertEquals(index, request.indices()[0]); // Verifying index
         assertEquals(queryBuilder, request.source().query()); // Verifying query builder
-        assertEquals(9000, request.source().size()); // Verifying size
+        assertEquals(0, request.source().size()); // Verifying no hits are fetched
         assertEquals(1, request.source().aggregations().count()); // Verifying aggregation
     }
 
@@ -79,7 +79,7 @@ public class IssuePositiveReactionsTest {
         // Verify the created SearchRequest
         assertEquals(index, request.indices()[0]); // Verifying index
         assertEquals(queryBuilder, request.source().query()); // Verifying query builder
-        assertEquals(9000, request.source().size()); // Verifying size
+        assertEquals(0, request.source().size()); // Verifying no hits are fetched
         assertEquals(1, request.source().aggregations().count()); // Verifying aggregation
 
 
@@ -8,12 +8,15 @@
  */
 package org.opensearchmetrics.metrics.general;
 
+import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.internal.SearchContext;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -38,7 +41,8 @@ public class MetricsTest {
         // Verifying the created SearchRequest
         assertEquals(index, request.indices()[0]); // Verifying index
         assertEquals(queryBuilder, request.source().query()); // Verifying query builder
-        assertEquals(9000, request.source().size()); // Verifying size
+        assertEquals(0, request.source().size()); // Verifying no hits are fetched
+        assertEquals(SearchContext.TRACK_TOTAL_HITS_ACCURATE, request.source().trackTotalHitsUpTo()); // Verifying exact totals
     }
 
 
@@ -62,4 +66,32 @@ public class MetricsTest {
         // Verifying the exception is thrown
         assertThrows(RuntimeException.class, () -> metrics.performSearch(openSearchUtil, request));
     }
+
+    @Test
+    void testGetMetricCount() {
+        // Mocking dependencies
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        SearchHits searchHits = mock(SearchHits.class);
+
+        // Mocking behavior
+        when(searchResponse.status()).thenReturn(RestStatus.OK);
+        when(searchResponse.getHits()).thenReturn(searchHits);
+        when(searchHits.getTotalHits()).thenReturn(new TotalHits(42, TotalHits.Relation.EQUAL_TO));
+
+        // Reading the count straight from the response, as done for _msearch items
+        Metrics metrics = new OpenIssues();
+        assertEquals(42L, metrics.getMetricCount(searchResponse));
+    }
+
+    @Test
+    void testGetMetricCountRelation() {
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        SearchHits searchHits = mock(SearchHits.class);
+        when(searchResponse.getHits()).thenReturn(searchHits);
+        when(searchHits.getTotalHits()).thenReturn(new TotalHits(10000, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO));
+
+        // Hit counts carry the relation reported by the cluster, sums are always exact
+        assertEquals(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO, new CreatedIssues().getMetricCountRelation(searchResponse));
+        assertEquals(TotalHits.Relation.EQUAL_TO, new IssueComments().getMetricCountRelation(searchResponse));
+    }
 }
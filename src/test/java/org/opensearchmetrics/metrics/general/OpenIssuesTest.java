@@ -12,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class OpenIssuesTest {
@@ -66,4 +68,11 @@ public class OpenIssuesTest {
         // Verify the returned string
         assertEquals("Open Issues", result);
     }
+
+    @Test
+    void testGetSumField() {
+        // Open issues are counted, not summed
+        OpenIssues openIssues = new OpenIssues();
+        assertEquals(Optional.empty(), openIssues.getSumField());
+    }
 }
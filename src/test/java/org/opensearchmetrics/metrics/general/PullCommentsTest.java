@@ -80,7 +80,7 @@ public class PullCommentsTest {
         // Verify the created SearchRequest
         assertEquals(index, request.indices()[0]); // Verifying index
         assertEquals(queryBuilder, request.source().query()); // Verifying query builder
-        assertEquals(9000, request.source().size()); // Verifying size
+        assertEquals(0, request.source().size()); // Verifying no hits are fetched
 
         // Verify aggregation
         SearchSourceBuilder searchSourceBuilder = request.source();
@@ -8,10 +8,15 @@
  */
 package org.opensearchmetrics.metrics.maintainer;
 
+import org.apache.http.StatusLine;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.opensearch.action.search.SearchRequest;
@@ -20,25 +25,31 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.terms.ParsedStringTerms;
 import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.Max;
 import org.opensearch.search.aggregations.metrics.TopHits;
+import org.opensearchmetrics.metrics.MetricsCalculationConfig;
 import org.opensearchmetrics.model.maintainer.LatestEventData;
 import org.opensearchmetrics.model.maintainer.MaintainerData;
+import org.opensearchmetrics.util.HttpContentCache;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
 import javax.naming.Context;
-import java.io.ByteArrayInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -75,6 +86,53 @@ public class MaintainerMetricsTest {
         assertEquals(new ArrayList<>(), eventTypes); // Modify expected result according to your logic
     }
 
+    @Test
+    public void testGetEventTypesCached() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        SearchResponse eventsResponse = eventTypesResponse("issues", "gollum");
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(eventsResponse);
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setEventTypesCacheTtlMinutes(60);
+        MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics(new MaintainersFetcher(), config, clock);
+
+        assertEquals(List.of("issues", "gollum"), maintainerMetrics.getEventTypes(openSearchUtil));
+        clock.instant = clock.instant.plus(59, ChronoUnit.MINUTES);
+        assertEquals(List.of("issues", "gollum"), maintainerMetrics.getEventTypes(openSearchUtil));
+        verify(openSearchUtil, times(1)).search(any(SearchRequest.class));
+
+        clock.instant = clock.instant.plus(1, ChronoUnit.MINUTES);
+        assertEquals(List.of("issues", "gollum"), maintainerMetrics.getEventTypes(openSearchUtil));
+        verify(openSearchUtil, times(2)).search(any(SearchRequest.class));
+    }
+
+    @Test
+    public void testGetEventTypesNotCached() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        SearchResponse eventsResponse = eventTypesResponse("issues");
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(eventsResponse);
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
+
+        maintainerMetrics.getEventTypes(openSearchUtil);
+        maintainerMetrics.getEventTypes(openSearchUtil);
+
+        verify(openSearchUtil, times(2)).search(any(SearchRequest.class));
+    }
+
+    @Test
+    public void testGetEventTypesFromGithubEvents() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setEventTypesFromGithubEvents(true);
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics(new MaintainersFetcher(), config);
+
+        List<String> eventTypes = maintainerMetrics.getEventTypes(openSearchUtil);
+
+        assertEquals(List.of("issues", "issue_comment", "pull_request", "pull_request_review",
+                "pull_request_review_comment", "gollum"), eventTypes);
+        verify(openSearchUtil, never()).search(any(SearchRequest.class));
+    }
+
     @Test
     public void testQueryLatestEvent() {
         // Mock
@@ -282,8 +340,300 @@ public class MaintainerMetricsTest {
     }
 
     @Test
-    public void testRepoMaintainers() {
+    public void testQueryLatestEvents() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        // A full first page of events by a non-maintainer, then a page with the maintainer's events
+        List<CompositeAggregation.Bucket> firstPage = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            firstPage.add(compositeBucket("repo1", "otherLogin", "type" + i, "opened", "2023-06-15T10:00:00Z"));
+        }
+        Map<String, Object> afterKey = new LinkedHashMap<>();
+        afterKey.put("repository", "repo1");
+        afterKey.put("sender", "otherLogin");
+        afterKey.put("type", "type999");
+        SearchResponse firstResponse = compositeResponse(firstPage, afterKey);
+        SearchResponse secondResponse = compositeResponse(List.of(
+                compositeBucket("repo1", "maintainer1", "issues", "opened", "2023-06-15T10:00:00Z"),
+                compositeBucket("repo2", "maintainer1", "issues", "closed", "2023-06-16T10:00:00Z"),
+                compositeBucket("repo2", "maintainer2", "pull_request", "merged", "2023-06-17T10:00:00Z")),
+                Map.of("repository", "repo2", "sender", "maintainer2", "type", "pull_request"));
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(firstResponse, secondResponse);
+
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
+        Map<String, List<String>> maintainersByRepo = new LinkedHashMap<>();
+        maintainersByRepo.put("repo1", List.of("maintainer1"));
+        maintainersByRepo.put("repo2", List.of("maintainer2"));
+        Map<String, Map<String, Map<String, LatestEventData>>> latestEvents = maintainerMetrics.queryLatestEvents(maintainersByRepo, openSearchUtil);
+
+        LatestEventData expectedRepo1Event = new LatestEventData();
+        expectedRepo1Event.setEventType("issues");
+        expectedRepo1Event.setEventAction("opened");
+        expectedRepo1Event.setTimeLastEngaged(Instant.parse("2023-06-15T10:00:00Z"));
+        LatestEventData expectedRepo2Event = new LatestEventData();
+        expectedRepo2Event.setEventType("pull_request");
+        expectedRepo2Event.setEventAction("merged");
+        expectedRepo2Event.setTimeLastEngaged(Instant.parse("2023-06-17T10:00:00Z"));
+        // maintainer1 is not a maintainer of repo2, and otherLogin of no repo
+        assertEquals(Map.of(
+                "repo1", Map.of("maintainer1", Map.of("issues", expectedRepo1Event)),
+                "repo2", Map.of("maintainer2", Map.of("pull_request", expectedRepo2Event))), latestEvents);
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(openSearchUtil, times(2)).search(captor.capture());
+        assertFalse(captor.getAllValues().get(0).source().toString().contains("\"after\""));
+        assertTrue(captor.getAllValues().get(1).source().toString()
+                .contains("\"after\":{\"repository\":\"repo1\",\"sender\":\"otherLogin\",\"type\":\"type999\"}"));
+    }
+
+    @Test
+    public void testQueryLatestEventsNoMaintainers() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
         MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
+
+        assertTrue(maintainerMetrics.queryLatestEvents(Map.of("repo1", List.of()), openSearchUtil).isEmpty());
+        verify(openSearchUtil, never()).search(any(SearchRequest.class));
+    }
+
+    @Test
+    public void testCreateLatestEventsSearchRequest() {
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
+        SearchRequest searchRequest = maintainerMetrics.createLatestEventsSearchRequest(List.of("repo1"), List.of("maintainer1"), null);
+
+        assertArrayEquals(new String[]{"github-user-activity-events-*"}, searchRequest.indices());
+        assertEquals(0, searchRequest.source().size());
+        CompositeAggregationBuilder aggregation = (CompositeAggregationBuilder) searchRequest.source()
+                .aggregations().getAggregatorFactories().iterator().next();
+        assertEquals("latest_events", aggregation.getName());
+        assertEquals(List.of("repository", "sender", "type"), aggregation.sources().stream()
+                .map(source -> source.name()).collect(Collectors.toList()));
+        assertEquals(1000, aggregation.size());
+        assertFalse(searchRequest.source().toString().contains("\"after\""));
+    }
+
+    @Test
+    public void testCreateLatestEventsSearchRequestSince() {
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
+        SearchRequest searchRequest = maintainerMetrics.createLatestEventsSearchRequest(List.of("repo1"), List.of("maintainer1"),
+                Instant.parse("2024-06-10T00:00:00Z"), null);
+
+        String source = searchRequest.source().toString();
+        assertTrue(source.contains("\"range\":{\"created_at\":{\"from\":\"2024-06-10T00:00:00Z\""));
+        assertFalse(maintainerMetrics.createLatestEventsSearchRequest(List.of("repo1"), List.of("maintainer1"), null)
+                .source().toString().contains("\"range\""));
+    }
+
+    @Test
+    public void testUpdateLatestEvents() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        MaintainerSnapshot snapshot = new MaintainerSnapshot(Instant.parse("2024-06-12T00:00:00Z"), List.of(
+                snapshotDocument("repo1", "maintainer1", "issues", "opened", "2024-06-10T10:00:00Z"),
+                snapshotDocument("repo1", "maintainer1", "pull_request", null, null),
+                snapshotDocument("repo1", "maintainer1", "All", "issues.opened", "2024-06-10T10:00:00Z")));
+        // Full history of maintainer2, who is new, then the events of maintainer1 since the previous run
+        SearchResponse newMaintainersResponse = compositeResponse(List.of(
+                compositeBucket("repo1", "maintainer2", "issues", "closed", "2023-01-01T10:00:00Z")), null);
+        SearchResponse recentEventsResponse = compositeResponse(List.of(
+                compositeBucket("repo1", "maintainer1", "issues", "closed", "2024-06-09T10:00:00Z"),
+                compositeBucket("repo1", "maintainer1", "pull_request", "opened", "2024-06-20T10:00:00Z")), null);
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(newMaintainersResponse, recentEventsResponse);
+
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
+        Map<String, Map<String, Map<String, LatestEventData>>> latestEvents = maintainerMetrics.updateLatestEvents(snapshot,
+                Map.of("repo1", List.of("maintainer1", "maintainer2")), List.of("issues", "pull_request"), openSearchUtil);
+
+        assertEquals(Map.of(
+                "maintainer1", Map.of(
+                        "issues", latestEventData("issues", "opened", "2024-06-10T10:00:00Z"),
+                        "pull_request", latestEventData("pull_request", "opened", "2024-06-20T10:00:00Z")),
+                "maintainer2", Map.of(
+                        "issues", latestEventData("issues", "closed", "2023-01-01T10:00:00Z"))), latestEvents.get("repo1"));
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(openSearchUtil, times(2)).search(captor.capture());
+        assertFalse(captor.getAllValues().get(0).source().toString().contains("\"range\""));
+        assertTrue(captor.getAllValues().get(1).source().toString()
+                .contains("\"range\":{\"created_at\":{\"from\":\"2024-06-10T00:00:00Z\""));
+    }
+
+    @Test
+    public void testPreviousSnapshot() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        Instant snapshotTime = Instant.parse("2024-06-12T08:00:00Z");
+        SearchResponse latestResponse = latestSnapshotResponse(snapshotTime.toEpochMilli());
+        SearchResponse documentsResponse = Mockito.mock(SearchResponse.class);
+        SearchHits searchHits = Mockito.mock(SearchHits.class);
+        SearchHit issuesHit = Mockito.mock(SearchHit.class);
+        SearchHit pullRequestHit = Mockito.mock(SearchHit.class);
+        when(documentsResponse.status()).thenReturn(RestStatus.OK);
+        when(documentsResponse.getHits()).thenReturn(searchHits);
+        when(searchHits.getHits()).thenReturn(new SearchHit[]{issuesHit, pullRequestHit});
+        when(issuesHit.getSourceAsMap()).thenReturn(new HashMap<>(Map.of("repository", "repo1", "github_login", "maintainer1",
+                "event_type", "issues", "event_action", "opened", "time_last_engaged", "2024-06-10T10:00:00Z")));
+        when(pullRequestHit.getSourceAsMap()).thenReturn(new HashMap<>(Map.of("repository", "repo1", "github_login", "maintainer1",
+                "event_type", "pull_request", "inactive", true)));
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(latestResponse, documentsResponse);
+
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics(new MaintainersFetcher(), new MetricsCalculationConfig(),
+                new MutableClock(snapshotTime.plus(12, ChronoUnit.HOURS)));
+        Optional<MaintainerSnapshot> snapshot = maintainerMetrics.previousSnapshot(openSearchUtil);
+
+        assertTrue(snapshot.isPresent());
+        assertEquals(snapshotTime, snapshot.get().getWatermark());
+        assertTrue(snapshot.get().covers("repo1", "maintainer1", List.of("issues", "pull_request")));
+        assertEquals(Optional.of(latestEventData("issues", "opened", "2024-06-10T10:00:00Z")),
+                snapshot.get().latestEvent("repo1", "maintainer1", "issues"));
+        assertEquals(Optional.empty(), snapshot.get().latestEvent("repo1", "maintainer1", "pull_request"));
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(openSearchUtil, times(2)).search(captor.capture());
+        assertArrayEquals(new String[]{"maintainer-inactivity-*"}, captor.getAllValues().get(1).indices());
+        assertTrue(captor.getAllValues().get(1).source().toString().contains("\"from\":" + snapshotTime.toEpochMilli()));
+    }
+
+    @Test
+    public void testPreviousSnapshotFullRecomputeDue() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        // The last day of a 7-day period since the epoch
+        Instant snapshotTime = Instant.parse("2024-06-12T08:00:00Z");
+        when(openSearchUtil.search(any(SearchRequest.class))).thenAnswer(invocation -> latestSnapshotResponse(snapshotTime.toEpochMilli()));
+        MutableClock clock = new MutableClock(snapshotTime.plus(1, ChronoUnit.DAYS));
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics(new MaintainersFetcher(), new MetricsCalculationConfig(), clock);
+
+        // First run of a new period
+        assertEquals(Optional.empty(), maintainerMetrics.previousSnapshot(openSearchUtil));
+
+        // Previous run older than the overlap
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setMaintainerFullRecomputeDays(0);
+        clock.instant = snapshotTime.plus(3, ChronoUnit.DAYS);
+        assertEquals(Optional.empty(), new MaintainerMetrics(new MaintainersFetcher(), config, clock).previousSnapshot(openSearchUtil));
+
+        // Only the latest snapshot is looked up, no documents are read
+        verify(openSearchUtil, times(2)).search(any(SearchRequest.class));
+    }
+
+    @Test
+    public void testPreviousSnapshotNone() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        SearchResponse latestResponse = latestSnapshotResponse(Double.NEGATIVE_INFINITY);
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(latestResponse);
+
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
+
+        assertEquals(Optional.empty(), maintainerMetrics.previousSnapshot(openSearchUtil));
+        verify(openSearchUtil, times(1)).search(any(SearchRequest.class));
+    }
+
+    private SearchResponse latestSnapshotResponse(double latestSnapshot) {
+        SearchResponse searchResponse = Mockito.mock(SearchResponse.class);
+        Aggregations aggregations = Mockito.mock(Aggregations.class);
+        Max max = Mockito.mock(Max.class);
+        when(searchResponse.status()).thenReturn(RestStatus.OK);
+        when(searchResponse.getAggregations()).thenReturn(aggregations);
+        when(aggregations.get("latest_snapshot")).thenReturn(max);
+        when(max.getValue()).thenReturn(latestSnapshot);
+        return searchResponse;
+    }
+
+    private MaintainerData snapshotDocument(String repo, String login, String eventType, String eventAction, String timeLastEngaged) {
+        MaintainerData maintainerData = new MaintainerData();
+        maintainerData.setRepository(repo);
+        maintainerData.setGithubLogin(login);
+        maintainerData.setEventType(eventType);
+        maintainerData.setEventAction(eventAction);
+        maintainerData.setTimeLastEngaged(timeLastEngaged);
+        return maintainerData;
+    }
+
+    private LatestEventData latestEventData(String eventType, String eventAction, String timeLastEngaged) {
+        LatestEventData latestEventData = new LatestEventData();
+        latestEventData.setEventType(eventType);
+        latestEventData.setEventAction(eventAction);
+        latestEventData.setTimeLastEngaged(Instant.parse(timeLastEngaged));
+        return latestEventData;
+    }
+
+    private SearchResponse compositeResponse(List<CompositeAggregation.Bucket> buckets, Map<String, Object> afterKey) {
+        SearchResponse searchResponse = Mockito.mock(SearchResponse.class);
+        Aggregations aggregations = Mockito.mock(Aggregations.class);
+        CompositeAggregation compositeAggregation = Mockito.mock(CompositeAggregation.class);
+        when(searchResponse.status()).thenReturn(RestStatus.OK);
+        when(searchResponse.getAggregations()).thenReturn(aggregations);
+        when(aggregations.get("latest_events")).thenReturn(compositeAggregation);
+        doReturn(buckets).when(compositeAggregation).getBuckets();
+        when(compositeAggregation.afterKey()).thenReturn(afterKey);
+        return searchResponse;
+    }
+
+    private CompositeAggregation.Bucket compositeBucket(String repo, String sender, String type, String action, String createdAt) {
+        CompositeAggregation.Bucket bucket = Mockito.mock(CompositeAggregation.Bucket.class);
+        Aggregations aggregations = Mockito.mock(Aggregations.class);
+        TopHits topHits = Mockito.mock(TopHits.class);
+        SearchHits searchHits = Mockito.mock(SearchHits.class);
+        SearchHit searchHit = Mockito.mock(SearchHit.class);
+        when(bucket.getKey()).thenReturn(Map.of("repository", repo, "sender", sender, "type", type));
+        when(bucket.getAggregations()).thenReturn(aggregations);
+        when(aggregations.get("latest_event")).thenReturn(topHits);
+        when(topHits.getHits()).thenReturn(searchHits);
+        when(searchHits.getHits()).thenReturn(new SearchHit[]{searchHit});
+        when(searchHit.getSourceAsMap()).thenReturn(new HashMap<>(Map.of("action", action, "created_at", createdAt)));
+        return bucket;
+    }
+
+    @Test
+    public void testRepoActivityProfile() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        SearchResponse searchResponse = Mockito.mock(SearchResponse.class);
+        Aggregations aggregations = Mockito.mock(Aggregations.class);
+        Terms repoEventCounts = Mockito.mock(Terms.class);
+        Terms.Bucket repo1Bucket = Mockito.mock(Terms.Bucket.class);
+        Terms.Bucket repo2Bucket = Mockito.mock(Terms.Bucket.class);
+        when(repo1Bucket.getKeyAsString()).thenReturn("repo1");
+        when(repo1Bucket.getDocCount()).thenReturn(100L);
+        when(repo2Bucket.getKeyAsString()).thenReturn("repo2");
+        when(repo2Bucket.getDocCount()).thenReturn(10L);
+        doReturn(List.of(repo1Bucket, repo2Bucket)).when(repoEventCounts).getBuckets();
+        when(aggregations.get("repo_event_counts")).thenReturn(repoEventCounts);
+        when(searchResponse.getAggregations()).thenReturn(aggregations);
+        when(searchResponse.status()).thenReturn(RestStatus.OK);
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(searchResponse);
+
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
+        RepoActivityProfile repoActivityProfile = maintainerMetrics.repoActivityProfile(openSearchUtil);
+
+        assertEquals(100L, repoActivityProfile.repoEventCount("repo1"));
+        assertEquals(0L, repoActivityProfile.repoEventCount("repo3"));
+        assertArrayEquals(new long[]{100L, 10L}, repoActivityProfile.mostAndLeastRepoEventCounts());
+        verify(openSearchUtil, times(1)).search(any(SearchRequest.class));
+    }
+
+    @Test
+    public void testRepoActivityProfileTruncated() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        SearchResponse searchResponse = Mockito.mock(SearchResponse.class);
+        Aggregations aggregations = Mockito.mock(Aggregations.class);
+        Terms repoEventCounts = Mockito.mock(Terms.class);
+        when(repoEventCounts.getSumOfOtherDocCounts()).thenReturn(5L);
+        when(aggregations.get("repo_event_counts")).thenReturn(repoEventCounts);
+        when(searchResponse.getAggregations()).thenReturn(aggregations);
+        when(searchResponse.status()).thenReturn(RestStatus.OK);
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(searchResponse);
+
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
+        assertThrows(RuntimeException.class, () -> maintainerMetrics.repoActivityProfile(openSearchUtil));
+    }
+
+    @Test
+    public void testRepoActivityProfileError() {
+        OpenSearchUtil openSearchUtil = Mockito.mock(OpenSearchUtil.class);
+        SearchResponse searchResponse = Mockito.mock(SearchResponse.class);
+        when(searchResponse.status()).thenReturn(RestStatus.INTERNAL_SERVER_ERROR);
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(searchResponse);
+
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
+        assertThrows(RuntimeException.class, () -> maintainerMetrics.repoActivityProfile(openSearchUtil));
+    }
+
+    @Test
+    public void testRepoMaintainers() throws IOException {
         String expectedContent = "test content\n" +
                 "| Maintainer       | GitHub ID                                | Affiliation |\n" +
                 "| maintainer | [githubId](https://github.com/githubId) | affiliation      |\n" +
@@ -291,34 +641,93 @@ public class MaintainerMetricsTest {
                 "## Emeritus Maintainers" +
                 "| maintainer | [githubId](https://github.com/githubId) | affiliation      |\n" +
                 "line3\n";
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(
-                expectedContent.getBytes(StandardCharsets.UTF_8)
-        );
+        CloseableHttpClient httpClient = Mockito.mock(CloseableHttpClient.class);
+        CloseableHttpResponse httpResponse = httpResponse(200, expectedContent);
+        when(httpClient.execute(any(HttpGet.class))).thenReturn(httpResponse);
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics(new MaintainersFetcher(new HttpContentCache(httpClient, 16),
+                "https://raw.githubusercontent.com/opensearch-project/%s/main/MAINTAINERS.md", 1));
+
+        List<MaintainerData> maintainerDataList = maintainerMetrics.repoMaintainers("repo");
+
+        List<MaintainerData> expectedList = new ArrayList<>();
+        MaintainerData expectedMaintainer = new MaintainerData();
+        expectedMaintainer.setRepository("repo");
+        expectedMaintainer.setName("maintainer");
+        expectedMaintainer.setGithubLogin("githubId");
+        expectedMaintainer.setAffiliation("affiliation");
+        expectedList.add(expectedMaintainer);
+
+        assertEquals(expectedList, maintainerDataList);
+        verify(httpClient).execute(argThat((HttpGet request) ->
+                request.getURI().toString().equals("https://raw.githubusercontent.com/opensearch-project/repo/main/MAINTAINERS.md")));
+    }
 
-        try (MockedConstruction<URL> mocked = mockConstruction(URL.class, (mockUrl, context) ->
-                when(mockUrl.openStream()).thenReturn(inputStream))) {
+    @Test
+    public void testRepoMaintainersFileNotFound() throws IOException {
+        CloseableHttpClient httpClient = Mockito.mock(CloseableHttpClient.class);
+        CloseableHttpResponse httpResponse = httpResponse(404, "404: Not Found");
+        when(httpClient.execute(any(HttpGet.class))).thenReturn(httpResponse);
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics(new MaintainersFetcher(new HttpContentCache(httpClient, 16),
+                "https://raw.githubusercontent.com/opensearch-project/%s/main/MAINTAINERS.md", 1));
+        List<MaintainerData> maintainerDataList = maintainerMetrics.repoMaintainers("repo");
+        assertTrue(maintainerDataList.isEmpty());
+    }
 
-            List<MaintainerData> maintainerDataList = maintainerMetrics.repoMaintainers("repo");
+    @Test
+    public void testMaintainersByRepo() {
+        MaintainersFetcher maintainersFetcher = Mockito.mock(MaintainersFetcher.class);
+        Map<String, List<MaintainerData>> maintainersByRepo = Map.of("repo", List.of(new MaintainerData()));
+        when(maintainersFetcher.fetchAll(List.of("repo"))).thenReturn(maintainersByRepo);
+        MaintainerMetrics maintainerMetrics = new MaintainerMetrics(maintainersFetcher);
+        assertEquals(maintainersByRepo, maintainerMetrics.maintainersByRepo(List.of("repo")));
+    }
 
-            List<MaintainerData> expectedList = new ArrayList<>();
-            MaintainerData expectedMaintainer = new MaintainerData();
-            expectedMaintainer.setRepository("repo");
-            expectedMaintainer.setName("maintainer");
-            expectedMaintainer.setGithubLogin("githubId");
-            expectedMaintainer.setAffiliation("affiliation");
-            expectedList.add(expectedMaintainer);
+    private CloseableHttpResponse httpResponse(int statusCode, String content) {
+        CloseableHttpResponse httpResponse = Mockito.mock(CloseableHttpResponse.class);
+        StatusLine statusLine = Mockito.mock(StatusLine.class);
+        when(statusLine.getStatusCode()).thenReturn(statusCode);
+        when(httpResponse.getStatusLine()).thenReturn(statusLine);
+        when(httpResponse.getEntity()).thenReturn(new StringEntity(content, StandardCharsets.UTF_8));
+        return httpResponse;
+    }
 
-            assertEquals(expectedList, maintainerDataList);
+    private SearchResponse eventTypesResponse(String... eventTypes) {
+        SearchResponse eventsResponse = Mockito.mock(SearchResponse.class);
+        when(eventsResponse.status()).thenReturn(RestStatus.OK);
+        List<Terms.Bucket> buckets = new ArrayList<>();
+        for (String eventType : eventTypes) {
+            Terms.Bucket bucket = Mockito.mock(Terms.Bucket.class);
+            when(bucket.getKeyAsString()).thenReturn(eventType);
+            buckets.add(bucket);
         }
+        ParsedStringTerms eventTerms = Mockito.mock(ParsedStringTerms.class);
+        doReturn(buckets).when(eventTerms).getBuckets();
+        Aggregations aggregations = Mockito.mock(Aggregations.class);
+        when(aggregations.get("event_types")).thenReturn(eventTerms);
+        when(eventsResponse.getAggregations()).thenReturn(aggregations);
+        return eventsResponse;
     }
 
-    @Test
-    public void testRepoMaintainersFileNotFound() {
-        MaintainerMetrics maintainerMetrics = new MaintainerMetrics();
-        try (MockedConstruction<URL> mocked = mockConstruction(URL.class, (mockUrl, context) ->
-                when(mockUrl.openStream()).thenThrow(new FileNotFoundException()))) {
-            List<MaintainerData> maintainerDataList = maintainerMetrics.repoMaintainers("repo");
-            assertTrue(maintainerDataList.isEmpty());
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
         }
     }
 }
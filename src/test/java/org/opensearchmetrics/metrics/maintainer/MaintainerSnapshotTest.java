@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.maintainer;
+
+import org.junit.jupiter.api.Test;
+import org.opensearchmetrics.model.maintainer.LatestEventData;
+import org.opensearchmetrics.model.maintainer.MaintainerData;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MaintainerSnapshotTest {
+
+    private final MaintainerSnapshot snapshot = new MaintainerSnapshot(Instant.parse("2024-06-12T08:00:00Z"), List.of(
+            document("repo1", "maintainer1", "issues", "opened", "2024-06-10T10:00:00Z"),
+            document("repo1", "maintainer1", "pull_request", null, null),
+            document("repo1", "maintainer1", "All", "issues.opened", "2024-06-10T10:00:00Z"),
+            document("repo2", "maintainer2", "All", null, null)));
+
+    @Test
+    void testGetWatermark() {
+        assertEquals(Instant.parse("2024-06-12T08:00:00Z"), snapshot.getWatermark());
+    }
+
+    @Test
+    void testCovers() {
+        assertTrue(snapshot.covers("repo1", "maintainer1", List.of("issues", "pull_request")));
+        // New event type, new maintainer, maintainer of another repo and composite-only maintainer
+        assertFalse(snapshot.covers("repo1", "maintainer1", List.of("issues", "pull_request", "gollum")));
+        assertFalse(snapshot.covers("repo1", "maintainer3", List.of("issues")));
+        assertFalse(snapshot.covers("repo2", "maintainer1", List.of("issues")));
+        assertFalse(snapshot.covers("repo2", "maintainer2", List.of("issues")));
+    }
+
+    @Test
+    void testLatestEvent() {
+        LatestEventData expected = new LatestEventData();
+        expected.setEventType("issues");
+        expected.setEventAction("opened");
+        expected.setTimeLastEngaged(Instant.parse("2024-06-10T10:00:00Z"));
+
+        assertEquals(Optional.of(expected), snapshot.latestEvent("repo1", "maintainer1", "issues"));
+        assertEquals(Optional.empty(), snapshot.latestEvent("repo1", "maintainer1", "pull_request"));
+        assertEquals(Optional.empty(), snapshot.latestEvent("repo1", "maintainer1", "All"));
+        assertEquals(Optional.empty(), snapshot.latestEvent("repo3", "maintainer1", "issues"));
+    }
+
+    @Test
+    void testLatestEventIsACopy() {
+        snapshot.latestEvent("repo1", "maintainer1", "issues").get().setInactive(true);
+
+        assertFalse(snapshot.latestEvent("repo1", "maintainer1", "issues").get().isInactive());
+    }
+
+    private static MaintainerData document(String repo, String login, String eventType, String eventAction, String timeLastEngaged) {
+        MaintainerData maintainerData = new MaintainerData();
+        maintainerData.setRepository(repo);
+        maintainerData.setGithubLogin(login);
+        maintainerData.setEventType(eventType);
+        maintainerData.setEventAction(eventAction);
+        maintainerData.setTimeLastEngaged(timeLastEngaged);
+        return maintainerData;
+    }
+}
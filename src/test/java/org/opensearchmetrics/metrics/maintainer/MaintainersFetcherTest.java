@@ -0,0 +1,198 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.maintainer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearchmetrics.model.maintainer.MaintainerData;
+import org.opensearchmetrics.util.HttpContentCache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MaintainersFetcherTest {
+    private static final String MAINTAINERS_FILE = "# Overview\n" +
+            "\n" +
+            "## Current Maintainers\n" +
+            "\n" +
+            "| Maintainer | GitHub ID | Affiliation |\n" +
+            "| ---------- | --------- | ----------- |\n" +
+            "| Maintainer One | [maintainer1](https://github.com/maintainer1) | Amazon |\n" +
+            "| Maintainer Two | [maintainer2](https://github.com/maintainer2) | Independent |\n" +
+            "| Maintainer One again | [maintainer1](https://github.com/maintainer1) | Amazon |\n" +
+            "\n" +
+            "## Emeritus\n" +
+            "\n" +
+            "| Maintainer | GitHub ID | Affiliation |\n" +
+            "| Former Maintainer | [former](https://github.com/former) | Amazon |\n";
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    // Stub server state: MAINTAINERS.md body by repo, and the requests it served
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private volatile CountDownLatch requestBarrier;
+    private final AtomicInteger requestBarrierTimeouts = new AtomicInteger();
+    private ExecutorService serverExecutor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::serveMaintainersFile);
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.start();
+        httpClient = HttpClients.custom().setMaxConnPerRoute(8).setMaxConnTotal(8).build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void WHEN_fetch_THEN_parse_current_maintainers() {
+        files.put("repo1", MAINTAINERS_FILE);
+
+        List<MaintainerData> maintainers = fetcher(1).fetch("repo1");
+
+        assertEquals(List.of("maintainer1", "maintainer2"), maintainers.stream()
+                .map(MaintainerData::getGithubLogin).collect(Collectors.toList()));
+        assertEquals("Maintainer Two", maintainers.get(1).getName());
+        assertEquals("Independent", maintainers.get(1).getAffiliation());
+        assertEquals("repo1", maintainers.get(1).getRepository());
+    }
+
+    @Test
+    void GIVEN_unchanged_file_WHEN_fetched_again_THEN_revalidate_with_etag() {
+        files.put("repo1", MAINTAINERS_FILE);
+        MaintainersFetcher maintainersFetcher = fetcher(1);
+
+        List<MaintainerData> first = maintainersFetcher.fetch("repo1");
+        List<MaintainerData> second = maintainersFetcher.fetch("repo1");
+
+        assertEquals(first, second);
+        assertEquals(1, fullResponses.get());
+        assertEquals(1, notModifiedResponses.get());
+    }
+
+    @Test
+    void GIVEN_changed_file_WHEN_fetched_again_THEN_parse_new_body() {
+        files.put("repo1", MAINTAINERS_FILE);
+        MaintainersFetcher maintainersFetcher = fetcher(1);
+        maintainersFetcher.fetch("repo1");
+
+        files.put("repo1", "| Maintainer | GitHub ID | Affiliation |\n| Maintainer Three | [maintainer3](https://github.com/maintainer3) | Amazon |\n");
+        List<MaintainerData> maintainers = maintainersFetcher.fetch("repo1");
+
+        assertEquals(1, maintainers.size());
+        assertEquals("maintainer3", maintainers.get(0).getGithubLogin());
+        assertEquals(2, fullResponses.get());
+    }
+
+    @Test
+    void GIVEN_no_maintainers_file_THEN_empty() {
+        assertTrue(fetcher(1).fetch("repo1").isEmpty());
+    }
+
+    @Test
+    void GIVEN_server_unavailable_THEN_fall_back_to_cached_body() throws IOException {
+        files.put("repo1", MAINTAINERS_FILE);
+        MaintainersFetcher maintainersFetcher = fetcher(1);
+        List<MaintainerData> first = maintainersFetcher.fetch("repo1");
+
+        server.stop(0);
+
+        assertEquals(first, maintainersFetcher.fetch("repo1"));
+    }
+
+    @Test
+    void WHEN_fetchAll_THEN_fetch_repos_concurrently_in_input_order() {
+        List<String> repos = IntStream.range(0, 8).mapToObj(i -> "repo" + i).collect(Collectors.toList());
+        repos.forEach(repo -> files.put(repo, MAINTAINERS_FILE));
+        // Every request waits until 4 of them are in flight at once
+        CountDownLatch concurrentRequests = new CountDownLatch(4);
+        requestBarrier = concurrentRequests;
+
+        Map<String, List<MaintainerData>> maintainersByRepo = fetcher(4).fetchAll(repos);
+
+        assertEquals(0, requestBarrierTimeouts.get());
+        assertEquals(repos, List.copyOf(maintainersByRepo.keySet()));
+        maintainersByRepo.forEach((repo, maintainers) -> {
+            assertEquals(2, maintainers.size());
+            assertEquals(repo, maintainers.get(0).getRepository());
+        });
+    }
+
+    private MaintainersFetcher fetcher(int fetchConcurrency) {
+        return new MaintainersFetcher(new HttpContentCache(httpClient, 16),
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/opensearch-project/%s/main/MAINTAINERS.md", fetchConcurrency);
+    }
+
+    private void serveMaintainersFile(HttpExchange exchange) throws IOException {
+        CountDownLatch barrier = requestBarrier;
+        if (barrier != null) {
+            barrier.countDown();
+            try {
+                if (!barrier.await(5, TimeUnit.SECONDS)) {
+                    requestBarrierTimeouts.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        String repo = exchange.getRequestURI().getPath().split("/")[2];
+        String body = files.get(repo);
+        if (body == null) {
+            sendResponse(exchange, 404, "404: Not Found");
+            return;
+        }
+        String etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedResponses.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        fullResponses.incrementAndGet();
+        sendResponse(exchange, 200, body);
+    }
+
+    private void sendResponse(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(statusCode, content.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(content);
+        }
+    }
+}
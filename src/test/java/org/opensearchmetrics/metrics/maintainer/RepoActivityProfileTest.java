@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.maintainer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RepoActivityProfileTest {
+
+    @Test
+    public void testRepoEventCount() {
+        RepoActivityProfile repoActivityProfile = new RepoActivityProfile(Map.of("repo1", 100L, "repo2", 10L));
+        assertEquals(100L, repoActivityProfile.repoEventCount("repo1"));
+        assertEquals(10L, repoActivityProfile.repoEventCount("repo2"));
+        assertEquals(0L, repoActivityProfile.repoEventCount("repo3"));
+    }
+
+    @Test
+    public void testMostAndLeastRepoEventCounts() {
+        RepoActivityProfile repoActivityProfile = new RepoActivityProfile(Map.of("repo1", 100L, "repo2", 10L, "repo3", 50L));
+        assertArrayEquals(new long[]{100L, 10L}, repoActivityProfile.mostAndLeastRepoEventCounts());
+    }
+
+    @Test
+    public void testNoRepoEventCounts() {
+        assertThrows(RuntimeException.class, () -> new RepoActivityProfile(Map.of()));
+    }
+}
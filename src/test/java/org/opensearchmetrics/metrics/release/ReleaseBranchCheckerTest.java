@@ -12,7 +12,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
@@ -26,7 +29,7 @@ public class ReleaseBranchCheckerTest {
         when(connectionMock.getResponseCode()).thenReturn(HttpURLConnection.HTTP_OK);
         when(urlResponseMock.getUrlResponse(anyString())).thenReturn(connectionMock);
 
-        ReleaseBranchChecker releaseBranchChecker = new ReleaseBranchChecker(urlResponseMock);
+        ReleaseBranchChecker releaseBranchChecker = new ReleaseBranchChecker(urlResponseMock, mock(UrlProber.class));
 
         assertTrue(releaseBranchChecker.releaseBranch("1.0", "testRepo"));
     }
@@ -39,8 +42,28 @@ public class ReleaseBranchCheckerTest {
         when(connectionMock.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_FOUND);
         when(urlResponseMock.getUrlResponse(anyString())).thenReturn(connectionMock);
 
-        ReleaseBranchChecker releaseBranchChecker = new ReleaseBranchChecker(urlResponseMock);
+        ReleaseBranchChecker releaseBranchChecker = new ReleaseBranchChecker(urlResponseMock, mock(UrlProber.class));
 
         assertFalse(releaseBranchChecker.releaseBranch("1.0", "testRepo"));
     }
+
+    @Test
+    void testReleaseBranches() {
+        UrlResponse urlResponseMock = mock(UrlResponse.class);
+        UrlProber urlProberMock = mock(UrlProber.class);
+        when(urlProberMock.statusCodes(anyCollection())).thenReturn(Map.of(
+                "https://github.com/opensearch-project/repo1/tree/2.18", HttpURLConnection.HTTP_OK,
+                "https://github.com/opensearch-project/repo2/tree/2.18", HttpURLConnection.HTTP_NOT_FOUND));
+
+        ReleaseBranchChecker releaseBranchChecker = new ReleaseBranchChecker(urlResponseMock, urlProberMock);
+        Map<String, Boolean> releaseBranches = releaseBranchChecker.releaseBranches("2.18.0", List.of("repo1", "repo2"));
+
+        assertEquals(List.of("repo1", "repo2"), List.copyOf(releaseBranches.keySet()));
+        assertTrue(releaseBranches.get("repo1"));
+        assertFalse(releaseBranches.get("repo2"));
+        verify(urlProberMock, times(1)).statusCodes(List.of(
+                "https://github.com/opensearch-project/repo1/tree/2.18",
+                "https://github.com/opensearch-project/repo2/tree/2.18"));
+        verifyNoInteractions(urlResponseMock);
+    }
 }
@@ -30,6 +30,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.Mockito.verify;
 
 public class ReleaseIssueCheckerTest {
 
@@ -84,4 +86,23 @@ public class ReleaseIssueCheckerTest {
         String result = releaseIssueChecker.releaseIssue("2.16.0", "opensearch-build", openSearchUtil);
         assertEquals("https://github.com/opensearch-project/opensearch-build/issues/4115", result);
     }
+
+    @Test
+    void testReleaseOwnersRequestsNoHits() {
+        Terms termsAgg = mock(Terms.class);
+        when(termsAgg.getBuckets()).thenAnswer(invocation -> List.of());
+        Aggregations aggregations = mock(Aggregations.class);
+        when(aggregations.get("issue_assignees")).thenReturn(termsAgg);
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.status()).thenReturn(RestStatus.OK);
+        when(searchResponse.getAggregations()).thenReturn(aggregations);
+        when(openSearchUtil.search(any(SearchRequest.class))).thenReturn(searchResponse);
+
+        new ReleaseIssueChecker().releaseOwners("2.16.0", "opensearch-build", openSearchUtil);
+
+        // Owners come from the assignees aggregation, so no documents should be fetched
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(openSearchUtil).search(captor.capture());
+        assertEquals(0, captor.getValue().source().size());
+    }
 }
@@ -21,6 +21,7 @@ import org.opensearch.search.SearchHits;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.mockito.ArgumentCaptor;
 
 public class ReleaseLabelPullsFetcherTest {
 
@@ -56,4 +57,21 @@ public class ReleaseLabelPullsFetcherTest {
         // Verify behavior and assertions
         assertEquals(5L, result);
     }
+
+    @Test
+    void testReleaseLabelPullsRequestsNoHits() {
+        SearchHits searchHits = Mockito.mock(SearchHits.class);
+        Mockito.when(searchHits.getTotalHits()).thenReturn(new TotalHits(5, TotalHits.Relation.EQUAL_TO));
+        SearchResponse searchResponse = Mockito.mock(SearchResponse.class);
+        Mockito.when(searchResponse.status()).thenReturn(RestStatus.OK);
+        Mockito.when(searchResponse.getHits()).thenReturn(searchHits);
+        Mockito.when(openSearchUtil.search(Mockito.any(SearchRequest.class))).thenReturn(searchResponse);
+
+        new ReleaseLabelPullsFetcher().releaseLabelPulls("1.0", "yourRepo", "open", openSearchUtil);
+
+        // Only the total is read, so no documents should be fetched
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        Mockito.verify(openSearchUtil).search(captor.capture());
+        assertEquals(0, captor.getValue().source().size());
+    }
 }
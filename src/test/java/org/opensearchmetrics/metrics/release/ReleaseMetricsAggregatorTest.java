@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.release;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.filter.Filter;
+import org.opensearch.search.aggregations.bucket.filter.Filters;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.TopHits;
+import org.opensearchmetrics.util.OpenSearchUtil;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReleaseMetricsAggregatorTest {
+
+    @Test
+    void testCreateIssuesSearchRequest() {
+        ReleaseMetricsAggregator aggregator = new ReleaseMetricsAggregator();
+
+        SearchRequest request = aggregator.createIssuesSearchRequest("2.18.0", List.of("repo1", "repo2"));
+
+        assertEquals("github_issues", request.indices()[0]);
+        assertEquals(0, request.source().size());
+        String source = request.source().toString();
+        assertTrue(source.contains("\"issues_open\""));
+        assertTrue(source.contains("\"autocut_issues_open\""));
+        assertTrue(source.contains("\"issues_closed\""));
+        assertTrue(source.contains("\"v2.18.0\""));
+        assertTrue(source.contains("\"[RELEASE] Release version 2.18.0\""));
+        assertTrue(source.contains("\"issue_assignees.keyword\""));
+        assertTrue(source.contains("\"release_issue_hit\""));
+    }
+
+    @Test
+    void testCreatePullsSearchRequest() {
+        ReleaseMetricsAggregator aggregator = new ReleaseMetricsAggregator();
+
+        SearchRequest request = aggregator.createPullsSearchRequest("2.18.0", List.of("repo1", "repo2"));
+
+        assertEquals("github_pulls", request.indices()[0]);
+        assertEquals(0, request.source().size());
+        String source = request.source().toString();
+        assertTrue(source.contains("\"pulls_open\""));
+        assertTrue(source.contains("\"pulls_closed\""));
+        assertTrue(source.contains("\"version_increment\""));
+        assertTrue(source.contains("\"[AUTO] Increment version to\""));
+        assertTrue(source.contains("\"v2.18.0\""));
+    }
+
+    @Test
+    void testAggregate() {
+        OpenSearchUtil openSearchUtil = mock(OpenSearchUtil.class);
+        // repo1 has release issues and pulls, repo2 has no documents at all
+        Filters issueCounts = counts(Map.of("issues_open", 10L, "autocut_issues_open", 5L, "issues_closed", 20L));
+        Filter releaseIssue = releaseIssue(List.of("owner1", "owner2"), "https://github.com/opensearch-project/repo1/issues/1");
+        Aggregations issueBucketAggregations = mock(Aggregations.class);
+        when(issueBucketAggregations.get("counts")).thenReturn(issueCounts);
+        when(issueBucketAggregations.get("release_issue")).thenReturn(releaseIssue);
+        Filters pullCounts = counts(Map.of("pulls_open", 3L, "pulls_closed", 8L, "version_increment", 1L));
+        Aggregations pullBucketAggregations = mock(Aggregations.class);
+        when(pullBucketAggregations.get("counts")).thenReturn(pullCounts);
+        MultiSearchResponse multiSearchResponse = new MultiSearchResponse(new MultiSearchResponse.Item[]{
+                new MultiSearchResponse.Item(repoTermsResponse("repo1", issueBucketAggregations), null),
+                new MultiSearchResponse.Item(repoTermsResponse("repo1", pullBucketAggregations), null)}, 1L);
+        when(openSearchUtil.multiSearch(any(MultiSearchRequest.class))).thenReturn(multiSearchResponse);
+
+        ReleaseMetricsAggregator aggregator = new ReleaseMetricsAggregator();
+        Map<String, ReleaseRepoMetrics> result = aggregator.aggregate("2.18.0", List.of("repo1", "repo2"), openSearchUtil);
+
+        // one _msearch of one search per index, regardless of the number of repos
+        ArgumentCaptor<MultiSearchRequest> captor = ArgumentCaptor.forClass(MultiSearchRequest.class);
+        verify(openSearchUtil, times(1)).multiSearch(captor.capture());
+        assertEquals(2, captor.getValue().requests().size());
+        assertEquals("github_issues", captor.getValue().requests().get(0).indices()[0]);
+        assertEquals("github_pulls", captor.getValue().requests().get(1).indices()[0]);
+
+        assertEquals(List.of("repo1", "repo2"), List.copyOf(result.keySet()));
+        ReleaseRepoMetrics repo1 = result.get("repo1");
+        assertEquals(10L, repo1.getIssuesOpen());
+        assertEquals(5L, repo1.getAutocutIssuesOpen());
+        assertEquals(20L, repo1.getIssuesClosed());
+        assertEquals(3L, repo1.getPullsOpen());
+        assertEquals(8L, repo1.getPullsClosed());
+        assertTrue(repo1.isVersionIncrementMerged());
+        assertArrayEquals(new String[]{"owner1", "owner2"}, repo1.getReleaseOwners());
+        assertEquals("https://github.com/opensearch-project/repo1/issues/1", repo1.getReleaseIssue());
+        ReleaseRepoMetrics repo2 = result.get("repo2");
+        assertEquals(0L, repo2.getIssuesOpen());
+        assertEquals(0L, repo2.getPullsClosed());
+        assertFalse(repo2.isVersionIncrementMerged());
+        assertArrayEquals(new String[0], repo2.getReleaseOwners());
+        assertNull(repo2.getReleaseIssue());
+    }
+
+    @Test
+    void testAggregate_NoRepos() {
+        OpenSearchUtil openSearchUtil = mock(OpenSearchUtil.class);
+
+        ReleaseMetricsAggregator aggregator = new ReleaseMetricsAggregator();
+
+        assertTrue(aggregator.aggregate("2.18.0", List.of(), openSearchUtil).isEmpty());
+        verify(openSearchUtil, never()).multiSearch(any(MultiSearchRequest.class));
+    }
+
+    @Test
+    void testAggregate_Failure() {
+        OpenSearchUtil openSearchUtil = mock(OpenSearchUtil.class);
+        MultiSearchResponse multiSearchResponse = new MultiSearchResponse(new MultiSearchResponse.Item[]{
+                new MultiSearchResponse.Item(null, new RuntimeException("search failed")),
+                new MultiSearchResponse.Item(null, new RuntimeException("search failed"))}, 1L);
+        when(openSearchUtil.multiSearch(any(MultiSearchRequest.class))).thenReturn(multiSearchResponse);
+
+        ReleaseMetricsAggregator aggregator = new ReleaseMetricsAggregator();
+        assertThrows(RuntimeException.class, () -> aggregator.aggregate("2.18.0", List.of("repo1"), openSearchUtil));
+    }
+
+    private Filters counts(Map<String, Long> docCounts) {
+        Filters filters = mock(Filters.class);
+        docCounts.forEach((key, docCount) -> {
+            Filters.Bucket bucket = mock(Filters.Bucket.class);
+            when(bucket.getDocCount()).thenReturn(docCount);
+            doReturn(bucket).when(filters).getBucketByKey(key);
+        });
+        return filters;
+    }
+
+    private Filter releaseIssue(List<String> owners, String htmlUrl) {
+        List<Terms.Bucket> ownerBuckets = owners.stream().map(owner -> {
+            Terms.Bucket bucket = mock(Terms.Bucket.class);
+            when(bucket.getKeyAsString()).thenReturn(owner);
+            return bucket;
+        }).collect(Collectors.toList());
+        Terms ownerTerms = mock(Terms.class);
+        doReturn(ownerBuckets).when(ownerTerms).getBuckets();
+        SearchHit searchHit = mock(SearchHit.class);
+        when(searchHit.getSourceAsMap()).thenReturn(new HashMap<>(Map.of("html_url", htmlUrl)));
+        SearchHits searchHits = mock(SearchHits.class);
+        when(searchHits.getHits()).thenReturn(new SearchHit[]{searchHit});
+        TopHits topHits = mock(TopHits.class);
+        when(topHits.getHits()).thenReturn(searchHits);
+        Aggregations aggregations = mock(Aggregations.class);
+        when(aggregations.get("issue_assignees")).thenReturn(ownerTerms);
+        when(aggregations.get("release_issue_hit")).thenReturn(topHits);
+        Filter filter = mock(Filter.class);
+        when(filter.getAggregations()).thenReturn(aggregations);
+        return filter;
+    }
+
+    private SearchResponse repoTermsResponse(String repo, Aggregations bucketAggregations) {
+        Terms.Bucket repoBucket = mock(Terms.Bucket.class);
+        when(repoBucket.getKeyAsString()).thenReturn(repo);
+        when(repoBucket.getAggregations()).thenReturn(bucketAggregations);
+        Terms repoTerms = mock(Terms.class);
+        doReturn(List.of(repoBucket)).when(repoTerms).getBuckets();
+        Aggregations aggregations = mock(Aggregations.class);
+        when(aggregations.get("repos")).thenReturn(repoTerms);
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.status()).thenReturn(RestStatus.OK);
+        when(searchResponse.getAggregations()).thenReturn(aggregations);
+        return searchResponse;
+    }
+}
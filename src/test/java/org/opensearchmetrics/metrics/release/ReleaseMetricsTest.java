@@ -18,10 +18,13 @@ import org.opensearchmetrics.model.codecov.CodeCovResponse;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +60,9 @@ public class ReleaseMetricsTest {
     @Mock
     private CodeCoverage codeCoverage;
 
+    @Mock
+    private ReleaseMetricsAggregator releaseMetricsAggregator;
+
     @InjectMocks
     private ReleaseMetrics releaseMetrics;
 
@@ -121,6 +127,26 @@ public class ReleaseMetricsTest {
         assertEquals(expectedIncrement, result);
     }
 
+    @Test
+    public void testGetReleaseVersionIncrementFromRepoMetrics() {
+        ReleaseRepoMetrics releaseRepoMetrics = new ReleaseRepoMetrics();
+        releaseRepoMetrics.setVersionIncrementMerged(true);
+        when(releaseVersionIncrementChecker.checkVersionIncrement(eq("1.0.0"), eq("testRepo"), eq("main"), any(), any()))
+                .thenAnswer(invocation -> ((BooleanSupplier) invocation.getArgument(4)).getAsBoolean());
+
+        boolean result = releaseMetrics.getReleaseVersionIncrement("1.0.0", "testRepo", "main", releaseRepoMetrics);
+        assertTrue(result);
+    }
+
+    @Test
+    public void testGetReleaseRepoMetrics() {
+        Map<String, ReleaseRepoMetrics> expectedMetrics = Map.of("testRepo", new ReleaseRepoMetrics());
+        when(releaseMetricsAggregator.aggregate("1.0.0", List.of("testRepo"), openSearchUtil)).thenReturn(expectedMetrics);
+
+        Map<String, ReleaseRepoMetrics> result = releaseMetrics.getReleaseRepoMetrics("1.0.0", List.of("testRepo"));
+        assertEquals(expectedMetrics, result);
+    }
+
     @Test
     public void testGetReleaseBranch() {
         boolean expectedBranch = true;
@@ -131,6 +157,26 @@ public class ReleaseMetricsTest {
         assertEquals(expectedBranch, result);
     }
 
+    @Test
+    public void testGetReleaseBranches() {
+        Map<String, Boolean> expectedBranches = Map.of("repo1", true, "repo2", false);
+        when(releaseBranchChecker.releaseBranches("1.0.0", List.of("repo1", "repo2")))
+                .thenReturn(expectedBranches);
+
+        Map<String, Boolean> result = releaseMetrics.getReleaseBranches("1.0.0", List.of("repo1", "repo2"));
+        assertEquals(expectedBranches, result);
+    }
+
+    @Test
+    public void testGetReleaseNotesBatch() {
+        Map<String, Boolean> expectedNotes = Map.of("repo1", true, "repo2", false);
+        when(releaseNotesChecker.releaseNotes("1.0.0", List.of("repo1", "repo2"), "1.0"))
+                .thenReturn(expectedNotes);
+
+        Map<String, Boolean> result = releaseMetrics.getReleaseNotes("1.0.0", List.of("repo1", "repo2"), "1.0");
+        assertEquals(expectedNotes, result);
+    }
+
     @Test
     public void testGetReleaseOwners() {
         String[] expectedOwners = new String[]{"sample_user_1"};
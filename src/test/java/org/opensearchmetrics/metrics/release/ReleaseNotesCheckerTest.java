@@ -12,11 +12,18 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class ReleaseNotesCheckerTest {
@@ -29,7 +36,7 @@ public class ReleaseNotesCheckerTest {
         when(connectionMock.getResponseCode()).thenReturn(HttpURLConnection.HTTP_OK);
         when(urlResponseMock.getUrlResponse(anyString())).thenReturn(connectionMock);
 
-        ReleaseNotesChecker releaseNotesChecker = new ReleaseNotesChecker(urlResponseMock);
+        ReleaseNotesChecker releaseNotesChecker = new ReleaseNotesChecker(urlResponseMock, mock(UrlProber.class));
 
         assertTrue(releaseNotesChecker.releaseNotes("1.0", "OpenSearch", "1.0"));
     }
@@ -42,8 +49,31 @@ public class ReleaseNotesCheckerTest {
         when(connectionMock.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_FOUND);
         when(urlResponseMock.getUrlResponse(anyString())).thenReturn(connectionMock);
 
-        ReleaseNotesChecker releaseNotesChecker = new ReleaseNotesChecker(urlResponseMock);
+        ReleaseNotesChecker releaseNotesChecker = new ReleaseNotesChecker(urlResponseMock, mock(UrlProber.class));
 
         assertFalse(releaseNotesChecker.releaseNotes("1.0", "OpenSearch", "1.0"));
     }
+
+    @Test
+    void testReleaseNotesBatch() {
+        UrlResponse urlResponseMock = mock(UrlResponse.class);
+        UrlProber urlProberMock = mock(UrlProber.class);
+        String openSearchUrl = "https://raw.githubusercontent.com/opensearch-project/OpenSearch/2.18/release-notes/opensearch.release-notes-2.18.0.md";
+        String dashboardsUrl = "https://raw.githubusercontent.com/opensearch-project/OpenSearch-Dashboards/2.18/release-notes/opensearch-dashboards.release-notes-2.18.0.md";
+        String pluginUrl = "https://raw.githubusercontent.com/opensearch-project/security/2.18/release-notes/opensearch-security.release-notes-2.18.0.0.md";
+        when(urlProberMock.statusCodes(anyCollection())).thenReturn(Map.of(
+                openSearchUrl, HttpURLConnection.HTTP_OK,
+                dashboardsUrl, HttpURLConnection.HTTP_NOT_FOUND,
+                pluginUrl, HttpURLConnection.HTTP_OK));
+
+        ReleaseNotesChecker releaseNotesChecker = new ReleaseNotesChecker(urlResponseMock, urlProberMock);
+        Map<String, Boolean> releaseNotes = releaseNotesChecker.releaseNotes("2.18.0", List.of("OpenSearch", "OpenSearch-Dashboards", "security"), "2.18");
+
+        assertEquals(List.of("OpenSearch", "OpenSearch-Dashboards", "security"), List.copyOf(releaseNotes.keySet()));
+        assertTrue(releaseNotes.get("OpenSearch"));
+        assertFalse(releaseNotes.get("OpenSearch-Dashboards"));
+        assertTrue(releaseNotes.get("security"));
+        verify(urlProberMock, times(1)).statusCodes(List.of(openSearchUrl, dashboardsUrl, pluginUrl));
+        verifyNoInteractions(urlResponseMock);
+    }
 }
@@ -8,24 +8,88 @@
  */
 package org.opensearchmetrics.metrics.release;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.opensearchmetrics.metrics.MetricsCalculationConfig;
+import org.opensearchmetrics.util.HttpContentCache;
+import org.opensearchmetrics.util.S3Util;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
+import javax.inject.Provider;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ReleaseRepoFetcherTest {
+    private static final String OPENSEARCH_MANIFEST = "---\n" +
+            "schema-version: '1.1'\n" +
+            "components:\n" +
+            "  - name: OpenSearch\n" +
+            "    repository: https://github.com/opensearch-project/OpenSearch.git\n" +
+            "  - name: commonUtils\n" +
+            "    repository: https://github.com/opensearch-project/common-utils.git\n";
+    private static final String DASHBOARDS_MANIFEST = "---\n" +
+            "schema-version: '1.1'\n" +
+            "components:\n" +
+            "  - name: OpenSearch-Dashboards\n" +
+            "    repository: https://github.com/opensearch-project/OpenSearch-Dashboards.git\n";
+
+    private HttpServer server;
+    // Stub server state: manifest body by path, and the requests it served
+    private final Map<String, String> manifests = new ConcurrentHashMap<>();
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::serveManifest);
+        server.start();
+        manifests.put("/manifests/2.18.0/opensearch-2.18.0.yml", OPENSEARCH_MANIFEST);
+        manifests.put("/manifests/2.18.0/opensearch-dashboards-2.18.0.yml", DASHBOARDS_MANIFEST);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
 
     @Test
     public void testReadUrl() throws IOException {
@@ -131,4 +195,157 @@ public class ReleaseRepoFetcherTest {
         assertTrue(repos.containsKey("repoName"));
     }
 
+    @Test
+    public void testGetReleaseReposCached() {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setReleaseManifestCache(true);
+        config.setReleaseManifestCacheTtlMinutes(60);
+        MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+        ReleaseRepoFetcher fetcher = cachingFetcher(config, () -> null, clock);
+
+        Map<String, String> repos = fetcher.getReleaseRepos("2.18.0");
+        clock.instant = clock.instant.plus(59, ChronoUnit.MINUTES);
+
+        assertEquals(repos, fetcher.getReleaseRepos("2.18.0"));
+        assertEquals(7, repos.size());
+        assertEquals("common-utils", repos.get("commonUtils"));
+        assertEquals("OpenSearch-Dashboards", repos.get("OpenSearch-Dashboards"));
+        assertEquals("opensearch-build", repos.get("opensearch-build"));
+        assertEquals(2, fullResponses.get());
+        assertEquals(0, notModifiedResponses.get());
+    }
+
+    @Test
+    public void testGetReleaseReposRevalidated() {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setReleaseManifestCache(true);
+        config.setReleaseManifestCacheTtlMinutes(60);
+        MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+        ReleaseRepoFetcher fetcher = cachingFetcher(config, () -> null, clock);
+
+        Map<String, String> repos = fetcher.getReleaseRepos("2.18.0");
+        clock.instant = clock.instant.plus(60, ChronoUnit.MINUTES);
+
+        // Unchanged manifests come back as 304s
+        assertEquals(repos, fetcher.getReleaseRepos("2.18.0"));
+        assertEquals(2, fullResponses.get());
+        assertEquals(2, notModifiedResponses.get());
+
+        // A changed manifest is downloaded and parsed again
+        manifests.put("/manifests/2.18.0/opensearch-dashboards-2.18.0.yml", DASHBOARDS_MANIFEST +
+                "  - name: securityDashboardsPlugin\n" +
+                "    repository: https://github.com/opensearch-project/security-dashboards-plugin.git\n");
+        clock.instant = clock.instant.plus(60, ChronoUnit.MINUTES);
+        Map<String, String> changedRepos = fetcher.getReleaseRepos("2.18.0");
+        assertEquals(8, changedRepos.size());
+        assertEquals("security-dashboards-plugin", changedRepos.get("securityDashboardsPlugin"));
+        assertEquals(3, fullResponses.get());
+        assertEquals(3, notModifiedResponses.get());
+    }
+
+    @Test
+    public void testGetReleaseReposCachedOnFailure() {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setReleaseManifestCache(true);
+        ReleaseRepoFetcher fetcher = cachingFetcher(config, () -> null, Clock.systemUTC());
+
+        Map<String, String> repos = fetcher.getReleaseRepos("2.18.0");
+        manifests.clear();
+
+        // A failed revalidation serves the cached manifests, a manifest never fetched fails the call
+        assertEquals(repos, fetcher.getReleaseRepos("2.18.0"));
+        assertThrows(RuntimeException.class, () -> fetcher.getReleaseRepos("2.19.0"));
+    }
+
+    @Test
+    public void testGetReleaseReposNotCached() {
+        ReleaseRepoFetcher fetcher = cachingFetcher(new MetricsCalculationConfig(), () -> null, Clock.systemUTC());
+
+        fetcher.getReleaseRepos("2.18.0");
+        fetcher.getReleaseRepos("2.18.0");
+
+        assertEquals(4, fullResponses.get());
+        assertEquals(0, notModifiedResponses.get());
+    }
+
+    @Test
+    public void testGetReleaseReposS3() throws IOException {
+        MetricsCalculationConfig config = new MetricsCalculationConfig();
+        config.setReleaseManifestCache(true);
+        config.setReleaseManifestCacheBucket("release-manifest-cache");
+        S3Util s3Util = mock(S3Util.class);
+        when(s3Util.getObjectInputStreamIfExists(anyString())).thenReturn(Optional.empty());
+        ReleaseRepoFetcher fetcher = cachingFetcher(config, () -> s3Util, Clock.systemUTC());
+
+        Map<String, String> repos = fetcher.getReleaseRepos("2.18.0");
+
+        ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Util, times(1)).getObjectInputStreamIfExists("release-manifests/2.18.0.json");
+        verify(s3Util, times(1)).putObject(eq("release-manifests/2.18.0.json"), captor.capture(), eq("application/json"));
+        String stored = new String(captor.getValue(), StandardCharsets.UTF_8);
+        assertTrue(stored.contains("\"etag\":\"\\\"" + OPENSEARCH_MANIFEST.hashCode() + "\\\"\""));
+        assertTrue(stored.contains("\"commonUtils\":\"common-utils\""));
+
+        // A cold container starts from the stored manifests and only revalidates them
+        S3Util coldS3Util = mock(S3Util.class);
+        when(coldS3Util.getObjectInputStreamIfExists("release-manifests/2.18.0.json")).thenReturn(Optional.of(
+                new ResponseInputStream<>(GetObjectResponse.builder().build(), AbortableInputStream.create(new ByteArrayInputStream(captor.getValue())))));
+        ReleaseRepoFetcher coldFetcher = cachingFetcher(config, () -> coldS3Util, Clock.systemUTC());
+
+        assertEquals(repos, coldFetcher.getReleaseRepos("2.18.0"));
+        assertEquals(2, fullResponses.get());
+        assertEquals(2, notModifiedResponses.get());
+        verify(coldS3Util, never()).putObject(anyString(), any(byte[].class), anyString());
+    }
+
+    private ReleaseRepoFetcher cachingFetcher(MetricsCalculationConfig config, Provider<S3Util> s3Util, Clock clock) {
+        return new ReleaseRepoFetcher(config, new ObjectMapper(), s3Util, new HttpContentCache(), clock,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/manifests");
+    }
+
+    private void serveManifest(HttpExchange exchange) throws IOException {
+        String manifest = manifests.get(exchange.getRequestURI().getPath());
+        if (manifest == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        String etag = "\"" + manifest.hashCode() + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedResponses.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        fullResponses.incrementAndGet();
+        byte[] body = manifest.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
@@ -16,8 +16,10 @@ import org.mockito.Mockito;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearchmetrics.util.HttpContentCache;
 import org.opensearchmetrics.util.OpenSearchUtil;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -66,4 +68,43 @@ public class ReleaseVersionIncrementCheckerTest {
         assertFalse(result);
     }
 
+    @Test
+    void testCheckOpenSearchVersion_FromCache() throws IOException {
+        HttpContentCache httpContentCache = Mockito.mock(HttpContentCache.class);
+        Mockito.when(httpContentCache.get("https://raw.githubusercontent.com/opensearch-project/OpenSearch/2.x/buildSrc/version.properties"))
+                .thenReturn("opensearch        = 2.18.0\nlucene            = 9.12.0\n");
+        ReleaseVersionIncrementChecker checker = new ReleaseVersionIncrementChecker(httpContentCache);
+
+        assertTrue(checker.checkOpenSearchVersion("2.18.0", "2.x"));
+        assertFalse(checker.checkOpenSearchVersion("2.19.0", "2.x"));
+    }
+
+    @Test
+    void testCheckOpenSearchDashboardsVersion_FromCache() throws IOException {
+        HttpContentCache httpContentCache = Mockito.mock(HttpContentCache.class);
+        Mockito.when(httpContentCache.get("https://raw.githubusercontent.com/opensearch-project/opensearch-dashboards-functional-test/2.x/package.json"))
+                .thenReturn("{\n  \"name\": \"opensearch-dashboards-functional-test\",\n  \"version\": \"2.18.0\"\n}\n");
+        ReleaseVersionIncrementChecker checker = new ReleaseVersionIncrementChecker(httpContentCache);
+
+        assertTrue(checker.checkOpenSearchDashboardsVersion("2.18.0", "opensearch-dashboards-functional-test", "2.x", new ObjectMapper()));
+        assertFalse(checker.checkOpenSearchDashboardsVersion("2.19.0", "opensearch-dashboards-functional-test", "2.x", new ObjectMapper()));
+    }
+
+    @Test
+    void testCheckVersion_FetchFailure() throws IOException {
+        HttpContentCache httpContentCache = Mockito.mock(HttpContentCache.class);
+        Mockito.when(httpContentCache.get(Mockito.anyString())).thenThrow(new FileNotFoundException("not found"));
+        ReleaseVersionIncrementChecker checker = new ReleaseVersionIncrementChecker(httpContentCache);
+
+        assertFalse(checker.checkOpenSearchVersion("2.18.0", "2.x"));
+        assertFalse(checker.checkOpenSearchDashboardsVersion("2.18.0", "OpenSearch-Dashboards", "2.x", new ObjectMapper()));
+    }
+
+    @Test
+    void testCheckVersionIncrement_GithubPullsCheck() {
+        ReleaseVersionIncrementChecker checker = new ReleaseVersionIncrementChecker();
+        assertTrue(checker.checkVersionIncrement("1.0.0", "some-repo", "main", null, () -> true));
+        assertFalse(checker.checkVersionIncrement("1.0.0", "some-repo", "main", null, () -> false));
+    }
+
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.metrics.release;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UrlProberTest {
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    // Stub server state: the requests it served, their methods, and the requests in flight
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Set<String> methods = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long responseDelayMillis = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::serve);
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void testStatusCodes() {
+        UrlProber urlProber = new UrlProber(httpClient(), 4, 1000);
+
+        Map<String, Integer> statusCodes = urlProber.statusCodes(List.of(url("/found/repo1"), url("/missing/repo2"), url("/found/repo3")));
+
+        assertEquals(List.of(url("/found/repo1"), url("/missing/repo2"), url("/found/repo3")), List.copyOf(statusCodes.keySet()));
+        assertEquals(200, statusCodes.get(url("/found/repo1")));
+        assertEquals(404, statusCodes.get(url("/missing/repo2")));
+        assertEquals(200, statusCodes.get(url("/found/repo3")));
+        assertEquals(Set.of("HEAD"), methods);
+    }
+
+    @Test
+    void testStatusCodesDeduplicatesUrls() {
+        UrlProber urlProber = new UrlProber(httpClient(), 4, 1000);
+
+        Map<String, Integer> statusCodes = urlProber.statusCodes(List.of(url("/found/repo1"), url("/found/repo1")));
+
+        assertEquals(1, statusCodes.size());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void testStatusCodesConcurrencyLimit() {
+        responseDelayMillis = 50;
+        UrlProber urlProber = new UrlProber(httpClient(), 3, 1000);
+        List<String> urls = IntStream.range(0, 12).mapToObj(i -> url("/found/repo" + i)).collect(Collectors.toList());
+
+        Map<String, Integer> statusCodes = urlProber.statusCodes(urls);
+
+        assertEquals(12, statusCodes.size());
+        assertEquals(12, requests.get());
+        assertTrue(maxInFlight.get() <= 3, "max in flight " + maxInFlight.get());
+        assertTrue(maxInFlight.get() > 1, "max in flight " + maxInFlight.get());
+    }
+
+    @Test
+    void testStatusCodesRateLimitPerHost() {
+        UrlProber urlProber = new UrlProber(httpClient(), 4, 10);
+        List<String> urls = IntStream.range(0, 5).mapToObj(i -> url("/found/repo" + i)).collect(Collectors.toList());
+
+        long start = System.nanoTime();
+        urlProber.statusCodes(urls);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // 10 requests per second: the 5th request starts 400ms after the 1st
+        assertTrue(elapsedMillis >= 350, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void testStatusCodesFailure() throws IOException {
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            closedPort = serverSocket.getLocalPort();
+        }
+        UrlProber urlProber = new UrlProber(httpClient(), 4, 1000);
+
+        assertThrows(RuntimeException.class, () -> urlProber.statusCodes(List.of("http://127.0.0.1:" + closedPort + "/found/repo1")));
+    }
+
+    private HttpClient httpClient() {
+        return HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        methods.add(exchange.getRequestMethod());
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (responseDelayMillis > 0) {
+                Thread.sleep(responseDelayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        int status = exchange.getRequestURI().getPath().startsWith("/found/") ? 200 : 404;
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+}
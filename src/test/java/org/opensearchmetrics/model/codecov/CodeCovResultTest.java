@@ -16,6 +16,8 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
+import org.opensearchmetrics.dagger.CommonModule;
+import org.opensearchmetrics.util.DocumentSerializer;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -230,4 +232,26 @@ public class CodeCovResultTest {
         );
         assertEquals(expectedMap, actualMap);
     }
+
+    @Test
+    void writeTo_matches_toJson() throws Exception {
+        CodeCovResult document = new CodeCovResult();
+        document.setId("1");
+        document.setCurrentDate("2024-03-20");
+        document.setRepository("test-repo");
+        document.setComponent("test-component");
+        document.setReleaseVersion("2.18.0");
+        document.setVersion("2.18.0");
+        document.setReleaseState("open");
+        document.setTimestamp("2024-03-20T00:00:00Z");
+        document.setCommitId("abc123");
+        document.setState("complete");
+        document.setCoverage(81.5);
+        document.setBranch("main");
+        ObjectMapper realMapper = new CommonModule().getObjectMapper();
+
+        String source = DocumentSerializer.toBytes(document).utf8ToString();
+
+        assertEquals(realMapper.readTree(document.toJson(realMapper)), realMapper.readTree(source));
+    }
 }
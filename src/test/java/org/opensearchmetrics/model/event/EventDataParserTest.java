@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.model.event;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EventDataParserTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void GIVEN_event_THEN_extract_indexed_fields() throws IOException {
+        String eventJson = "{\"id\":\"123\",\"name\":\"issues\",\"payload\":{\"action\":\"opened\","
+                + "\"issue\":{\"body\":\"long body\",\"user\":{\"login\":\"not-the-sender\"}},"
+                + "\"repository\":{\"name\":\"myrepo\",\"owner\":{\"login\":\"owner\"}},"
+                + "\"organization\":{\"login\":\"myorg\"},\"sender\":{\"login\":\"user\",\"id\":1}},"
+                + "\"uploaded_at\":\"2023-05-01T12:00:00Z\"}";
+
+        EventData event = parse(eventJson);
+
+        assertEquals("123", event.getId());
+        assertEquals("issues", event.getType());
+        assertEquals("myrepo", event.getRepository());
+        assertEquals("myorg", event.getOrganization());
+        assertEquals("opened", event.getAction());
+        assertEquals("user", event.getSender());
+        assertEquals("2023-05-01T12:00:00Z", event.getCreatedAt());
+    }
+
+    @Test
+    void GIVEN_no_organization_THEN_fall_back_to_repository_owner() throws IOException {
+        EventData event = parse("{\"payload\":{\"repository\":{\"owner\":{\"login\":\"owner\"},\"name\":\"myrepo\"}}}");
+
+        assertEquals("owner", event.getOrganization());
+        assertEquals("myrepo", event.getRepository());
+    }
+
+    @Test
+    void GIVEN_non_string_values_THEN_leave_fields_null() throws IOException {
+        EventData event = parse("{\"id\":123,\"name\":{\"nested\":\"x\"},\"payload\":{\"action\":[\"a\"],\"sender\":\"user\"}}");
+
+        assertNull(event.getId());
+        assertNull(event.getType());
+        assertNull(event.getAction());
+        assertNull(event.getSender());
+    }
+
+    @Test
+    void GIVEN_events_THEN_match_tree_based_extraction() throws IOException {
+        List<String> events = List.of(
+                "{\"id\":\"1\",\"name\":\"push\",\"payload\":{\"repository\":{\"name\":\"r\"},\"organization\":{\"login\":\"o\"},\"action\":\"created\",\"sender\":{\"login\":\"s\"}},\"uploaded_at\":\"t\"}",
+                "{\"payload\":{\"repository\":{\"name\":\"r\",\"owner\":{\"login\":\"owner\"}},\"organization\":null}}",
+                "{\"payload\":{\"organization\":{\"login\":\"o\"},\"repository\":{\"owner\":{\"login\":\"owner\"}}}}",
+                "{\"payload\":[{\"repository\":{\"name\":\"r\"}}],\"id\":\"1\"}",
+                "{\"payload\":{\"pull_request\":{\"body\":\"" + "x".repeat(10_000) + "\",\"labels\":[{\"name\":\"l\"}]},\"sender\":{\"login\":\"s\"}}}",
+                "{\"id\":null,\"name\":true,\"uploaded_at\":1.5}",
+                "[]",
+                "{}");
+        for (String eventJson : events) {
+            assertEquals(TreeEventDataParser.parse(mapper.readTree(eventJson)), parse(eventJson), eventJson);
+        }
+    }
+
+    @Test
+    void GIVEN_malformed_event_THEN_throw() {
+        assertThrows(JsonParseException.class, () ->
+                parse("{\"id\":\"123\",\"payload\":\"repository\":{\"name\":\"myrepo\"}}"));
+    }
+
+    private EventData parse(String eventJson) throws IOException {
+        try (JsonParser parser = mapper.createParser(eventJson)) {
+            return EventDataParser.parse(parser);
+        }
+    }
+}
@@ -14,6 +14,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearchmetrics.dagger.CommonModule;
+import org.opensearchmetrics.util.DocumentSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -145,4 +147,20 @@ public class EventDataTest {
         // Act and Assert
         assertThrows(RuntimeException.class, () -> eventData.getJson(eventData, objectMapper));
     }
+
+    @Test
+    void writeTo_matches_toJson() throws Exception {
+        EventData document = new EventData();
+        document.setId("1");
+        document.setOrganization("test-org");
+        document.setRepository("test-repo");
+        document.setType("pull_request");
+        document.setAction("closed");
+        document.setCreatedAt("2024-09-23T20:14:08.346Z");
+        ObjectMapper realMapper = new CommonModule().getObjectMapper();
+
+        String source = DocumentSerializer.toBytes(document).utf8ToString();
+
+        assertEquals(realMapper.readTree(document.toJson(realMapper)), realMapper.readTree(source));
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.model.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.when;
+
+public class IngestionCheckpointTest {
+    @Mock
+    ObjectMapper objectMapper;
+
+    private IngestionCheckpoint checkpoint;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        checkpoint = new IngestionCheckpoint();
+        checkpoint.setPrefix("issues.opened/2024-09-23/");
+        checkpoint.setLastKey("issues.opened/2024-09-23/event-1.json");
+        checkpoint.setLastModified("2024-09-23T20:14:08Z");
+        checkpoint.setUpdatedAt("2024-09-24T00:00:00Z");
+    }
+
+    @Test
+    void toJson() throws JsonProcessingException {
+        // Arrange
+        Map<String, Object> expectedData = new HashMap<>();
+        expectedData.put("prefix", "issues.opened/2024-09-23/");
+        expectedData.put("last_key", "issues.opened/2024-09-23/event-1.json");
+        expectedData.put("last_modified", "2024-09-23T20:14:08Z");
+        expectedData.put("updated_at", "2024-09-24T00:00:00Z");
+
+        when(objectMapper.writeValueAsString(expectedData)).thenReturn("expectedJson");
+
+        // Act
+        String actualJson = checkpoint.toJson(objectMapper);
+
+        // Assert
+        assertEquals("expectedJson", actualJson);
+    }
+
+    @Test
+    void getJson_WithJsonProcessingException() throws JsonProcessingException {
+        when(objectMapper.writeValueAsString(anyMap())).thenThrow(JsonProcessingException.class);
+
+        assertThrows(RuntimeException.class, () -> checkpoint.getJson(checkpoint, objectMapper));
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Reference tree-based extraction of EventData, which EventDataParser.parse must match.
+ * Used by EventDataParserTest and as the baseline of EventDataParserBenchmark.
+ */
+final class TreeEventDataParser {
+
+    private TreeEventDataParser() {
+    }
+
+    static EventData parse(JsonNode eventNode) {
+        EventData event = new EventData();
+        event.setId(eventNode.path("id").textValue());
+        event.setType(eventNode.path("name").textValue());
+        event.setRepository(eventNode.path("payload").path("repository").path("name").textValue());
+        event.setOrganization(eventNode.path("payload").path("organization").path("login").textValue());
+        if (event.getOrganization() == null) {
+            event.setOrganization(eventNode.path("payload").path("repository").path("owner").path("login").textValue());
+        }
+        event.setAction(eventNode.path("payload").path("action").textValue());
+        event.setSender(eventNode.path("payload").path("sender").path("login").textValue());
+        event.setCreatedAt(eventNode.path("uploaded_at").textValue());
+        return event;
+    }
+}
@@ -14,6 +14,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearchmetrics.dagger.CommonModule;
+import org.opensearchmetrics.util.DocumentSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -66,6 +68,35 @@ public class MetricsDataTest {
         assertEquals(100L, metricsData.getMetricCount());
     }
 
+    @Test
+    public void testMetricCountRelation() {
+        metricsData.setMetricCountRelation("gte");
+        assertEquals("gte", metricsData.getMetricCountRelation());
+    }
+
+    @Test
+    void toJson_WithMetricCountRelation() throws JsonProcessingException {
+        MetricsData metricsData = new MetricsData();
+        metricsData.setId("1");
+        metricsData.setCurrentDate("2024-03-15");
+        metricsData.setRepository("test-repo");
+        metricsData.setMetricName("bugs");
+        metricsData.setMetricCount(10000L);
+        metricsData.setMetricCountRelation("gte");
+
+        Map<String, Object> expectedData = new HashMap<>();
+        expectedData.put("id", "1");
+        expectedData.put("current_date", "2024-03-15");
+        expectedData.put("repository", "test-repo");
+        expectedData.put("metric_name", "bugs");
+        expectedData.put("metric_count", 10000L);
+        expectedData.put("metric_count_relation", "gte");
+
+        when(objectMapper.writeValueAsString(expectedData)).thenReturn("expectedJson");
+
+        assertEquals("expectedJson", metricsData.toJson(objectMapper));
+    }
+
     @Test
     void toJson() throws JsonProcessingException {
         // Arrange
@@ -126,4 +157,20 @@ public class MetricsDataTest {
         // Act and Assert
         assertThrows(RuntimeException.class, () -> metricsData.getJson(metricsData, objectMapper));
     }
+
+    @Test
+    void writeTo_matches_toJson() throws Exception {
+        MetricsData document = new MetricsData();
+        document.setId("1");
+        document.setCurrentDate("2024-03-20");
+        document.setRepository("test-repo");
+        document.setMetricName("test-metric");
+        document.setMetricCount(0L);
+        document.setMetricCountRelation("gte");
+        ObjectMapper realMapper = new CommonModule().getObjectMapper();
+
+        String source = DocumentSerializer.toBytes(document).utf8ToString();
+
+        assertEquals(realMapper.readTree(document.toJson(realMapper)), realMapper.readTree(source));
+    }
 }
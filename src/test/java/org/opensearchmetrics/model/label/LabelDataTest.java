@@ -14,6 +14,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearchmetrics.dagger.CommonModule;
+import org.opensearchmetrics.util.DocumentSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -136,4 +138,19 @@ public class LabelDataTest {
         // Act and Assert
         assertThrows(RuntimeException.class, () -> labelData.getJson(labelData, objectMapper));
     }
+
+    @Test
+    void writeTo_matches_toJson() throws Exception {
+        LabelData document = new LabelData();
+        document.setId("1");
+        document.setCurrentDate("2024-03-20");
+        document.setRepository("test-repo");
+        document.setLabelName("bug");
+        document.setLabelIssueCount(3L);
+        ObjectMapper realMapper = new CommonModule().getObjectMapper();
+
+        String source = DocumentSerializer.toBytes(document).utf8ToString();
+
+        assertEquals(realMapper.readTree(document.toJson(realMapper)), realMapper.readTree(source));
+    }
 }
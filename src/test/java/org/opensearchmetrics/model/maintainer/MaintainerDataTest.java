@@ -14,6 +14,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearchmetrics.dagger.CommonModule;
+import org.opensearchmetrics.util.DocumentSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -176,4 +178,23 @@ public class MaintainerDataTest {
         // Act and Assert
         assertThrows(RuntimeException.class, () -> maintainerData.getJson(maintainerData, objectMapper));
     }
+
+    @Test
+    void writeTo_matches_toJson() throws Exception {
+        MaintainerData document = new MaintainerData();
+        document.setId("1");
+        document.setCurrentDate("2024-03-20");
+        document.setRepository("test-repo");
+        document.setName("Alejandro Rosalez");
+        document.setGithubLogin("arosalez");
+        document.setAffiliation("Amazon");
+        document.setEventType("issues");
+        document.setTimeLastEngaged("2024-03-19T10:00:00Z");
+        document.setInactive(true);
+        ObjectMapper realMapper = new CommonModule().getObjectMapper();
+
+        String source = DocumentSerializer.toBytes(document).utf8ToString();
+
+        assertEquals(realMapper.readTree(document.toJson(realMapper)), realMapper.readTree(source));
+    }
 }
@@ -14,6 +14,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearchmetrics.dagger.CommonModule;
+import org.opensearchmetrics.util.DocumentSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -267,4 +269,28 @@ public class ReleaseMetricsDataTest {
         // Act and Assert
         assertThrows(RuntimeException.class, () -> releaseMetricsData.getJson(releaseMetricsData, objectMapper));
     }
+
+    @Test
+    void writeTo_matches_toJson() throws Exception {
+        ReleaseMetricsData document = new ReleaseMetricsData();
+        document.setId("1");
+        document.setCurrentDate("2024-03-20");
+        document.setRepository("test-repo");
+        document.setComponent("test-component");
+        document.setReleaseVersion("2.18.0");
+        document.setVersion("2.18.0");
+        document.setReleaseState("open");
+        document.setIssuesOpen(10L);
+        document.setIssuesClosed(5L);
+        document.setPullsOpen(3L);
+        document.setVersionIncrement(true);
+        document.setReleaseOwners(new String[]{"owner1", "owner2"});
+        document.setReleaseOwnerExists(true);
+        document.setReleaseIssue("https://github.com/opensearch-project/test-repo/issues/1");
+        ObjectMapper realMapper = new CommonModule().getObjectMapper();
+
+        String source = DocumentSerializer.toBytes(document).utf8ToString();
+
+        assertEquals(realMapper.readTree(document.toJson(realMapper)), realMapper.readTree(source));
+    }
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearchmetrics.model.general.MetricsData;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkIndexerTest {
+
+    @Mock
+    private RestHighLevelClient client;
+
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduler;
+    private final BulkRetryPolicy retryPolicy = new BulkRetryPolicy(3, 1, 10, 100);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        executor = Executors.newFixedThreadPool(4);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).thenReturn(mock(BulkResponse.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void GIVEN_more_documents_than_maxActions_THEN_split_by_count() throws Exception {
+        try (BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 60, 1, retryPolicy)) {
+            for (int i = 0; i < 450; i++) {
+                bulkIndexer.add("doc_" + i, "{\"value\":" + i + "}");
+            }
+        }
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(3)).bulk(captor.capture(), any(RequestOptions.class));
+        assertEquals(450, captor.getAllValues().stream().mapToInt(BulkRequest::numberOfActions).sum());
+    }
+
+    @Test
+    void GIVEN_documents_larger_than_maxBytes_THEN_split_by_size() throws Exception {
+        String largeDocument = "{\"body\":\"" + "x".repeat(1024) + "\"}";
+        try (BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, 1024, 4, 60, 1, retryPolicy)) {
+            for (int i = 0; i < 5; i++) {
+                bulkIndexer.add("doc_" + i, largeDocument);
+            }
+        }
+
+        verify(client, times(5)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+    }
+
+    @Test
+    void GIVEN_same_id_twice_in_a_window_THEN_send_only_the_latest_document() throws Exception {
+        try (BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 60, 1, retryPolicy)) {
+            bulkIndexer.add("doc_1", "{\"value\":1}");
+            bulkIndexer.add("doc_2", "{\"value\":2}");
+            bulkIndexer.add("doc_1", "{\"value\":3}");
+        }
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(1)).bulk(captor.capture(), any(RequestOptions.class));
+        BulkRequest request = captor.getValue();
+        assertEquals(2, request.numberOfActions());
+        assertEquals("doc_1", request.requests().get(0).id());
+        assertEquals("{\"value\":3}", ((IndexRequest) request.requests().get(0)).source().utf8ToString());
+    }
+
+    @Test
+    void GIVEN_pending_documents_WHEN_flush_interval_elapses_THEN_send_before_close() throws Exception {
+        try (BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 1, 1, retryPolicy)) {
+            bulkIndexer.add("doc_1", "{}");
+            verify(client, timeout(3000).times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+        }
+        verify(client, times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+    }
+
+    @Test
+    void GIVEN_several_bulk_requests_THEN_send_them_concurrently() throws Exception {
+        CountDownLatch bothSent = new CountDownLatch(2);
+        AtomicInteger concurrentRequests = new AtomicInteger();
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).thenAnswer(invocation -> {
+            bothSent.countDown();
+            if (bothSent.await(5, TimeUnit.SECONDS)) {
+                concurrentRequests.incrementAndGet();
+            }
+            return mock(BulkResponse.class);
+        });
+
+        try (BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                1, Long.MAX_VALUE, 4, 60, 1, retryPolicy)) {
+            bulkIndexer.add("doc_1", "{}");
+            bulkIndexer.add("doc_2", "{}");
+        }
+
+        assertEquals(2, concurrentRequests.get());
+    }
+
+    @Test
+    void GIVEN_rejected_item_WHEN_retryable_THEN_resend_only_that_item() throws Exception {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenReturn(bulkResponse(success(0), failure(1, RestStatus.TOO_MANY_REQUESTS)))
+                .thenReturn(bulkResponse(success(0)));
+
+        BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 60, 1, retryPolicy);
+        try (bulkIndexer) {
+            bulkIndexer.add("doc_0", "{}");
+            bulkIndexer.add("doc_1", "{}");
+        }
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(2)).bulk(captor.capture(), any(RequestOptions.class));
+        BulkRequest retry = captor.getAllValues().get(1);
+        assertEquals(1, retry.numberOfActions());
+        assertEquals("doc_1", retry.requests().get(0).id());
+        assertEquals(new BulkIndexResult(2, 1, 0), bulkIndexer.getResult());
+    }
+
+    @Test
+    void GIVEN_rejected_item_WHEN_not_retryable_THEN_drop_it() throws Exception {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenReturn(bulkResponse(success(0), failure(1, RestStatus.BAD_REQUEST)));
+
+        BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 60, 1, retryPolicy);
+        try (bulkIndexer) {
+            bulkIndexer.add("doc_0", "{}");
+            bulkIndexer.add("doc_1", "{}");
+        }
+
+        verify(client, times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+        assertEquals(new BulkIndexResult(1, 0, 1), bulkIndexer.getResult());
+    }
+
+    @Test
+    void GIVEN_item_always_rejected_THEN_drop_it_after_max_retries() throws Exception {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenReturn(bulkResponse(failure(0, RestStatus.TOO_MANY_REQUESTS)));
+
+        BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 60, 1, retryPolicy);
+        try (bulkIndexer) {
+            bulkIndexer.add("doc_0", "{}");
+        }
+
+        // first attempt and 3 retries
+        verify(client, times(4)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+        assertEquals(new BulkIndexResult(0, 3, 1), bulkIndexer.getResult());
+    }
+
+    @Test
+    void GIVEN_retry_budget_exhausted_THEN_drop_without_retrying() throws Exception {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenReturn(bulkResponse(failure(0, RestStatus.TOO_MANY_REQUESTS), failure(1, RestStatus.TOO_MANY_REQUESTS)));
+
+        BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 60, 1, new BulkRetryPolicy(3, 1, 10, 1));
+        try (bulkIndexer) {
+            bulkIndexer.add("doc_0", "{}");
+            bulkIndexer.add("doc_1", "{}");
+        }
+
+        verify(client, times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+        assertEquals(new BulkIndexResult(0, 0, 2), bulkIndexer.getResult());
+    }
+
+    @Test
+    void GIVEN_bulk_request_rejected_WHEN_retryable_THEN_resend_it() throws Exception {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenThrow(new OpenSearchStatusException("rejected", RestStatus.TOO_MANY_REQUESTS))
+                .thenReturn(bulkResponse(success(0), success(1)));
+
+        BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 60, 1, retryPolicy);
+        try (bulkIndexer) {
+            bulkIndexer.add("doc_0", "{}");
+            bulkIndexer.add("doc_1", "{}");
+        }
+
+        verify(client, times(2)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+        assertEquals(new BulkIndexResult(2, 2, 0), bulkIndexer.getResult());
+    }
+
+    @Test
+    void GIVEN_bulk_request_rejected_WHEN_not_retryable_THEN_drop_it() throws Exception {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenThrow(new OpenSearchStatusException("forbidden", RestStatus.FORBIDDEN));
+
+        BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 60, 1, retryPolicy);
+        try (bulkIndexer) {
+            bulkIndexer.add("doc_0", "{}");
+            bulkIndexer.add("doc_1", "{}");
+        }
+
+        verify(client, times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+        assertEquals(new BulkIndexResult(0, 0, 2), bulkIndexer.getResult());
+    }
+
+    @Test
+    void WHEN_awaitSent_THEN_send_pending_documents_and_stay_open() throws Exception {
+        try (BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 60, 1, retryPolicy)) {
+            bulkIndexer.add("doc_1", "{}");
+            bulkIndexer.awaitSent();
+            verify(client, times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+
+            bulkIndexer.add("doc_2", "{}");
+        }
+        verify(client, times(2)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+    }
+
+    @Test
+    void WHEN_add_document_THEN_send_its_source_under_its_id() throws Exception {
+        MetricsData metricsData = new MetricsData();
+        metricsData.setId("doc_1");
+        metricsData.setMetricCount(1L);
+        try (BulkIndexer bulkIndexer = new BulkIndexer(client, executor, scheduler, "some_index",
+                200, Long.MAX_VALUE, 4, 60, 1, retryPolicy)) {
+            bulkIndexer.add(metricsData);
+        }
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(1)).bulk(captor.capture(), any(RequestOptions.class));
+        IndexRequest request = (IndexRequest) captor.getValue().requests().get(0);
+        assertEquals("doc_1", request.id());
+        assertEquals("{\"id\":\"doc_1\",\"metric_count\":1}", request.source().utf8ToString());
+    }
+
+    private BulkResponse bulkResponse(BulkItemResponse... items) {
+        return new BulkResponse(items, 1L);
+    }
+
+    private BulkItemResponse success(int itemId) {
+        BulkItemResponse item = mock(BulkItemResponse.class);
+        when(item.getItemId()).thenReturn(itemId);
+        when(item.isFailed()).thenReturn(false);
+        return item;
+    }
+
+    private BulkItemResponse failure(int itemId, RestStatus status) {
+        return new BulkItemResponse(itemId, DocWriteRequest.OpType.INDEX,
+                new BulkItemResponse.Failure("some_index", "doc_" + itemId, new Exception("rejected"), status));
+    }
+}
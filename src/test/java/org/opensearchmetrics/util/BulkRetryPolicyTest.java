@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.core.rest.RestStatus;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkRetryPolicyTest {
+
+    @Test
+    void testIsRetryable() {
+        BulkRetryPolicy retryPolicy = new BulkRetryPolicy(3, 100, 1000, 10);
+        assertTrue(retryPolicy.isRetryable(RestStatus.TOO_MANY_REQUESTS));
+        assertTrue(retryPolicy.isRetryable(RestStatus.SERVICE_UNAVAILABLE));
+        assertFalse(retryPolicy.isRetryable(RestStatus.BAD_REQUEST));
+        assertFalse(retryPolicy.isRetryable(RestStatus.CONFLICT));
+    }
+
+    @Test
+    void testTryAcquire() {
+        BulkRetryPolicy retryPolicy = new BulkRetryPolicy(3, 100, 1000, 10);
+        assertTrue(retryPolicy.tryAcquire(0, 6));
+        assertFalse(retryPolicy.tryAcquire(1, 5)); // only 4 retries left in the budget
+        assertTrue(retryPolicy.tryAcquire(1, 4));
+        assertFalse(retryPolicy.tryAcquire(3, 0)); // max retries reached
+    }
+
+    @Test
+    void testDelayMillis() {
+        BulkRetryPolicy retryPolicy = new BulkRetryPolicy(10, 100, 1000, 10);
+        for (int attempt = 0; attempt < 10; attempt++) {
+            long delay = retryPolicy.delayMillis(attempt);
+            assertTrue(delay >= 0);
+            assertTrue(delay <= Math.min(1000, 100L << attempt));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class DocumentIdGeneratorTest {
+    private final LocalDateTime currentDate = LocalDateTime.of(2024, 9, 23, 14, 5, 30);
+
+    @Test
+    void WHEN_generate_THEN_same_id_as_before() throws Exception {
+        DocumentIdGenerator documentIdGenerator = new DocumentIdGenerator(currentDate);
+
+        assertEquals(legacyId("general-metrics-Untriaged Issues-2024-09-23-opensearch"),
+                documentIdGenerator.generate("general-metrics", "Untriaged Issues", "opensearch"));
+        assertEquals(legacyId("codecov-metrics-2.x2.18.0-2024-09-23-opensearch"),
+                documentIdGenerator.generate("codecov-metrics", "2.x" + "2.18.0", "opensearch"));
+        assertEquals(legacyId("maintainer-inactivity-issues-githubId-2024-09-23-opensearch-dashboards"),
+                documentIdGenerator.generate("maintainer-inactivity", "issues-githubId", "opensearch-dashboards"));
+        assertEquals(legacyId("label-metrics-\u00e9crire-2024-09-23-opensearch"),
+                documentIdGenerator.generate("label-metrics", "\u00e9crire", "opensearch"));
+    }
+
+    @Test
+    void GIVEN_different_dates_THEN_different_ids() {
+        assertNotEquals(new DocumentIdGenerator(currentDate).generate("general-metrics", "Open Issues", "opensearch"),
+                new DocumentIdGenerator(currentDate.plusDays(1)).generate("general-metrics", "Open Issues", "opensearch"));
+    }
+
+    @Test
+    void WHEN_nameUUIDFromBytes_THEN_same_as_UUID() {
+        for (int i = 0; i < 100; i++) {
+            byte[] name = ("name-" + i).getBytes();
+            assertEquals(UUID.nameUUIDFromBytes(name), DocumentIdGenerator.nameUUIDFromBytes(name));
+        }
+    }
+
+    @Test
+    void GIVEN_concurrent_threads_THEN_ids_are_unchanged() throws Exception {
+        DocumentIdGenerator documentIdGenerator = new DocumentIdGenerator(currentDate);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        String repo = "repo-" + i;
+                        if (!legacyId("release-metrics-2.18.0-2024-09-23-" + repo)
+                                .equals(documentIdGenerator.generate("release-metrics", "2.18.0", repo))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertEquals(true, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String legacyId(String source) throws Exception {
+        return String.valueOf(UUID.nameUUIDFromBytes(MessageDigest.getInstance("SHA-1").digest(source.getBytes())));
+    }
+}
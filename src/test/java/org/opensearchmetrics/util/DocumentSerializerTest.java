@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearchmetrics.model.general.MetricsData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DocumentSerializerTest {
+
+    @Test
+    void WHEN_toBytes_THEN_write_document_source() {
+        MetricsData metricsData = new MetricsData();
+        metricsData.setId("1");
+        metricsData.setMetricName("Untriaged Issues");
+        metricsData.setMetricCount(3L);
+
+        BytesReference source = DocumentSerializer.toBytes(metricsData);
+
+        assertEquals("{\"id\":\"1\",\"metric_name\":\"Untriaged Issues\",\"metric_count\":3}", source.utf8ToString());
+    }
+
+    @Test
+    void GIVEN_reused_buffer_THEN_each_source_is_independent() {
+        MetricsData large = new MetricsData();
+        large.setId("x".repeat(10_000));
+        MetricsData small = new MetricsData();
+        small.setId("2");
+
+        BytesReference largeSource = DocumentSerializer.toBytes(large);
+        BytesReference smallSource = DocumentSerializer.toBytes(small);
+
+        assertEquals("{\"id\":\"2\"}", smallSource.utf8ToString());
+        assertEquals(10_009, largeSource.length());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearchmetrics.model.event.EventArchiveIndex;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EventArchiveTest {
+    private static final String PREFIX = "push/2024-09-23/";
+
+    @Mock
+    private S3Util s3Util;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private ExecutorService executor;
+    private EventArchive eventArchive;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        executor = Executors.newFixedThreadPool(4);
+        eventArchive = new EventArchive(s3Util, mapper, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void GIVEN_source_objects_WHEN_compact_THEN_blocks_can_be_read_with_ranged_gets() throws Exception {
+        // Arrange
+        List<S3Object> objects = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            objects.add(S3Object.builder().key(PREFIX + "event-" + i).lastModified(Instant.parse("2024-09-23T10:00:00Z").plusSeconds(i)).build());
+        }
+        when(s3Util.streamObjects(PREFIX)).thenReturn(objects.stream());
+        when(s3Util.getObjectInputStream(anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            String event = "{\n  \"id\": \"" + key.substring(key.lastIndexOf('-') + 1) + "\"\n}";
+            return new ResponseInputStream<>(mock(GetObjectResponse.class), new ByteArrayInputStream(event.getBytes(StandardCharsets.UTF_8)));
+        });
+        AtomicReference<byte[]> archive = new AtomicReference<>();
+        doAnswer(invocation -> {
+            archive.set(Files.readAllBytes(invocation.<Path>getArgument(1)));
+            return null;
+        }).when(s3Util).putObject(eq(EventArchive.eventsKey(PREFIX)), any(Path.class), anyString());
+        AtomicReference<byte[]> index = new AtomicReference<>();
+        doAnswer(invocation -> {
+            index.set(invocation.getArgument(1));
+            return null;
+        }).when(s3Util).putObject(eq(EventArchive.indexKey(PREFIX)), any(byte[].class), anyString());
+
+        // Act
+        EventArchiveIndex compacted = eventArchive.compact(PREFIX, executor).orElseThrow();
+
+        // Assert
+        assertEquals(5, compacted.getSourceObjects());
+        assertEquals(3, compacted.getBlocks().size());
+        assertEquals(PREFIX + "event-4", compacted.getLastKey());
+        assertEquals("2024-09-23T10:00:04Z", compacted.getLastModified());
+        assertEquals(compacted, mapper.readValue(index.get(), EventArchiveIndex.class));
+
+        // the archive as a whole is a gzip file of one event per line
+        try (InputStream archiveInputStream = new GZIPInputStream(new ByteArrayInputStream(archive.get()))) {
+            String lines = new String(archiveInputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals("{\"id\":\"0\"}\n{\"id\":\"1\"}\n{\"id\":\"2\"}\n{\"id\":\"3\"}\n{\"id\":\"4\"}\n", lines);
+        }
+
+        // each block on its own
+        when(s3Util.getObjectRangeInputStream(eq(EventArchive.eventsKey(PREFIX)), anyLong(), anyLong())).thenAnswer(invocation -> {
+            int start = (int) (long) invocation.<Long>getArgument(1);
+            int length = (int) (long) invocation.<Long>getArgument(2);
+            byte[] range = Arrays.copyOfRange(archive.get(), start, start + length);
+            return new ResponseInputStream<>(mock(GetObjectResponse.class), new ByteArrayInputStream(range));
+        });
+        List<String> events = new ArrayList<>();
+        eventArchive.readBlock(PREFIX, compacted.getBlocks().get(1), events::add);
+        assertEquals(List.of("{\"id\":\"2\"}", "{\"id\":\"3\"}"), events);
+    }
+
+    @Test
+    void GIVEN_no_source_objects_WHEN_compact_THEN_write_nothing() {
+        when(s3Util.streamObjects(PREFIX)).thenReturn(Stream.empty());
+
+        assertTrue(eventArchive.compact(PREFIX, executor).isEmpty());
+        verify(s3Util, never()).putObject(anyString(), any(Path.class), anyString());
+        verify(s3Util, never()).putObject(anyString(), any(byte[].class), anyString());
+    }
+
+    @Test
+    void GIVEN_archive_index_THEN_readIndex_returns_it() throws Exception {
+        EventArchiveIndex stored = new EventArchiveIndex();
+        stored.setPrefix(PREFIX);
+        stored.setLastModified("2024-09-23T10:00:04Z");
+        stored.getBlocks().add(new EventArchiveIndex.Block(0, 42, 2));
+        when(s3Util.getObjectInputStreamIfExists(EventArchive.indexKey(PREFIX))).thenReturn(Optional.of(
+                new ResponseInputStream<>(mock(GetObjectResponse.class), new ByteArrayInputStream(mapper.writeValueAsBytes(stored)))));
+
+        assertEquals(Optional.of(stored), eventArchive.readIndex(PREFIX));
+    }
+
+    @Test
+    void GIVEN_no_archive_THEN_readIndex_returns_empty() {
+        when(s3Util.getObjectInputStreamIfExists(anyString())).thenReturn(Optional.empty());
+
+        assertTrue(eventArchive.readIndex(PREFIX).isEmpty());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HttpContentCacheTest {
+    private static final String LAST_MODIFIED = "Wed, 12 Jun 2024 08:00:00 GMT";
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    // Stub server state: file body by path, the validators it sends, the status it fails with, and the requests it served
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private volatile boolean sendEtag = true;
+    private volatile int failureStatus = 0;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::serveFile);
+        server.start();
+        // A single pooled connection: a response that is not released makes the next request time out
+        httpClient = HttpClients.custom()
+                .setMaxConnTotal(1)
+                .setMaxConnPerRoute(1)
+                .setDefaultRequestConfig(RequestConfig.custom().setConnectionRequestTimeout(2000).build())
+                .build();
+        files.put("/OpenSearch/main/buildSrc/version.properties", "opensearch        = 3.0.0\n");
+        files.put("/OpenSearch-Dashboards/main/package.json", "{\"version\": \"3.0.0\"}\n");
+        files.put("/opensearch-dashboards-functional-test/main/package.json", "{\"version\": \"3.0.0\"}\n");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void testGetRevalidatesWithEtag() throws IOException {
+        HttpContentCache httpContentCache = new HttpContentCache(httpClient, 8);
+
+        assertEquals("opensearch        = 3.0.0\n", httpContentCache.get(url("/OpenSearch/main/buildSrc/version.properties")));
+        assertEquals("opensearch        = 3.0.0\n", httpContentCache.get(url("/OpenSearch/main/buildSrc/version.properties")));
+        assertEquals(1, fullResponses.get());
+        assertEquals(1, notModifiedResponses.get());
+
+        files.put("/OpenSearch/main/buildSrc/version.properties", "opensearch        = 3.1.0\n");
+        assertEquals("opensearch        = 3.1.0\n", httpContentCache.get(url("/OpenSearch/main/buildSrc/version.properties")));
+        assertEquals(2, fullResponses.get());
+    }
+
+    @Test
+    void testGetRevalidatesWithLastModified() throws IOException {
+        sendEtag = false;
+        HttpContentCache httpContentCache = new HttpContentCache(httpClient, 8);
+
+        httpContentCache.get(url("/OpenSearch-Dashboards/main/package.json"));
+        assertEquals("{\"version\": \"3.0.0\"}\n", httpContentCache.get(url("/OpenSearch-Dashboards/main/package.json")));
+        assertEquals(1, fullResponses.get());
+        assertEquals(1, notModifiedResponses.get());
+    }
+
+    @Test
+    void testGetEvictsLeastRecentlyUsed() throws IOException {
+        HttpContentCache httpContentCache = new HttpContentCache(httpClient, 2);
+
+        httpContentCache.get(url("/OpenSearch/main/buildSrc/version.properties"));
+        httpContentCache.get(url("/OpenSearch-Dashboards/main/package.json"));
+        httpContentCache.get(url("/OpenSearch/main/buildSrc/version.properties"));
+        // Evicts OpenSearch-Dashboards, the least recently used
+        httpContentCache.get(url("/opensearch-dashboards-functional-test/main/package.json"));
+        assertEquals(3, fullResponses.get());
+        assertEquals(1, notModifiedResponses.get());
+
+        httpContentCache.get(url("/OpenSearch/main/buildSrc/version.properties"));
+        httpContentCache.get(url("/OpenSearch-Dashboards/main/package.json"));
+        assertEquals(4, fullResponses.get());
+        assertEquals(2, notModifiedResponses.get());
+    }
+
+    @Test
+    void testGetContentRevalidatesKnownEtag() throws IOException {
+        HttpContentCache httpContentCache = new HttpContentCache(httpClient, 8);
+        String etag = "\"" + "opensearch        = 3.0.0\n".hashCode() + "\"";
+
+        // The caller's own copy is current: a 304, and no body
+        HttpContentCache.Content content = httpContentCache.getContent(url("/OpenSearch/main/buildSrc/version.properties"), etag);
+        assertEquals(etag, content.getEtag());
+        assertNull(content.getBody());
+        assertEquals(0, fullResponses.get());
+        assertEquals(1, notModifiedResponses.get());
+
+        // The caller's copy is stale: the new body and its ETag
+        content = httpContentCache.getContent(url("/OpenSearch/main/buildSrc/version.properties"), "\"stale\"");
+        assertEquals("opensearch        = 3.0.0\n", content.getBody());
+        assertEquals(etag, content.getEtag());
+        assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    void testGetNotFound() throws IOException {
+        HttpContentCache httpContentCache = new HttpContentCache(httpClient, 8);
+
+        httpContentCache.get(url("/OpenSearch/main/buildSrc/version.properties"));
+        files.clear();
+
+        // Every response, 404s included, releases its connection back to the single-connection pool
+        for (int i = 0; i < 3; i++) {
+            assertThrows(FileNotFoundException.class, () -> httpContentCache.get(url("/OpenSearch/main/buildSrc/version.properties")));
+        }
+        assertThrows(FileNotFoundException.class, () -> httpContentCache.get(url("/OpenSearch-Dashboards/main/package.json")));
+    }
+
+    @Test
+    void testGetFallsBackToCachedBody() throws IOException {
+        HttpContentCache httpContentCache = new HttpContentCache(httpClient, 8);
+
+        httpContentCache.get(url("/OpenSearch/main/buildSrc/version.properties"));
+        failureStatus = 503;
+
+        assertEquals("opensearch        = 3.0.0\n", httpContentCache.get(url("/OpenSearch/main/buildSrc/version.properties")));
+        assertThrows(IOException.class, () -> httpContentCache.get(url("/OpenSearch-Dashboards/main/package.json")));
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private void serveFile(HttpExchange exchange) throws IOException {
+        String file = files.get(exchange.getRequestURI().getPath());
+        if (failureStatus != 0 || file == null) {
+            exchange.sendResponseHeaders(failureStatus != 0 ? failureStatus : 404, -1);
+            exchange.close();
+            return;
+        }
+        String etag = "\"" + file.hashCode() + "\"";
+        if (sendEtag) {
+            exchange.getResponseHeaders().set("ETag", etag);
+        } else {
+            exchange.getResponseHeaders().set("Last-Modified", LAST_MODIFIED);
+        }
+        boolean notModified = sendEtag
+                ? etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))
+                : LAST_MODIFIED.equals(exchange.getRequestHeaders().getFirst("If-Modified-Since"));
+        if (notModified) {
+            notModifiedResponses.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        fullResponses.incrementAndGet();
+        byte[] body = file.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
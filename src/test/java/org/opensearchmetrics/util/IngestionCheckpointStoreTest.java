@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearchmetrics.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearchmetrics.model.event.IngestionCheckpoint;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IngestionCheckpointStoreTest {
+    @Mock
+    private OpenSearchUtil openSearchUtil;
+
+    private IngestionCheckpointStore checkpointStore;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(openSearchUtil.bulkIndex(anyString(), anyMap())).thenReturn(new BulkIndexResult(1, 0, 0));
+        checkpointStore = new IngestionCheckpointStore(openSearchUtil, new ObjectMapper());
+    }
+
+    @Test
+    void GIVEN_stored_checkpoint_THEN_load_it() {
+        when(openSearchUtil.getDocument(IngestionCheckpointStore.CHECKPOINT_INDEX, "issues.opened/2024-09-23/"))
+                .thenReturn(Optional.of(Map.of(
+                        "last_key", "issues.opened/2024-09-23/event-1.json",
+                        "last_modified", "2024-09-23T20:14:08Z")));
+
+        IngestionCheckpoint checkpoint = checkpointStore.load("issues.opened/2024-09-23/").orElseThrow();
+
+        assertEquals("issues.opened/2024-09-23/", checkpoint.getPrefix());
+        assertEquals("issues.opened/2024-09-23/event-1.json", checkpoint.getLastKey());
+        assertEquals("2024-09-23T20:14:08Z", checkpoint.getLastModified());
+    }
+
+    @Test
+    void GIVEN_no_checkpoint_THEN_load_empty() {
+        when(openSearchUtil.getDocument(anyString(), anyString())).thenReturn(Optional.empty());
+
+        assertTrue(checkpointStore.load("issues.opened/2024-09-23/").isEmpty());
+    }
+
+    @Test
+    void WHEN_save_THEN_index_one_document_per_prefix() {
+        IngestionCheckpoint checkpoint = new IngestionCheckpoint();
+        checkpoint.setPrefix("issues.opened/2024-09-23/");
+        checkpoint.setLastModified("2024-09-23T20:14:08Z");
+
+        checkpointStore.save(List.of(checkpoint));
+
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(openSearchUtil).bulkIndex(eq(IngestionCheckpointStore.CHECKPOINT_INDEX), captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertTrue(captor.getValue().get("issues.opened/2024-09-23/").contains("\"last_modified\":\"2024-09-23T20:14:08Z\""));
+    }
+
+    @Test
+    void GIVEN_checkpoint_dropped_WHEN_save_THEN_throw() {
+        IngestionCheckpoint checkpoint = new IngestionCheckpoint();
+        checkpoint.setPrefix("issues.opened/2024-09-23/");
+        checkpoint.setLastModified("2024-09-23T20:14:08Z");
+        when(openSearchUtil.bulkIndex(anyString(), anyMap())).thenReturn(new BulkIndexResult(0, 5, 1));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> checkpointStore.save(List.of(checkpoint)));
+        assertTrue(exception.getMessage().contains(IngestionCheckpointStore.CHECKPOINT_INDEX));
+    }
+
+    @Test
+    void WHEN_save_nothing_THEN_skip_bulk_request() {
+        checkpointStore.save(List.of());
+
+        verify(openSearchUtil, never()).bulkIndex(anyString(), anyMap());
+    }
+}
@@ -10,11 +10,21 @@ package org.opensearchmetrics.util;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.master.AcknowledgedResponse;
 import org.opensearch.client.IndicesClient;
 import org.opensearch.client.RequestOptions;
@@ -22,16 +32,25 @@ import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.CreateIndexResponse;
 import org.opensearch.client.indices.GetIndexRequest;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearchmetrics.model.general.MetricsData;
 import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
 
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -95,6 +114,25 @@ public class OpenSearchUtilTest {
         }
     }
 
+    @Test
+    void GIVEN_existing_document_THEN_getDocument_returns_source() throws IOException {
+        GetResponse response = mock(GetResponse.class);
+        when(response.isExists()).thenReturn(true);
+        when(response.getSourceAsMap()).thenReturn(Map.of("field", "value"));
+        when(client.get(any(GetRequest.class), any(RequestOptions.class))).thenReturn(response);
+
+        assertEquals(Optional.of(Map.of("field", "value")), openSearchUtil.getDocument("some_index", "doc_id"));
+    }
+
+    @Test
+    void GIVEN_missing_document_THEN_getDocument_returns_empty() throws IOException {
+        GetResponse response = mock(GetResponse.class);
+        when(response.isExists()).thenReturn(false);
+        when(client.get(any(GetRequest.class), any(RequestOptions.class))).thenReturn(response);
+
+        assertEquals(Optional.empty(), openSearchUtil.getDocument("some_index", "doc_id"));
+    }
+
     @Test
     void GIVEN_index_AND_data_THEN_bulkIndex() throws Exception {
         BulkResponse mockResponse = Mockito.mock(BulkResponse.class);
@@ -104,9 +142,143 @@ public class OpenSearchUtilTest {
         verify(client, times(1)).bulk(Mockito.any(), Mockito.any());
     }
 
+    @Test
+    void GIVEN_index_AND_documents_THEN_bulkIndexDocuments() throws Exception {
+        BulkResponse mockResponse = Mockito.mock(BulkResponse.class);
+        when(client.bulk(Mockito.any(BulkRequest.class), Mockito.any())).thenReturn(mockResponse);
+        MetricsData metricsData = new MetricsData();
+        metricsData.setId("doc_id");
+        openSearchUtil.bulkIndexDocuments("some_index", Map.of("doc_id", metricsData));
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(1)).bulk(captor.capture(), Mockito.any());
+        assertEquals("{\"id\":\"doc_id\"}", ((IndexRequest) captor.getValue().requests().get(0)).source().utf8ToString());
+    }
+
+    @Test
+    void GIVEN_index_AND_large_data_THEN_bulkIndex_in_batches() throws Exception {
+        BulkResponse mockResponse = Mockito.mock(BulkResponse.class);
+        when(client.bulk(Mockito.any(BulkRequest.class), Mockito.any())).thenReturn(mockResponse);
+        Map<String, String> jsonMap = new HashMap<>();
+        for (int i = 0; i < 450; i++) {
+            jsonMap.put("doc_id_" + i, "json_data");
+        }
+        openSearchUtil.bulkIndex("some_index", jsonMap);
+
+        // 200 documents per bulk request
+        verify(client, times(3)).bulk(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void GIVEN_retry_budget_exhausted_by_one_bulkIndex_THEN_next_bulkIndex_still_retries() throws Exception {
+        OpenSearchUtil budgetedOpenSearchUtil = new OpenSearchUtil(client, 10, 1);
+        BulkItemResponse rejected = new BulkItemResponse(0, DocWriteRequest.OpType.INDEX,
+                new BulkItemResponse.Failure("some_index", "doc_id", new Exception("rejected"), RestStatus.TOO_MANY_REQUESTS));
+        BulkItemResponse indexed = mock(BulkItemResponse.class);
+        when(client.bulk(Mockito.any(BulkRequest.class), Mockito.any()))
+                .thenReturn(new BulkResponse(new BulkItemResponse[]{rejected}, 1L))
+                .thenReturn(new BulkResponse(new BulkItemResponse[]{rejected}, 1L))
+                .thenReturn(new BulkResponse(new BulkItemResponse[]{indexed}, 1L));
+
+        // The only retry of the budget is spent, and the document given up on, within the first call
+        assertEquals(new BulkIndexResult(0, 1, 1), budgetedOpenSearchUtil.bulkIndex("some_index", Map.of("doc_id", "{}")));
+        BulkIndexResult result = budgetedOpenSearchUtil.bulkIndex("some_index", Map.of("doc_id", "{}"));
+
+        assertEquals(new BulkIndexResult(1, 1, 0), result);
+    }
+
     @Test
     void GIVEN_index_AND_empty_data_THEN_no_bulkIndex() throws Exception {
         openSearchUtil.bulkIndex("some_index", Map.of());
         verify(client, times(0)).bulk(Mockito.any(), Mockito.any());
     }
+
+    @Test
+    void GIVEN_multiSearchRequest_THEN_single_msearch_call() throws Exception {
+        MultiSearchResponse mockResponse = Mockito.mock(MultiSearchResponse.class);
+        when(client.msearch(any(MultiSearchRequest.class), any(RequestOptions.class))).thenReturn(mockResponse);
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        multiSearchRequest.add(new SearchRequest("github_issues"));
+        multiSearchRequest.add(new SearchRequest("github_pulls"));
+
+        assertEquals(mockResponse, openSearchUtil.multiSearch(multiSearchRequest));
+        verify(client, times(1)).msearch(eq(multiSearchRequest), any(RequestOptions.class));
+    }
+
+    @Test
+    void GIVEN_multiSearchRequest_WHEN_io_error_THEN_throw_RuntimeException() throws Exception {
+        when(client.msearch(any(MultiSearchRequest.class), any(RequestOptions.class))).thenThrow(new IOException("connection reset"));
+        assertThrows(RuntimeException.class, () -> openSearchUtil.multiSearch(new MultiSearchRequest()));
+    }
+
+    @Test
+    void GIVEN_searchRequest_THEN_searchAsync_completes_with_response() {
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(client).searchAsync(any(SearchRequest.class), any(RequestOptions.class), any());
+
+        CompletableFuture<SearchResponse> future = openSearchUtil.searchAsync(new SearchRequest("some_index"));
+
+        assertEquals(searchResponse, future.join());
+    }
+
+    @Test
+    void GIVEN_searchAsync_completes_THEN_dependent_stages_do_not_run_on_the_listener_thread() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            Thread reactor = new Thread(() -> listener.onResponse(mock(SearchResponse.class)), "io-reactor");
+            reactor.start();
+            return null;
+        }).when(client).searchAsync(any(SearchRequest.class), any(RequestOptions.class), any());
+
+        String stageThread = openSearchUtil.searchAsync(new SearchRequest("some_index"))
+                .thenApply(response -> Thread.currentThread().getName())
+                .join();
+
+        assertTrue(stageThread.startsWith("opensearch-async-"), stageThread);
+    }
+
+    @Test
+    void GIVEN_bulkRequest_WHEN_bulkAsync_fails_THEN_complete_exceptionally_AND_release_permit() {
+        OpenSearchUtil cappedOpenSearchUtil = new OpenSearchUtil(client, 1);
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new IOException("connection reset"));
+            return null;
+        }).when(client).bulkAsync(any(BulkRequest.class), any(RequestOptions.class), any());
+
+        CompletableFuture<BulkResponse> first = cappedOpenSearchUtil.bulkAsync(new BulkRequest());
+        CompletableFuture<BulkResponse> second = cappedOpenSearchUtil.bulkAsync(new BulkRequest());
+
+        assertThrows(CompletionException.class, first::join);
+        assertThrows(CompletionException.class, second::join);
+        verify(client, times(2)).bulkAsync(any(BulkRequest.class), any(RequestOptions.class), any());
+    }
+
+    @Test
+    void GIVEN_in_flight_cap_reached_THEN_searchAsync_waits_for_a_completion() {
+        OpenSearchUtil cappedOpenSearchUtil = new OpenSearchUtil(client, 1);
+        AtomicReference<ActionListener<SearchResponse>> pending = new AtomicReference<>();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            if (!pending.compareAndSet(null, listener)) {
+                listener.onResponse(mock(SearchResponse.class));
+            }
+            return null;
+        }).when(client).searchAsync(any(SearchRequest.class), any(RequestOptions.class), any());
+
+        CompletableFuture<SearchResponse> first = cappedOpenSearchUtil.searchAsync(new SearchRequest("some_index"));
+        CompletableFuture<CompletableFuture<SearchResponse>> second =
+                CompletableFuture.supplyAsync(() -> cappedOpenSearchUtil.searchAsync(new SearchRequest("some_index")));
+
+        // the second search is held back until the first one completes
+        verify(client, after(200).times(1)).searchAsync(any(SearchRequest.class), any(RequestOptions.class), any());
+        pending.get().onResponse(mock(SearchResponse.class));
+        verify(client, timeout(1000).times(2)).searchAsync(any(SearchRequest.class), any(RequestOptions.class), any());
+        first.join();
+        second.join().join();
+    }
 }
@@ -10,15 +10,19 @@ package org.opensearchmetrics.util;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -70,6 +74,42 @@ public class S3UtilTest {
         assertInstanceOf(S3Exception.class, exception.getCause());
     }
 
+    @Test
+    public void WHEN_getObjectRangeInputStream_THEN_request_byte_range() {
+        // Arrange
+        ResponseInputStream<GetObjectResponse> mockInputStream = mock(ResponseInputStream.class);
+        when(mockS3Client.getObject(any(GetObjectRequest.class))).thenReturn(mockInputStream);
+
+        // Act
+        ResponseInputStream<GetObjectResponse> inputStream = s3Util.getObjectRangeInputStream("test_object_key", 100, 50);
+
+        // Assert
+        assertEquals(mockInputStream, inputStream);
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(mockS3Client).getObject(captor.capture());
+        assertEquals("bytes=100-149", captor.getValue().range());
+    }
+
+    @Test
+    public void WHEN_getObjectInputStreamIfExists_missing_key_THEN_return_empty() {
+        when(mockS3Client.getObject(any(GetObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+
+        assertTrue(s3Util.getObjectInputStreamIfExists("test_object_key").isEmpty());
+    }
+
+    @Test
+    public void WHEN_putObject_THEN_put_to_bucket() {
+        // Act
+        s3Util.putObject("test_object_key", "{}".getBytes(), "application/json");
+
+        // Assert
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(mockS3Client).putObject(captor.capture(), any(RequestBody.class));
+        assertEquals("test_bucket_name", captor.getValue().bucket());
+        assertEquals("test_object_key", captor.getValue().key());
+        assertEquals("application/json", captor.getValue().contentType());
+    }
+
     @Test
     public void WHEN_listObjectKeys_THEN_return_ListObjectKeys() {
         // Arrange
@@ -110,4 +150,60 @@ public class S3UtilTest {
         assertInstanceOf(S3Exception.class, exception.getCause());
     }
 
+    @Test
+    public void WHEN_streamObjects_THEN_list_next_page_only_when_consumed() {
+        // Arrange
+        ListObjectsV2Response firstPage = ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("testPrefix/file1.txt").build())
+                .build();
+        ListObjectsV2Response secondPage = ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("testPrefix/file2.txt").build())
+                .build();
+        AtomicInteger listedPages = new AtomicInteger();
+        ListObjectsV2Iterable listObjectsV2Iterable = mock(ListObjectsV2Iterable.class);
+        when(listObjectsV2Iterable.stream()).thenReturn(Stream.of(firstPage, secondPage).peek(page -> listedPages.incrementAndGet()));
+        when(mockS3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .thenReturn(listObjectsV2Iterable);
+
+        // Act
+        Iterator<String> keys = s3Util.streamObjects("testPrefix/").map(S3Object::key).iterator();
+
+        // Assert
+        assertEquals("testPrefix/file1.txt", keys.next());
+        assertEquals(1, listedPages.get());
+        assertEquals("testPrefix/file2.txt", keys.next());
+        assertEquals(2, listedPages.get());
+        assertFalse(keys.hasNext());
+    }
+
+    @Test
+    public void WHEN_streamObjectsS3Exception_on_later_page_THEN_throw_Exception() {
+        // Arrange
+        S3Exception mockException = mock(S3Exception.class);
+        AwsErrorDetails mockAwsErrorDetails = mock(AwsErrorDetails.class);
+        when(mockException.awsErrorDetails()).thenReturn(mockAwsErrorDetails);
+        when(mockAwsErrorDetails.errorMessage()).thenReturn("Test Error Message");
+        ListObjectsV2Response firstPage = ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("testPrefix/file1.txt").build())
+                .build();
+        ListObjectsV2Response secondPage = ListObjectsV2Response.builder().build();
+        ListObjectsV2Iterable listObjectsV2Iterable = mock(ListObjectsV2Iterable.class);
+        when(listObjectsV2Iterable.stream()).thenReturn(Stream.of(firstPage, secondPage).map(page -> {
+            if (page == secondPage) {
+                throw mockException;
+            }
+            return page;
+        }));
+        when(mockS3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .thenReturn(listObjectsV2Iterable);
+
+        // Act
+        Iterator<String> keys = s3Util.streamObjects("testPrefix/").map(S3Object::key).iterator();
+
+        // Assert
+        assertEquals("testPrefix/file1.txt", keys.next());
+        RuntimeException exception = assertThrows(RuntimeException.class, keys::hasNext);
+        assertEquals("Failed to list object keys from S3", exception.getMessage());
+        assertInstanceOf(S3Exception.class, exception.getCause());
+    }
 }